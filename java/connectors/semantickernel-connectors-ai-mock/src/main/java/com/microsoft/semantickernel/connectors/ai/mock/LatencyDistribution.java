@@ -0,0 +1,93 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.connectors.ai.mock;
+
+import java.time.Duration;
+import java.util.Random;
+
+/** Distribution from which the simulated latency of a mock AI request is drawn. */
+public interface LatencyDistribution {
+
+    /**
+     * Draw the next latency from the distribution.
+     *
+     * @param random Source of randomness, seeded by the mock service for reproducibility
+     * @return The latency, never negative
+     */
+    Duration next(Random random);
+
+    /**
+     * No latency, requests complete immediately.
+     *
+     * @return Distribution that always returns {@link Duration#ZERO}
+     */
+    static LatencyDistribution none() {
+        return random -> Duration.ZERO;
+    }
+
+    /**
+     * Constant latency.
+     *
+     * @param latency The latency of every request
+     * @return Distribution that always returns the given latency
+     */
+    static LatencyDistribution fixed(Duration latency) {
+        requireNonNegative(latency);
+        return random -> latency;
+    }
+
+    /**
+     * Latency uniformly distributed between a minimum and a maximum.
+     *
+     * @param min Minimum latency, inclusive
+     * @param max Maximum latency, exclusive
+     * @return Uniform distribution
+     */
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        requireNonNegative(min);
+        if (max.compareTo(min) < 0) {
+            throw new IllegalArgumentException("Maximum latency must not be less than minimum");
+        }
+        long minNanos = min.toNanos();
+        long range = max.toNanos() - minNanos;
+        return random ->
+                Duration.ofNanos(
+                        minNanos + (range == 0 ? 0 : (long) (random.nextDouble() * range)));
+    }
+
+    /**
+     * Normally distributed latency, truncated at zero.
+     *
+     * @param mean Mean latency
+     * @param standardDeviation Standard deviation of the latency
+     * @return Normal distribution
+     */
+    static LatencyDistribution normal(Duration mean, Duration standardDeviation) {
+        requireNonNegative(mean);
+        requireNonNegative(standardDeviation);
+        long meanNanos = mean.toNanos();
+        long stdNanos = standardDeviation.toNanos();
+        return random ->
+                Duration.ofNanos(
+                        Math.max(0, meanNanos + (long) (random.nextGaussian() * stdNanos)));
+    }
+
+    /**
+     * Exponentially distributed latency, a long tailed distribution that is useful to simulate
+     * occasional slow requests.
+     *
+     * @param mean Mean latency
+     * @return Exponential distribution
+     */
+    static LatencyDistribution exponential(Duration mean) {
+        requireNonNegative(mean);
+        long meanNanos = mean.toNanos();
+        return random ->
+                Duration.ofNanos((long) (-Math.log(1.0 - random.nextDouble()) * meanNanos));
+    }
+
+    static void requireNonNegative(Duration duration) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("Latency must not be negative");
+        }
+    }
+}
@@ -0,0 +1,473 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.connectors.ai.mock;
+
+import com.azure.ai.openai.models.ChatCompletions;
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.microsoft.semantickernel.ai.embeddings.Embedding;
+import com.microsoft.semantickernel.ai.embeddings.TextEmbeddingGeneration;
+import com.microsoft.semantickernel.chatcompletion.ChatCompletion;
+import com.microsoft.semantickernel.chatcompletion.ChatHistory;
+import com.microsoft.semantickernel.chatcompletion.ChatRequestSettings;
+import com.microsoft.semantickernel.exceptions.NotSupportedException;
+import com.microsoft.semantickernel.exceptions.NotSupportedException.ErrorCodes;
+import com.microsoft.semantickernel.textcompletion.CompletionRequestSettings;
+import com.microsoft.semantickernel.textcompletion.CompletionType;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Deterministic, local AI service that can stand in for a remote model in tests and benchmarks.
+ *
+ * <p>The service implements text completion, chat completion and text embedding generation, so a
+ * single instance registered with {@code Kernel.Builder.withDefaultAIService(instance)} serves all
+ * three. Latency, streaming cadence and failures are simulated with a seeded source of randomness:
+ * the same configuration and sequence of requests always produces the same results.
+ */
+public class MockAIService implements ChatCompletion<ChatHistory>, TextEmbeddingGeneration {
+
+    private static final String DEFAULT_MODEL_ID = "mock-model";
+
+    private final String modelId;
+    private final Function<String, String> responder;
+    private final LatencyDistribution latency;
+    private final Duration tokenInterval;
+    private final double errorRate;
+    private final double throttlingRate;
+    private final Duration retryAfter;
+    private final int embeddingDimension;
+    private final long seed;
+    private final CompletionType defaultCompletionType;
+    private final AtomicLong requestCount = new AtomicLong();
+
+    protected MockAIService(
+            String modelId,
+            Function<String, String> responder,
+            LatencyDistribution latency,
+            Duration tokenInterval,
+            double errorRate,
+            double throttlingRate,
+            Duration retryAfter,
+            int embeddingDimension,
+            long seed,
+            CompletionType defaultCompletionType) {
+        this.modelId = modelId;
+        this.responder = responder;
+        this.latency = latency;
+        this.tokenInterval = tokenInterval;
+        this.errorRate = errorRate;
+        this.throttlingRate = throttlingRate;
+        this.retryAfter = retryAfter;
+        this.embeddingDimension = embeddingDimension;
+        this.seed = seed;
+        this.defaultCompletionType = defaultCompletionType;
+    }
+
+    /**
+     * Get the model id reported by this service
+     *
+     * @return The model id
+     */
+    public String getModelId() {
+        return modelId;
+    }
+
+    /**
+     * Get the number of requests that have been made to this service, including failed ones
+     *
+     * @return Number of requests
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public Mono<List<String>> completeAsync(
+            @Nonnull String text, @Nonnull CompletionRequestSettings requestSettings) {
+        return request(() -> complete(text, requestSettings)).map(Collections::singletonList);
+    }
+
+    @Override
+    public Mono<List<String>> completeBatchAsync(
+            @Nonnull List<String> prompts, @Nonnull CompletionRequestSettings requestSettings) {
+        // A batch is a single request, as with a remote service accepting several prompts
+        return request(
+                () ->
+                        prompts.stream()
+                                .map(prompt -> complete(prompt, requestSettings))
+                                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Flux<String> completeStreamAsync(
+            @Nonnull String text, @Nonnull CompletionRequestSettings requestSettings) {
+        return completeStreamDeltasAsync(text, requestSettings).reduce("", String::concat).flux();
+    }
+
+    @Override
+    public Flux<String> completeStreamDeltasAsync(
+            @Nonnull String text, @Nonnull CompletionRequestSettings requestSettings) {
+        return request(() -> tokenize(complete(text, requestSettings)))
+                .flatMapMany(
+                        tokens -> {
+                            Flux<String> deltas = Flux.fromIterable(tokens);
+                            if (tokenInterval.isZero()) {
+                                return deltas;
+                            }
+                            return deltas.delayElements(tokenInterval);
+                        });
+    }
+
+    @Override
+    public CompletionType defaultCompletionType() {
+        return defaultCompletionType;
+    }
+
+    @Override
+    public Mono<String> generateMessageAsync(
+            ChatHistory chat, @Nullable ChatRequestSettings requestSettings) {
+        return completeAsync(toPrompt(chat), settingsOrDefault(requestSettings))
+                .map(completions -> completions.get(0));
+    }
+
+    @Override
+    public ChatHistory createNewChat(@Nullable String instructions) {
+        ChatHistory chat = new ChatHistory();
+        if (instructions != null) {
+            chat.addMessage(ChatHistory.AuthorRoles.System, instructions);
+        }
+        return chat;
+    }
+
+    @Override
+    public Flux<String> generateMessageStream(
+            ChatHistory chatHistory, @Nullable ChatRequestSettings requestSettings) {
+        return completeStreamAsync(toPrompt(chatHistory), settingsOrDefault(requestSettings));
+    }
+
+    @Override
+    public Flux<String> generateMessageDeltaStream(
+            ChatHistory chatHistory, @Nullable ChatRequestSettings requestSettings) {
+        return completeStreamDeltasAsync(toPrompt(chatHistory), settingsOrDefault(requestSettings));
+    }
+
+    @Override
+    public Flux<ChatCompletions> getStreamingChatCompletionsAsync(
+            ChatHistory chat, ChatRequestSettings requestSettings) {
+        return Flux.error(
+                new NotSupportedException(
+                        ErrorCodes.NOT_SUPPORTED,
+                        "The mock service does not produce OpenAI chat completion models, use"
+                                + " generateMessageDeltaStream instead"));
+    }
+
+    @Override
+    public Mono<List<Embedding>> generateEmbeddingsAsync(List<String> data) {
+        return request(
+                () ->
+                        data.stream()
+                                .map(text -> new Embedding(embed(text, embeddingDimension)))
+                                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Simulates a single request: decides whether it fails, then delays the result by a latency
+     * drawn from the configured distribution.
+     */
+    private <T> Mono<T> request(Supplier<T> result) {
+        return Mono.defer(
+                () -> {
+                    // Seeding with the request sequence number keeps runs reproducible
+                    Random random = new Random(seed * 31 + requestCount.getAndIncrement());
+
+                    double draw = random.nextDouble();
+                    Duration delay = latency.next(random);
+
+                    Mono<T> response;
+                    if (draw < throttlingRate) {
+                        response = Mono.error(throttled());
+                    } else if (draw < throttlingRate + errorRate) {
+                        response = Mono.error(serverError());
+                    } else {
+                        response = Mono.fromCallable(result::get);
+                    }
+
+                    if (delay.isZero()) {
+                        return response;
+                    }
+                    return Mono.delay(delay).then(response);
+                });
+    }
+
+    private String complete(String prompt, CompletionRequestSettings requestSettings) {
+        String response = responder.apply(prompt);
+
+        List<String> tokens = tokenize(response);
+        int maxTokens = requestSettings.getMaxTokens();
+        if (maxTokens > 0 && tokens.size() > maxTokens) {
+            return String.join("", tokens.subList(0, maxTokens));
+        }
+        return response;
+    }
+
+    private HttpResponseException throttled() {
+        HttpHeaders headers =
+                new HttpHeaders()
+                        .set(
+                                HttpHeaderName.RETRY_AFTER,
+                                String.valueOf(Math.max(1, retryAfter.getSeconds())))
+                        .set(
+                                HttpHeaderName.fromString("retry-after-ms"),
+                                String.valueOf(retryAfter.toMillis()));
+        return new HttpResponseException(
+                "Rate limit reached for requests",
+                new MockHttpResponse(429, headers, "{\"error\":{\"code\":\"429\"}}"));
+    }
+
+    private static HttpResponseException serverError() {
+        return new HttpResponseException(
+                "The server had an error while processing your request",
+                new MockHttpResponse(500, new HttpHeaders(), "{\"error\":{\"code\":\"500\"}}"));
+    }
+
+    private static ChatRequestSettings settingsOrDefault(
+            @Nullable ChatRequestSettings requestSettings) {
+        if (requestSettings == null) {
+            return new ChatRequestSettings();
+        }
+        return requestSettings;
+    }
+
+    private static String toPrompt(ChatHistory chat) {
+        return chat.getMessages().stream()
+                .map(ChatHistory.Message::getContent)
+                .collect(Collectors.joining("\n"));
+    }
+
+    /** Splits text into tokens, each word keeps its trailing whitespace. */
+    static List<String> tokenize(String text) {
+        if (text.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(text.split("(?<=\\s)(?=\\S)"));
+    }
+
+    /**
+     * Hashes each word of the text into one of the dimensions of the vector, then normalizes it.
+     * Texts sharing words have a high cosine similarity, identical texts have identical embeddings.
+     */
+    static float[] embed(String text, int dimension) {
+        float[] vector = new float[dimension];
+        for (String word : text.toLowerCase(Locale.ROOT).split("\\W+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            long hash = fnv1a(word);
+            int index = (int) ((hash >>> 1) % dimension);
+            vector[index] += (hash & 1) == 0 ? 1f : -1f;
+        }
+
+        double length = 0;
+        for (float value : vector) {
+            length += value * value;
+        }
+        length = Math.sqrt(length);
+
+        if (length > 0) {
+            for (int i = 0; i < dimension; i++) {
+                vector[i] = (float) (vector[i] / length);
+            }
+        }
+        return vector;
+    }
+
+    private static long fnv1a(String word) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < word.length(); i++) {
+            hash ^= word.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /** Builder for a {@link MockAIService} */
+    public static class Builder {
+
+        private String modelId = DEFAULT_MODEL_ID;
+        private Function<String, String> responder = Function.identity();
+        private LatencyDistribution latency = LatencyDistribution.none();
+        private Duration tokenInterval = Duration.ZERO;
+        private double errorRate = 0;
+        private double throttlingRate = 0;
+        private Duration retryAfter = Duration.ofSeconds(1);
+        private int embeddingDimension = 1536;
+        private long seed = 0;
+        private CompletionType defaultCompletionType = CompletionType.STREAMING;
+
+        /**
+         * Set the model id reported by the service
+         *
+         * @param modelId Model id
+         * @return Builder
+         */
+        public Builder withModelId(String modelId) {
+            this.modelId = modelId;
+            return this;
+        }
+
+        /**
+         * Always respond with the given text
+         *
+         * @param response Response to every completion request
+         * @return Builder
+         */
+        public Builder withResponse(String response) {
+            this.responder = prompt -> response;
+            return this;
+        }
+
+        /**
+         * Compute the response from the prompt. By default, the prompt is echoed back.
+         *
+         * @param responder Function from prompt to response, must be deterministic
+         * @return Builder
+         */
+        public Builder withResponder(Function<String, String> responder) {
+            this.responder = responder;
+            return this;
+        }
+
+        /**
+         * Set the distribution of the time to the first token, or to the full response for
+         * non-streaming requests. Defaults to no latency.
+         *
+         * @param latency Latency distribution
+         * @return Builder
+         */
+        public Builder withLatency(LatencyDistribution latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        /**
+         * Set the delay between two tokens of a streamed response. Defaults to no delay.
+         *
+         * @param tokenInterval Delay between tokens
+         * @return Builder
+         */
+        public Builder withTokenInterval(Duration tokenInterval) {
+            LatencyDistribution.requireNonNegative(tokenInterval);
+            this.tokenInterval = tokenInterval;
+            return this;
+        }
+
+        /**
+         * Set the fraction of requests that fail with an HTTP 500 error.
+         *
+         * @param errorRate Fraction between 0 and 1
+         * @return Builder
+         */
+        public Builder withErrorRate(double errorRate) {
+            this.errorRate = requireRate(errorRate);
+            return this;
+        }
+
+        /**
+         * Set the fraction of requests that are rejected with an HTTP 429 error.
+         *
+         * @param throttlingRate Fraction between 0 and 1
+         * @return Builder
+         */
+        public Builder withThrottlingRate(double throttlingRate) {
+            this.throttlingRate = requireRate(throttlingRate);
+            return this;
+        }
+
+        /**
+         * Set the delay advertised in the Retry-After header of throttled requests. Defaults to one
+         * second.
+         *
+         * @param retryAfter Advertised delay
+         * @return Builder
+         */
+        public Builder withRetryAfter(Duration retryAfter) {
+            LatencyDistribution.requireNonNegative(retryAfter);
+            this.retryAfter = retryAfter;
+            return this;
+        }
+
+        /**
+         * Set the dimension of generated embeddings. Defaults to 1536.
+         *
+         * @param embeddingDimension Number of dimensions
+         * @return Builder
+         */
+        public Builder withEmbeddingDimension(int embeddingDimension) {
+            if (embeddingDimension < 1) {
+                throw new IllegalArgumentException("Embedding dimension must be >0");
+            }
+            this.embeddingDimension = embeddingDimension;
+            return this;
+        }
+
+        /**
+         * Set the seed of the randomness used to draw latencies and failures
+         *
+         * @param seed Seed
+         * @return Builder
+         */
+        public Builder withSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Set the default completion type of the service
+         *
+         * @param completionType Completion type
+         * @return Builder
+         */
+        public Builder withDefaultCompletionType(CompletionType completionType) {
+            this.defaultCompletionType = completionType;
+            return this;
+        }
+
+        public MockAIService build() {
+            if (errorRate + throttlingRate > 1) {
+                throw new IllegalArgumentException(
+                        "The sum of the error and throttling rates must not exceed 1");
+            }
+            return new MockAIService(
+                    modelId,
+                    responder,
+                    latency,
+                    tokenInterval,
+                    errorRate,
+                    throttlingRate,
+                    retryAfter,
+                    embeddingDimension,
+                    seed,
+                    defaultCompletionType);
+        }
+
+        private static double requireRate(double rate) {
+            if (rate < 0 || rate > 1) {
+                throw new IllegalArgumentException("Rate must be between 0 and 1");
+            }
+            return rate;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.connectors.ai.mock;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** Minimal HTTP response attached to the errors injected by {@link MockAIService}. */
+class MockHttpResponse extends HttpResponse {
+
+    private final int statusCode;
+    private final HttpHeaders headers;
+    private final String body;
+
+    MockHttpResponse(int statusCode, HttpHeaders headers, String body) {
+        super(new HttpRequest(HttpMethod.POST, "http://localhost/mock"));
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    @Override
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public String getHeaderValue(String name) {
+        return headers.getValue(name);
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public Flux<ByteBuffer> getBody() {
+        return Flux.just(ByteBuffer.wrap(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public Mono<byte[]> getBodyAsByteArray() {
+        return Mono.just(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Mono<String> getBodyAsString() {
+        return Mono.just(body);
+    }
+
+    @Override
+    public Mono<String> getBodyAsString(Charset charset) {
+        return Mono.just(body);
+    }
+}
@@ -0,0 +1,116 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.connectors.ai.mock;
+
+import com.azure.core.exception.HttpResponseException;
+import com.microsoft.semantickernel.Kernel;
+import com.microsoft.semantickernel.SKBuilders;
+import com.microsoft.semantickernel.ai.embeddings.Embedding;
+import com.microsoft.semantickernel.ai.embeddings.TextEmbeddingGeneration;
+import com.microsoft.semantickernel.orchestration.SKContext;
+import com.microsoft.semantickernel.textcompletion.CompletionRequestSettings;
+import com.microsoft.semantickernel.textcompletion.CompletionSKFunction;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+public class MockAIServiceTest {
+
+    @Test
+    public void servesCompletionsWhenRegisteredOnKernel() {
+        MockAIService service =
+                new MockAIService.Builder()
+                        .withResponder(prompt -> prompt.toUpperCase())
+                        .withTokenInterval(Duration.ofMillis(1))
+                        .build();
+
+        Kernel kernel = SKBuilders.kernel().withDefaultAIService(service).build();
+
+        CompletionSKFunction function =
+                kernel.getSemanticFunctionBuilder()
+                        .withPromptTemplate("tell me about {{$input}}")
+                        .build();
+
+        SKContext result = kernel.runAsync("greece", function).block();
+        Assertions.assertEquals("TELL ME ABOUT GREECE", result.getResult());
+
+        List<String> deltas = kernel.runStreamingAsync("greece", function).collectList().block();
+        Assertions.assertEquals(Arrays.asList("TELL ", "ME ", "ABOUT ", "GREECE"), deltas);
+
+        Assertions.assertSame(service, kernel.getService(null, TextEmbeddingGeneration.class));
+    }
+
+    @Test
+    public void injectsThrottlingWithRetryAfter() {
+        MockAIService service =
+                new MockAIService.Builder()
+                        .withThrottlingRate(1)
+                        .withRetryAfter(Duration.ofSeconds(3))
+                        .build();
+
+        HttpResponseException error =
+                Assertions.assertThrows(
+                        HttpResponseException.class,
+                        () ->
+                                service.completeAsync("prompt", new CompletionRequestSettings())
+                                        .block());
+
+        Assertions.assertEquals(429, error.getResponse().getStatusCode());
+        Assertions.assertEquals("3", error.getResponse().getHeaderValue("Retry-After"));
+        Assertions.assertEquals(1, service.getRequestCount());
+    }
+
+    @Test
+    public void failuresAreReproducibleForTheSameSeed() {
+        Assertions.assertEquals(outcomes(42), outcomes(42));
+    }
+
+    @Test
+    public void embeddingsAreDeterministicAndReflectSharedWords() {
+        MockAIService service = new MockAIService.Builder().withEmbeddingDimension(64).build();
+
+        List<Embedding> embeddings =
+                service.generateEmbeddingsAsync(
+                                Arrays.asList(
+                                        "the history of greece",
+                                        "the history of greece",
+                                        "a history of ancient greece",
+                                        "quantum chromodynamics"))
+                        .block();
+
+        Assertions.assertEquals(64, embeddings.get(0).getVector().size());
+        Assertions.assertEquals(embeddings.get(0).getVector(), embeddings.get(1).getVector());
+        Assertions.assertEquals(1f, embeddings.get(0).euclideanLength(), 1e-5);
+
+        float related = embeddings.get(0).cosineSimilarity(embeddings.get(2));
+        float unrelated = embeddings.get(0).cosineSimilarity(embeddings.get(3));
+        Assertions.assertTrue(related > unrelated);
+    }
+
+    private static String outcomes(long seed) {
+        MockAIService service =
+                new MockAIService.Builder()
+                        .withSeed(seed)
+                        .withErrorRate(0.3)
+                        .withThrottlingRate(0.2)
+                        .withResponse("ok")
+                        .build();
+
+        StringBuilder outcomes = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            outcomes.append(
+                    service.completeAsync("prompt", new CompletionRequestSettings())
+                            .map(it -> "2")
+                            .onErrorResume(
+                                    HttpResponseException.class,
+                                    e ->
+                                            Mono.just(
+                                                    String.valueOf(
+                                                            e.getResponse().getStatusCode() / 100)))
+                            .block());
+        }
+        return outcomes.toString();
+    }
+}
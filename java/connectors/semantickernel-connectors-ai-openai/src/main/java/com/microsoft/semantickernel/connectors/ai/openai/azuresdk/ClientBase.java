@@ -2,7 +2,10 @@
 package com.microsoft.semantickernel.connectors.ai.openai.azuresdk;
 
 import com.azure.ai.openai.OpenAIAsyncClient;
+import com.azure.ai.openai.models.CompletionsUsage;
 import com.microsoft.semantickernel.ai.AIException;
+import com.microsoft.semantickernel.instrumentation.TokenUsage;
+import javax.annotation.Nullable;
 
 public abstract class ClientBase {
     private final String modelId;
@@ -13,7 +16,7 @@ public abstract class ClientBase {
         this.client = client;
     }
 
-    protected String getModelId() {
+    public String getModelId() {
         return modelId;
     }
 
@@ -21,6 +24,20 @@ public abstract class ClientBase {
         return client;
     }
 
+    /**
+     * Convert the token usage reported by the service
+     *
+     * @param usage The usage reported by the service, may be null
+     * @return The usage, or null if the service did not report it
+     */
+    @Nullable
+    protected static TokenUsage usage(@Nullable CompletionsUsage usage) {
+        if (usage == null) {
+            return null;
+        }
+        return new TokenUsage(usage.getPromptTokens(), usage.getCompletionTokens());
+    }
+
     protected static void validateMaxTokens(int maxTokens) {
         if (maxTokens < 1) {
             throw new AIException(
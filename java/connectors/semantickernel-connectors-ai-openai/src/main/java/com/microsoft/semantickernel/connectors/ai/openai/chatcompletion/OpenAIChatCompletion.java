@@ -15,6 +15,9 @@ import com.microsoft.semantickernel.chatcompletion.ChatRequestSettings;
 import com.microsoft.semantickernel.connectors.ai.openai.azuresdk.ClientBase;
 import com.microsoft.semantickernel.exceptions.NotSupportedException;
 import com.microsoft.semantickernel.exceptions.NotSupportedException.ErrorCodes;
+import com.microsoft.semantickernel.instrumentation.Instrumentation;
+import com.microsoft.semantickernel.instrumentation.InstrumentationEvent.Kind;
+import com.microsoft.semantickernel.orchestration.Deadline;
 import com.microsoft.semantickernel.textcompletion.CompletionRequestSettings;
 import com.microsoft.semantickernel.textcompletion.CompletionType;
 import java.util.Arrays;
@@ -52,6 +55,13 @@ public class OpenAIChatCompletion extends ClientBase implements ChatCompletion<O
         return generateMessageStream(createNewChat(text), chatRequestSettings);
     }
 
+    @Override
+    public Flux<String> completeStreamDeltasAsync(
+            @Nonnull String text, @Nonnull CompletionRequestSettings requestSettings) {
+        ChatRequestSettings chatRequestSettings = new ChatRequestSettings(requestSettings);
+        return generateMessageDeltaStream(createNewChat(text), chatRequestSettings);
+    }
+
     @Override
     public CompletionType defaultCompletionType() {
         return defaultCompletionType;
@@ -124,8 +134,13 @@ public class OpenAIChatCompletion extends ClientBase implements ChatCompletion<O
         validateMaxTokens(requestSettings.getMaxTokens());
         ChatCompletionsOptions options = createChatCompletionsOptions(requestSettings, chat);
 
-        return getClient()
-                .getChatCompletions(getModelId(), options)
+        return Instrumentation.observe(
+                        Kind.CHAT_COMPLETION,
+                        getModelId(),
+                        Deadline.enforce(
+                                getModelId(),
+                                getClient().getChatCompletions(getModelId(), options)),
+                        completions -> usage(completions.getUsage()))
                 .flatMap(
                         response -> {
                             if (response == null || response.getChoices().isEmpty()) {
@@ -199,6 +214,18 @@ public class OpenAIChatCompletion extends ClientBase implements ChatCompletion<O
                         });
     }
 
+    @Override
+    public Flux<String> generateMessageDeltaStream(
+            OpenAIChatHistory chat, @Nullable ChatRequestSettings requestSettings) {
+        return this.getStreamingChatCompletionsAsync(chat, requestSettings)
+                .concatMapIterable(ChatCompletions::getChoices)
+                // Only the first choice is surfaced, in line with generateMessageAsync
+                .filter(chatChoice -> chatChoice.getIndex() == 0)
+                .mapNotNull(ChatChoice::getDelta)
+                .mapNotNull(ChatMessage::getContent)
+                .filter(content -> !content.isEmpty());
+    }
+
     private static BiFunction<String, ChatChoice, String> accumulateString() {
         return (newString, chatChoice) -> {
             ChatMessage message = chatChoice.getDelta();
@@ -227,7 +254,11 @@ public class OpenAIChatCompletion extends ClientBase implements ChatCompletion<O
         ChatCompletionsOptions options = createChatCompletionsOptions(requestSettings, chat);
         options = options.setStream(true);
 
-        return getClient().getChatCompletionsStream(getModelId(), options);
+        return Instrumentation.observeMany(
+                Kind.CHAT_COMPLETION,
+                getModelId(),
+                Deadline.enforceMany(
+                        getModelId(), getClient().getChatCompletionsStream(getModelId(), options)));
     }
 
     /**
@@ -11,10 +11,15 @@ import com.microsoft.semantickernel.chatcompletion.ChatRequestSettings;
 import com.microsoft.semantickernel.connectors.ai.openai.azuresdk.ClientBase;
 import com.microsoft.semantickernel.exceptions.NotSupportedException;
 import com.microsoft.semantickernel.exceptions.NotSupportedException.ErrorCodes;
+import com.microsoft.semantickernel.instrumentation.Instrumentation;
+import com.microsoft.semantickernel.instrumentation.InstrumentationEvent.Kind;
+import com.microsoft.semantickernel.orchestration.Deadline;
 import com.microsoft.semantickernel.textcompletion.CompletionRequestSettings;
 import com.microsoft.semantickernel.textcompletion.CompletionType;
 import com.microsoft.semantickernel.textcompletion.TextCompletion;
 import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -31,7 +36,13 @@ import reactor.core.publisher.Mono;
 /// </summary>
 public class OpenAITextCompletion extends ClientBase implements TextCompletion {
 
+    // Default limits of a single batched completion request
+    public static final int DEFAULT_MAX_PROMPTS_PER_REQUEST = 20;
+    public static final int DEFAULT_MAX_TOKENS_PER_REQUEST = 32_768;
+
     private final CompletionType defaultCompletionType;
+    private final int maxPromptsPerRequest;
+    private final int maxTokensPerRequest;
 
     /// <summary>
     /// Create an instance of the OpenAI text completion connector
@@ -44,15 +55,50 @@ public class OpenAITextCompletion extends ClientBase implements TextCompletion {
     /// <param name="log">Application logger</param>
     @Inject
     public OpenAITextCompletion(OpenAIAsyncClient client, String modelId) {
-        super(client, modelId);
-        defaultCompletionType = CompletionType.STREAMING;
+        this(client, modelId, CompletionType.STREAMING);
     }
 
     public OpenAITextCompletion(
             OpenAIAsyncClient client, String modelId, CompletionType defaultCompletionType) {
+        this(
+                client,
+                modelId,
+                defaultCompletionType,
+                DEFAULT_MAX_PROMPTS_PER_REQUEST,
+                DEFAULT_MAX_TOKENS_PER_REQUEST);
+    }
+
+    /**
+     * Create an instance of the OpenAI text completion connector
+     *
+     * @param client OpenAI client
+     * @param modelId Model name
+     * @param defaultCompletionType Type of request used by default
+     * @param maxPromptsPerRequest Maximum number of prompts packed into a single batched request
+     * @param maxTokensPerRequest Maximum number of tokens of a single batched request, counting
+     *     the estimated tokens of the prompts and the maximum tokens of their completions
+     */
+    public OpenAITextCompletion(
+            OpenAIAsyncClient client,
+            String modelId,
+            CompletionType defaultCompletionType,
+            int maxPromptsPerRequest,
+            int maxTokensPerRequest) {
         super(client, modelId);
 
+        if (maxPromptsPerRequest < 1) {
+            throw new AIException(
+                    AIException.ErrorCodes.INVALID_CONFIGURATION,
+                    "Max prompts per request must be >0");
+        }
+        if (maxTokensPerRequest < 1) {
+            throw new AIException(
+                    AIException.ErrorCodes.INVALID_CONFIGURATION,
+                    "Max tokens per request must be >0");
+        }
         this.defaultCompletionType = defaultCompletionType;
+        this.maxPromptsPerRequest = maxPromptsPerRequest;
+        this.maxTokensPerRequest = maxTokensPerRequest;
     }
 
     @Override
@@ -69,14 +115,102 @@ public class OpenAITextCompletion extends ClientBase implements TextCompletion {
         return generateMessageStream(completionsOptions);
     }
 
+    @Override
+    public Flux<String> completeStreamDeltasAsync(
+            @Nonnull String text, @Nonnull CompletionRequestSettings requestSettings) {
+        CompletionsOptions completionsOptions = getCompletionsOptions(text, requestSettings);
+
+        return Instrumentation.observeMany(
+                        Kind.TEXT_COMPLETION,
+                        getModelId(),
+                        Deadline.enforceMany(
+                                getModelId(),
+                                getClient().getCompletionsStream(getModelId(), completionsOptions)))
+                .concatMapIterable(Completions::getChoices)
+                // Choices are interleaved when several are requested, keep the first one
+                .filter(choice -> choice.getIndex() == 0)
+                .mapNotNull(Choice::getText)
+                .filter(message -> !message.isEmpty());
+    }
+
+    @Override
+    public Mono<List<String>> completeBatchAsync(
+            @Nonnull List<String> prompts, @Nonnull CompletionRequestSettings requestSettings) {
+        return Flux.fromIterable(chunk(prompts, requestSettings.getMaxTokens()))
+                .concatMap(chunk -> completeChunkAsync(chunk, requestSettings))
+                .concatMapIterable(completions -> completions)
+                .collectList();
+    }
+
+    // Split the prompts into requests within both limits, a prompt over the token limit on its own
+    // is sent alone
+    private List<List<String>> chunk(List<String> prompts, int maxTokens) {
+        List<List<String>> chunks = new ArrayList<>();
+        int start = 0;
+        long tokens = 0;
+        for (int i = 0; i < prompts.size(); i++) {
+            long promptTokens = estimateTokens(prompts.get(i)) + (long) maxTokens;
+            if (i > start
+                    && (i - start == maxPromptsPerRequest
+                            || tokens + promptTokens > maxTokensPerRequest)) {
+                chunks.add(prompts.subList(start, i));
+                start = i;
+                tokens = 0;
+            }
+            tokens += promptTokens;
+        }
+        if (start < prompts.size()) {
+            chunks.add(prompts.subList(start, prompts.size()));
+        }
+        return chunks;
+    }
+
+    // Rough estimate of about four characters per token
+    private static int estimateTokens(String text) {
+        return text.length() / 4;
+    }
+
+    private Mono<List<String>> completeChunkAsync(
+            List<String> prompts, CompletionRequestSettings requestSettings) {
+        CompletionsOptions completionsOptions = getCompletionsOptions(prompts, requestSettings);
+
+        return getCompletions(completionsOptions)
+                .handle(
+                        (completions, sink) -> {
+                            // Choices are not guaranteed to be in prompt order, with a single
+                            // choice per prompt the index of a choice is the index of its prompt
+                            String[] results = new String[prompts.size()];
+                            for (Choice choice : completions.getChoices()) {
+                                if (choice.getIndex() >= 0 && choice.getIndex() < results.length) {
+                                    results[choice.getIndex()] = choice.getText();
+                                }
+                            }
+
+                            for (String result : results) {
+                                if (result == null) {
+                                    sink.error(
+                                            new AIException(
+                                                    AIException.ErrorCodes.INVALID_RESPONSE_CONTENT,
+                                                    "Completion missing for one of the prompts"));
+                                    return;
+                                }
+                            }
+                            sink.next(Arrays.asList(results));
+                        });
+    }
+
     @Override
     public CompletionType defaultCompletionType() {
         return defaultCompletionType;
     }
 
     private Flux<String> generateMessageStream(CompletionsOptions completionsOptions) {
-        return getClient()
-                .getCompletionsStream(getModelId(), completionsOptions)
+        return Instrumentation.observeMany(
+                        Kind.TEXT_COMPLETION,
+                        getModelId(),
+                        Deadline.enforceMany(
+                                getModelId(),
+                                getClient().getCompletionsStream(getModelId(), completionsOptions)))
                 .groupBy(Completions::getId)
                 .concatMap(
                         completionResult -> {
@@ -102,21 +236,35 @@ public class OpenAITextCompletion extends ClientBase implements TextCompletion {
             String text, CompletionRequestSettings requestSettings) {
         CompletionsOptions completionsOptions = getCompletionsOptions(text, requestSettings);
 
-        return getClient()
-                .getCompletions(getModelId(), completionsOptions)
+        return getCompletions(completionsOptions)
                 .flatMapIterable(Completions::getChoices)
                 .mapNotNull(Choice::getText)
                 .collectList();
     }
 
+    private Mono<Completions> getCompletions(CompletionsOptions completionsOptions) {
+        return Instrumentation.observe(
+                Kind.TEXT_COMPLETION,
+                getModelId(),
+                Deadline.enforce(
+                        getModelId(),
+                        getClient().getCompletions(getModelId(), completionsOptions)),
+                completions -> usage(completions.getUsage()));
+    }
+
     private CompletionsOptions getCompletionsOptions(
             String text, CompletionRequestSettings requestSettings) {
+        return getCompletionsOptions(Collections.singletonList(text), requestSettings);
+    }
+
+    private CompletionsOptions getCompletionsOptions(
+            List<String> prompts, CompletionRequestSettings requestSettings) {
         if (requestSettings.getMaxTokens() < 1) {
             throw new AIException(AIException.ErrorCodes.INVALID_REQUEST, "Max tokens must be >0");
         }
 
         CompletionsOptions options =
-                new CompletionsOptions(Collections.singletonList(text))
+                new CompletionsOptions(prompts)
                         .setMaxTokens(requestSettings.getMaxTokens())
                         .setTemperature(requestSettings.getTemperature())
                         .setTopP(requestSettings.getTopP())
@@ -138,6 +286,8 @@ public class OpenAITextCompletion extends ClientBase implements TextCompletion {
         @Nullable private OpenAIAsyncClient client;
         @Nullable private String modelId;
         private CompletionType defaultCompletionType = CompletionType.STREAMING;
+        private int maxPromptsPerRequest = DEFAULT_MAX_PROMPTS_PER_REQUEST;
+        private int maxTokensPerRequest = DEFAULT_MAX_TOKENS_PER_REQUEST;
 
         public Builder withOpenAIClient(OpenAIAsyncClient client) {
             this.client = client;
@@ -155,6 +305,18 @@ public class OpenAITextCompletion extends ClientBase implements TextCompletion {
             return this;
         }
 
+        @Override
+        public Builder withMaxPromptsPerRequest(int maxPromptsPerRequest) {
+            this.maxPromptsPerRequest = maxPromptsPerRequest;
+            return this;
+        }
+
+        @Override
+        public Builder withMaxTokensPerRequest(int maxTokensPerRequest) {
+            this.maxTokensPerRequest = maxTokensPerRequest;
+            return this;
+        }
+
         @Override
         public TextCompletion build() {
             if (client == null) {
@@ -163,7 +325,8 @@ public class OpenAITextCompletion extends ClientBase implements TextCompletion {
             if (modelId == null) {
                 throw new NotSupportedException(ErrorCodes.NOT_SUPPORTED, "Model ID not set");
             }
-            return new OpenAITextCompletion(client, modelId, defaultCompletionType);
+            return new OpenAITextCompletion(
+                    client, modelId, defaultCompletionType, maxPromptsPerRequest, maxTokensPerRequest);
         }
     }
 }
@@ -10,8 +10,11 @@ import com.microsoft.semantickernel.ai.embeddings.TextEmbeddingGeneration;
 import com.microsoft.semantickernel.connectors.ai.openai.azuresdk.ClientBase;
 import com.microsoft.semantickernel.exceptions.NotSupportedException;
 import com.microsoft.semantickernel.exceptions.NotSupportedException.ErrorCodes;
+import com.microsoft.semantickernel.instrumentation.Instrumentation;
+import com.microsoft.semantickernel.instrumentation.InstrumentationEvent.Kind;
+import com.microsoft.semantickernel.instrumentation.TokenUsage;
+import com.microsoft.semantickernel.orchestration.Deadline;
 import java.util.List;
-import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
 
 public class OpenAITextEmbeddingGeneration extends ClientBase implements TextEmbeddingGeneration {
@@ -29,16 +32,20 @@ public class OpenAITextEmbeddingGeneration extends ClientBase implements TextEmb
         EmbeddingsOptions options =
                 new EmbeddingsOptions(data).setModel(getModelId()).setUser("default");
 
-        return getClient()
-                .getEmbeddings(getModelId(), options)
+        return Instrumentation.observe(
+                        Kind.EMBEDDING,
+                        getModelId(),
+                        Deadline.enforce(
+                                getModelId(),
+                                getClient().getEmbeddings(getModelId(), options)),
+                        embeddings ->
+                                embeddings.getUsage() == null
+                                        ? null
+                                        : new TokenUsage(
+                                                embeddings.getUsage().getPromptTokens(), 0))
                 .flatMapIterable(Embeddings::getData)
                 .mapNotNull(EmbeddingItem::getEmbedding)
-                .map(
-                        embedding ->
-                                embedding.stream()
-                                        .map(Double::floatValue)
-                                        .collect(Collectors.toList()))
-                .mapNotNull(Embedding::new)
+                .map(Embedding::fromDoubles)
                 .collectList();
     }
 
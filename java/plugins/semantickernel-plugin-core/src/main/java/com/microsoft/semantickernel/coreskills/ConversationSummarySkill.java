@@ -17,6 +17,9 @@ public class ConversationSummarySkill {
     // The max tokens to process in a single semantic function call.
     private static final int MaxTokens = 1024;
 
+    // The max number of paragraphs processed at the same time.
+    private static final int MaxConcurrentPartitions = 4;
+
     private final CompletionSKFunction summarizeConversationFunction;
     private final CompletionSKFunction conversationActionItemsFunction;
     private final CompletionSKFunction conversationTopicsFunction;
@@ -107,7 +110,7 @@ public class ConversationSummarySkill {
         SKContext completionContext = context.copy();
 
         return this.summarizeConversationFunction.aggregatePartitionedResultsAsync(
-                paragraphs, completionContext);
+                paragraphs, completionContext, MaxConcurrentPartitions);
     }
 
     /**
@@ -129,7 +132,7 @@ public class ConversationSummarySkill {
         SKContext completionContext = context.copy();
 
         return this.conversationActionItemsFunction.aggregatePartitionedResultsAsync(
-                paragraphs, completionContext);
+                paragraphs, completionContext, MaxConcurrentPartitions);
     }
 
     /**
@@ -152,6 +155,6 @@ public class ConversationSummarySkill {
         SKContext completionContext = context.copy();
 
         return this.conversationTopicsFunction.aggregatePartitionedResultsAsync(
-                paragraphs, completionContext);
+                paragraphs, completionContext, MaxConcurrentPartitions);
     }
 }
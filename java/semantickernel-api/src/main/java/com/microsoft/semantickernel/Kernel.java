@@ -7,16 +7,22 @@ import com.microsoft.semantickernel.builders.BuildersSingleton;
 import com.microsoft.semantickernel.builders.SemanticKernelBuilder;
 import com.microsoft.semantickernel.memory.MemoryStore;
 import com.microsoft.semantickernel.memory.SemanticTextMemory;
+import com.microsoft.semantickernel.orchestration.BatchOptions;
+import com.microsoft.semantickernel.orchestration.BatchResult;
 import com.microsoft.semantickernel.orchestration.ContextVariables;
+import com.microsoft.semantickernel.orchestration.PipelineStep;
 import com.microsoft.semantickernel.orchestration.SKContext;
 import com.microsoft.semantickernel.orchestration.SKFunction;
+import com.microsoft.semantickernel.orchestration.hooks.FunctionInvocationHooks;
 import com.microsoft.semantickernel.semanticfunctions.SemanticFunctionConfig;
 import com.microsoft.semantickernel.services.AIService;
 import com.microsoft.semantickernel.templateengine.PromptTemplateEngine;
 import com.microsoft.semantickernel.textcompletion.CompletionSKFunction;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /** Interface for the semantic kernel. */
@@ -28,6 +34,19 @@ public interface Kernel extends SkillExecutor, Buildable {
      */
     KernelConfig getConfig();
 
+    /**
+     * Hooks run around every invocation of the functions of this kernel, and the latency
+     * statistics of these invocations.
+     *
+     * <p>Kernels that do not run hooks return empty hooks, without statistics. Hooks added to them
+     * are not run.
+     *
+     * @return The invocation hooks of this kernel
+     */
+    default FunctionInvocationHooks getInvocationHooks() {
+        return new FunctionInvocationHooks();
+    }
+
     /**
      * Reference to the engine rendering prompt templates
      *
@@ -68,6 +87,104 @@ public interface Kernel extends SkillExecutor, Buildable {
      */
     Mono<SKContext> runAsync(ContextVariables variables, SKFunction<?>... pipeline);
 
+    /**
+     * Run a pipeline whose steps declare the context variables they read and write. Steps that do
+     * not depend on each other through these variables are run concurrently, the variables they
+     * write are merged into the context as if the steps had run in order.
+     *
+     * <p>The default implementation runs the functions of the steps one after the other with
+     * {@link #runAsync(ContextVariables, SKFunction[])}, the declared variables and output
+     * variables of the steps are not used.
+     *
+     * @param variables variables to initialise the context with
+     * @param pipeline List of steps
+     * @return Context holding the variables written by the steps
+     */
+    default Mono<SKContext> runPipelineAsync(ContextVariables variables, PipelineStep... pipeline) {
+        SKFunction<?>[] functions = new SKFunction<?>[pipeline.length];
+        for (int i = 0; i < pipeline.length; i++) {
+            functions[i] = pipeline[i].getFunction();
+        }
+        return runAsync(variables, functions);
+    }
+
+    /**
+     * Run a pipeline over many inputs, processing up to 16 inputs at the same time and emitting the
+     * results in the order of the inputs. An input that fails is reported in its result and does
+     * not stop the batch.
+     *
+     * @param inputs variables to initialise the context of each run with
+     * @param pipeline List of functions
+     * @return One result per input
+     */
+    default Flux<BatchResult> runBatchAsync(
+            Flux<ContextVariables> inputs, SKFunction<?>... pipeline) {
+        return runBatchAsync(inputs, BatchOptions.builder().build(), pipeline);
+    }
+
+    /**
+     * Run a pipeline over many inputs. An input that fails is reported in its result and does not
+     * stop the batch. The default implementation runs each input with {@link
+     * #runAsync(ContextVariables, SKFunction[])}.
+     *
+     * @param inputs variables to initialise the context of each run with
+     * @param options concurrency, ordering and rate of the batch
+     * @param pipeline List of functions
+     * @return One result per input
+     */
+    default Flux<BatchResult> runBatchAsync(
+            Flux<ContextVariables> inputs, BatchOptions options, SKFunction<?>... pipeline) {
+        return BatchResult.runBatch(inputs, options, input -> runAsync(input, pipeline));
+    }
+
+    /**
+     * Run a pipeline composed of synchronous and asynchronous functions, streaming the result of
+     * the last function. If the last function is a {@link CompletionSKFunction} the fragments of
+     * its completion are emitted as they are produced, otherwise its result is emitted once it
+     * completes.
+     *
+     * @param input Input to process
+     * @param pipeline List of functions
+     * @return Fragments of the result of the last function
+     */
+    default Flux<String> runStreamingAsync(String input, SKFunction<?>... pipeline) {
+        return runStreamingAsync(SKBuilders.variables().withInput(input).build(), pipeline);
+    }
+
+    /**
+     * Run a pipeline composed of synchronous and asynchronous functions, streaming the result of
+     * the last function. If the last function is a {@link CompletionSKFunction} the fragments of
+     * its completion are emitted as they are produced, otherwise its result is emitted once it
+     * completes.
+     *
+     * <p>The default implementation runs the pipeline with {@link #runAsync(ContextVariables,
+     * SKFunction[])} and emits the result of the last function once, as a single fragment.
+     *
+     * @param variables variables to initialise the context with
+     * @param pipeline List of functions
+     * @return Fragments of the result of the last function
+     */
+    default Flux<String> runStreamingAsync(ContextVariables variables, SKFunction<?>... pipeline) {
+        return runAsync(variables, pipeline).mapNotNull(SKContext::getResult).flux();
+    }
+
+    /**
+     * Run a semantic function over many inputs, packing the rendered prompts into as few requests
+     * to the AI service as possible.
+     *
+     * <p>The default implementation runs the function over the inputs one after the other.
+     *
+     * @param function The function to run
+     * @param inputs Variables to initialise the context of each invocation with
+     * @return One result per input, in the same order as {@code inputs}
+     */
+    default Mono<List<SKContext>> invokeBatchAsync(
+            CompletionSKFunction function, List<ContextVariables> inputs) {
+        return Flux.fromIterable(inputs)
+                .concatMap(variables -> runAsync(variables, function))
+                .collectList();
+    }
+
     /**
      * Register a semantic function on this kernel
      *
@@ -1,20 +1,197 @@
 // Copyright (c) Microsoft. All rights reserved.
 package com.microsoft.semantickernel;
 
+import com.microsoft.semantickernel.ai.cache.CompletionCache;
+import com.microsoft.semantickernel.ai.resilience.ResiliencePolicy;
 import com.microsoft.semantickernel.builders.Buildable;
 import com.microsoft.semantickernel.builders.BuildersSingleton;
 import com.microsoft.semantickernel.builders.SemanticKernelBuilder;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import javax.annotation.Nullable;
+import reactor.core.scheduler.Scheduler;
 
-// Currently the kernel config does not have and function within Java
+/** Kernel wide settings applied when executing functions */
 public final class KernelConfig implements Buildable {
 
+    @Nullable private final ResiliencePolicy resiliencePolicy;
+    @Nullable private final CompletionCache completionCache;
+    @Nullable private final Scheduler nativeFunctionScheduler;
+    private final Map<String, Scheduler> skillSchedulers;
+    private final boolean lazyPromptLoading;
+
+    public KernelConfig() {
+        this(null);
+    }
+
+    public KernelConfig(@Nullable ResiliencePolicy resiliencePolicy) {
+        this(resiliencePolicy, null);
+    }
+
+    public KernelConfig(
+            @Nullable ResiliencePolicy resiliencePolicy,
+            @Nullable CompletionCache completionCache) {
+        this(resiliencePolicy, completionCache, null, Collections.emptyMap());
+    }
+
+    public KernelConfig(
+            @Nullable ResiliencePolicy resiliencePolicy,
+            @Nullable CompletionCache completionCache,
+            @Nullable Scheduler nativeFunctionScheduler,
+            Map<String, Scheduler> skillSchedulers) {
+        this(resiliencePolicy, completionCache, nativeFunctionScheduler, skillSchedulers, false);
+    }
+
+    public KernelConfig(
+            @Nullable ResiliencePolicy resiliencePolicy,
+            @Nullable CompletionCache completionCache,
+            @Nullable Scheduler nativeFunctionScheduler,
+            Map<String, Scheduler> skillSchedulers,
+            boolean lazyPromptLoading) {
+        this.resiliencePolicy = resiliencePolicy;
+        this.completionCache = completionCache;
+        this.nativeFunctionScheduler = nativeFunctionScheduler;
+        Map<String, Scheduler> schedulers = new HashMap<>();
+        skillSchedulers.forEach(
+                (skillName, scheduler) -> schedulers.put(normalize(skillName), scheduler));
+        this.skillSchedulers = Collections.unmodifiableMap(schedulers);
+        this.lazyPromptLoading = lazyPromptLoading;
+    }
+
+    private static String normalize(String skillName) {
+        return skillName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Get the policy applied around calls to AI services
+     *
+     * @return The resilience policy, or null if calls are not retried by the kernel
+     */
+    @Nullable
+    public ResiliencePolicy getResiliencePolicy() {
+        return resiliencePolicy;
+    }
+
+    /**
+     * Get the cache of completions shared by the semantic functions that do not set their own
+     *
+     * @return The completion cache, or null if completions are not cached
+     */
+    @Nullable
+    public CompletionCache getCompletionCache() {
+        return completionCache;
+    }
+
+    /**
+     * Get the scheduler running the native functions of a skill that do not return a Mono
+     *
+     * @param skillName Name of the skill
+     * @return The scheduler of the skill if it has one, otherwise the scheduler of the kernel, or
+     *     null to use the default scheduler
+     */
+    @Nullable
+    public Scheduler getNativeFunctionScheduler(String skillName) {
+        Scheduler scheduler = skillSchedulers.get(normalize(skillName));
+        return scheduler != null ? scheduler : nativeFunctionScheduler;
+    }
+
+    /**
+     * Whether the prompts of semantic functions imported from directories are read and compiled
+     * when the function is first used rather than when it is imported
+     *
+     * @return Whether prompts are loaded lazily
+     */
+    public boolean isLazyPromptLoading() {
+        return lazyPromptLoading;
+    }
+
     public static Builder builder() {
         return BuildersSingleton.INST.getInstance(KernelConfig.Builder.class);
     }
 
     public static class Builder implements SemanticKernelBuilder<KernelConfig> {
+
+        @Nullable private ResiliencePolicy resiliencePolicy = null;
+        @Nullable private CompletionCache completionCache = null;
+        @Nullable private Scheduler nativeFunctionScheduler = null;
+        private final Map<String, Scheduler> skillSchedulers = new HashMap<>();
+        private boolean lazyPromptLoading = false;
+
+        /**
+         * Set the policy applied around calls to AI services: retries, retry budget and circuit
+         * breakers. Disable the retries of the HTTP pipeline of the clients, see {@link
+         * ResiliencePolicy}, so that requests are not retried twice.
+         *
+         * @param resiliencePolicy The resilience policy
+         * @return Builder
+         */
+        public Builder withResiliencePolicy(@Nullable ResiliencePolicy resiliencePolicy) {
+            this.resiliencePolicy = resiliencePolicy;
+            return this;
+        }
+
+        /**
+         * Cache the completions of the semantic functions of the kernel. Only use a cache when
+         * the functions are deterministic, for instance run with a temperature of 0. Streamed and
+         * batched invocations bypass the cache.
+         *
+         * @param completionCache The completion cache
+         * @return Builder
+         */
+        public Builder withCompletionCache(@Nullable CompletionCache completionCache) {
+            this.completionCache = completionCache;
+            return this;
+        }
+
+        /**
+         * Set the scheduler running native functions that do not return a Mono. These functions
+         * are expected to block, for instance on file or database I/O. Defaults to the bounded
+         * elastic scheduler, or to a virtual thread per function on JDK 21 and later.
+         *
+         * @param scheduler The scheduler
+         * @return Builder
+         */
+        public Builder withNativeFunctionScheduler(@Nullable Scheduler scheduler) {
+            this.nativeFunctionScheduler = scheduler;
+            return this;
+        }
+
+        /**
+         * Set the scheduler running the blocking native functions of one skill, overriding the
+         * scheduler of the kernel
+         *
+         * @param skillName Name of the skill
+         * @param scheduler The scheduler
+         * @return Builder
+         */
+        public Builder withSkillScheduler(String skillName, Scheduler scheduler) {
+            this.skillSchedulers.put(skillName, scheduler);
+            return this;
+        }
+
+        /**
+         * Read and compile the prompts of semantic functions imported from directories when the
+         * function is first used, rather than when it is imported. This speeds up the start of
+         * applications with large prompt libraries, a missing or invalid prompt is then reported
+         * on first use.
+         *
+         * @param lazyPromptLoading Whether prompts are loaded lazily
+         * @return Builder
+         */
+        public Builder withLazyPromptLoading(boolean lazyPromptLoading) {
+            this.lazyPromptLoading = lazyPromptLoading;
+            return this;
+        }
+
         public KernelConfig build() {
-            return new KernelConfig();
+            return new KernelConfig(
+                    resiliencePolicy,
+                    completionCache,
+                    nativeFunctionScheduler,
+                    skillSchedulers,
+                    lazyPromptLoading);
         }
     }
 }
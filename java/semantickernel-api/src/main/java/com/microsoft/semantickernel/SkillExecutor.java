@@ -5,6 +5,8 @@ import com.microsoft.semantickernel.exceptions.SkillsNotFoundException;
 import com.microsoft.semantickernel.semanticfunctions.SemanticFunctionConfig;
 import com.microsoft.semantickernel.skilldefinition.ReadOnlyFunctionCollection;
 import com.microsoft.semantickernel.skilldefinition.ReadOnlySkillCollection;
+import java.io.Closeable;
+import java.time.Duration;
 import java.util.Map;
 import javax.annotation.Nullable;
 
@@ -53,6 +55,29 @@ public interface SkillExecutor {
      */
     ReadOnlyFunctionCollection importSkillFromDirectory(String skillName, String parentDirectory);
 
+    /**
+     * Imports the semantic functions of a skill directory, as {@link
+     * #importSkillFromDirectory(String, String, String)} does, and keeps watching the directory.
+     * Once the files of a function have not changed for the debounce period, only that function
+     * is reloaded and swapped into the skill collection. Invocations already running complete on
+     * the previous version. A function that can no longer be read keeps its last version.
+     *
+     * <p>The default implementation imports the directory once and does not watch it.
+     *
+     * @param skillName name of the skill
+     * @param parentDirectory directory that contains the skill
+     * @param skillDirectoryName name of the directory of the skill
+     * @param debounce time without changes before a function is reloaded
+     * @return handle that stops watching the directory when closed
+     * @throws KernelException if the directory cannot be watched
+     */
+    default Closeable watchSkillDirectory(
+            String skillName, String parentDirectory, String skillDirectoryName, Duration debounce)
+            throws KernelException {
+        importSkillFromDirectory(skillName, parentDirectory, skillDirectoryName);
+        return () -> {};
+    }
+
     /**
      * Imports a skill using ClassLoader.getResourceAsStream to load skills from the classpath.
      *
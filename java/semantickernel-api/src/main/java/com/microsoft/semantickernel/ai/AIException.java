@@ -76,6 +76,9 @@ public class AIException extends SKException {
         /** Service error. */
         SERVICE_ERROR("There was an error in the service"),
 
+        /** Service unavailable, its circuit breaker is open. */
+        SERVICE_UNAVAILABLE("The service is temporarily unavailable"),
+
         /** Model not available. */
         MODEL_NOT_AVAILABLE("The requested model is not available"),
 
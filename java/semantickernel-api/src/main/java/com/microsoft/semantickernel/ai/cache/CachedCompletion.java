@@ -0,0 +1,53 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.ai.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/** A completion kept in a {@link CompletionCacheStore} */
+public final class CachedCompletion {
+
+    private final String text;
+    private final Duration latency;
+    private final Instant createdAt;
+
+    /**
+     * Create a cached completion
+     *
+     * @param text Text generated by the model
+     * @param latency Time the AI service took to produce the completion
+     * @param createdAt When the completion was produced
+     */
+    public CachedCompletion(String text, Duration latency, Instant createdAt) {
+        this.text = text;
+        this.latency = latency;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Get the text generated by the model
+     *
+     * @return The completion
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Get the time the AI service took to produce the completion, which is saved by every hit
+     *
+     * @return The latency of the original request
+     */
+    public Duration getLatency() {
+        return latency;
+    }
+
+    /**
+     * Get when the completion was produced
+     *
+     * @return Creation time
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
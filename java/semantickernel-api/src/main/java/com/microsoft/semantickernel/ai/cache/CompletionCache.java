@@ -0,0 +1,179 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.ai.cache;
+
+import com.microsoft.semantickernel.textcompletion.CompletionRequestSettings;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * Cache of completions, keyed by the rendered prompt, the request settings and the model.
+ *
+ * <p>Identical requests issued while the first one is still in flight wait for its result instead
+ * of calling the AI service again. Failed requests are not cached.
+ *
+ * <p>Caching only makes sense for deterministic functions, for instance classification or
+ * extraction prompts run with a temperature of 0. A cache is opt-in, either for a single function
+ * or for every semantic function of a kernel through its {@link
+ * com.microsoft.semantickernel.KernelConfig}.
+ *
+ * <p>Only single invocations of a function go through the cache. Streamed invocations and batched
+ * completions always call the AI service, and do not fill the cache.
+ */
+public class CompletionCache {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final CompletionCacheStore store;
+    private final Clock clock;
+    private final Map<String, Mono<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder savedLatencyNanos = new LongAdder();
+
+    /**
+     * Create a cache backed by the store
+     *
+     * @param store Store holding the completions
+     */
+    public CompletionCache(CompletionCacheStore store) {
+        this(store, Clock.systemUTC());
+    }
+
+    public CompletionCache(CompletionCacheStore store, Clock clock) {
+        this.store = store;
+        this.clock = clock;
+    }
+
+    /**
+     * Compute the key of a completion request
+     *
+     * @param prompt Rendered prompt
+     * @param settings Request settings
+     * @param modelId Model completing the prompt
+     * @return SHA-256 of the request, as a hex string
+     */
+    public static String key(String prompt, CompletionRequestSettings settings, String modelId) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+
+        // Length prefixes keep the fields apart, so that no two requests share a key
+        update(digest, modelId);
+        update(digest, prompt);
+        update(
+                digest,
+                settings.getTemperature()
+                        + "|"
+                        + settings.getTopP()
+                        + "|"
+                        + settings.getPresencePenalty()
+                        + "|"
+                        + settings.getFrequencyPenalty()
+                        + "|"
+                        + settings.getMaxTokens()
+                        + "|"
+                        + settings.getBestOf()
+                        + "|"
+                        + settings.getUser());
+        for (String stopSequence : settings.getStopSequences()) {
+            update(digest, stopSequence);
+        }
+
+        byte[] hash = digest.digest();
+        char[] hex = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            hex[i * 2] = HEX[(hash[i] >> 4) & 0xf];
+            hex[i * 2 + 1] = HEX[hash[i] & 0xf];
+        }
+        return new String(hex);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        digest.update((bytes.length + ":").getBytes(StandardCharsets.UTF_8));
+        digest.update(bytes);
+    }
+
+    /**
+     * Get the completion cached under the key, or request it from the AI service. Concurrent calls
+     * for the same key share a single request.
+     *
+     * @param key Cache key, see {@link #key}
+     * @param completion Requests the completion from the AI service
+     * @return The completion
+     */
+    public Mono<String> getOrCompute(String key, Supplier<Mono<String>> completion) {
+        return Mono.defer(
+                () -> {
+                    CachedCompletion cached = store.get(key);
+                    if (cached != null) {
+                        hits.increment();
+                        savedLatencyNanos.add(cached.getLatency().toNanos());
+                        return Mono.just(cached.getText());
+                    }
+
+                    boolean[] created = {false};
+                    Mono<String> request =
+                            inFlight.computeIfAbsent(
+                                    key,
+                                    k -> {
+                                        created[0] = true;
+                                        return request(k, completion);
+                                    });
+
+                    if (created[0]) {
+                        misses.increment();
+                    } else {
+                        coalesced.increment();
+                    }
+
+                    return request.doFinally(signal -> inFlight.remove(key, request));
+                });
+    }
+
+    private Mono<String> request(String key, Supplier<Mono<String>> completion) {
+        return Mono.defer(
+                        () -> {
+                            long start = System.nanoTime();
+                            return completion
+                                    .get()
+                                    .doOnNext(
+                                            text ->
+                                                    store.put(
+                                                            key,
+                                                            new CachedCompletion(
+                                                                    text,
+                                                                    Duration.ofNanos(
+                                                                            System.nanoTime()
+                                                                                    - start),
+                                                                    clock.instant())));
+                        })
+                .cache();
+    }
+
+    /**
+     * Get the hit ratio and the latency saved by this cache so far
+     *
+     * @return Snapshot of the statistics
+     */
+    public CompletionCacheStats getStats() {
+        return new CompletionCacheStats(
+                hits.sum(),
+                misses.sum(),
+                coalesced.sum(),
+                Duration.ofNanos(savedLatencyNanos.sum()));
+    }
+}
@@ -0,0 +1,81 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.ai.cache;
+
+import java.time.Duration;
+
+/** Statistics of a {@link CompletionCache} */
+public final class CompletionCacheStats {
+
+    private final long hits;
+    private final long misses;
+    private final long coalesced;
+    private final Duration savedLatency;
+
+    public CompletionCacheStats(long hits, long misses, long coalesced, Duration savedLatency) {
+        this.hits = hits;
+        this.misses = misses;
+        this.coalesced = coalesced;
+        this.savedLatency = savedLatency;
+    }
+
+    /**
+     * Get the number of requests served from the store
+     *
+     * @return Number of hits
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Get the number of requests sent to the AI service
+     *
+     * @return Number of misses
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Get the number of requests that waited for an identical request already in flight
+     *
+     * @return Number of coalesced requests
+     */
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    /**
+     * Get the share of requests that did not reach the AI service, hits and coalesced requests
+     *
+     * @return Ratio between 0 and 1, 0 when there were no requests
+     */
+    public double getHitRatio() {
+        long total = hits + misses + coalesced;
+        return total == 0 ? 0 : (double) (hits + coalesced) / total;
+    }
+
+    /**
+     * Get the time the AI service spent producing the completions served from the store
+     *
+     * @return Latency saved by cache hits
+     */
+    public Duration getSavedLatency() {
+        return savedLatency;
+    }
+
+    @Override
+    public String toString() {
+        return "CompletionCacheStats{hits="
+                + hits
+                + ", misses="
+                + misses
+                + ", coalesced="
+                + coalesced
+                + ", hitRatio="
+                + getHitRatio()
+                + ", savedLatency="
+                + savedLatency
+                + "}";
+    }
+}
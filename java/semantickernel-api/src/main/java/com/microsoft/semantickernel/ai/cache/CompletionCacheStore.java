@@ -0,0 +1,28 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.ai.cache;
+
+import javax.annotation.Nullable;
+
+/**
+ * Storage behind a {@link CompletionCache}. Stores are called concurrently and must be thread
+ * safe. A store may drop entries at any time, for instance when they expire.
+ */
+public interface CompletionCacheStore {
+
+    /**
+     * Get the completion stored under the key
+     *
+     * @param key Cache key, see {@link CompletionCache#key}
+     * @return The completion, or null if there is none or it has expired
+     */
+    @Nullable
+    CachedCompletion get(String key);
+
+    /**
+     * Store a completion under the key, replacing any previous one
+     *
+     * @param key Cache key, see {@link CompletionCache#key}
+     * @param completion The completion
+     */
+    void put(String key, CachedCompletion completion);
+}
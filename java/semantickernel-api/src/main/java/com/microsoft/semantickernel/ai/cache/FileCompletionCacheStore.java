@@ -0,0 +1,115 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.ai.cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Store keeping one file per completion in a directory, so that completions survive restarts and
+ * can be shared by processes on the same machine. Completions older than the time to live are
+ * deleted on lookup. Failing to read or write a file is logged and treated as a cache miss, the
+ * store never fails a request.
+ */
+public class FileCompletionCacheStore implements CompletionCacheStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileCompletionCacheStore.class);
+
+    private static final String EXTENSION = ".completion";
+
+    private final Path directory;
+    private final Duration timeToLive;
+    private final Clock clock;
+
+    /**
+     * Create a store
+     *
+     * @param directory Directory holding the completions, created if missing
+     * @param timeToLive How long a completion can be served after being stored
+     */
+    public FileCompletionCacheStore(Path directory, Duration timeToLive) {
+        this(directory, timeToLive, Clock.systemUTC());
+    }
+
+    public FileCompletionCacheStore(Path directory, Duration timeToLive, Clock clock) {
+        this.directory = directory;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    @Override
+    @Nullable
+    public CachedCompletion get(String key) {
+        Path file = directory.resolve(key + EXTENSION);
+        try {
+            String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+
+            // <created at millis>\n<latency nanos>\n<text>
+            int firstLine = content.indexOf('\n');
+            int secondLine = content.indexOf('\n', firstLine + 1);
+            if (firstLine < 0 || secondLine < 0) {
+                LOGGER.warn("Ignoring malformed cached completion {}", file);
+                return null;
+            }
+
+            Instant createdAt =
+                    Instant.ofEpochMilli(Long.parseLong(content.substring(0, firstLine)));
+            if (createdAt.plus(timeToLive).isBefore(clock.instant())) {
+                Files.deleteIfExists(file);
+                return null;
+            }
+
+            Duration latency =
+                    Duration.ofNanos(Long.parseLong(content.substring(firstLine + 1, secondLine)));
+            return new CachedCompletion(content.substring(secondLine + 1), latency, createdAt);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | NumberFormatException e) {
+            LOGGER.warn("Failed to read cached completion {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String key, CachedCompletion completion) {
+        Path file = directory.resolve(key + EXTENSION);
+        String content =
+                completion.getCreatedAt().toEpochMilli()
+                        + "\n"
+                        + completion.getLatency().toNanos()
+                        + "\n"
+                        + completion.getText();
+        try {
+            Files.createDirectories(directory);
+
+            // Write to a temporary file first, readers never see a partially written completion
+            Path temp = Files.createTempFile(directory, key, ".tmp");
+            try {
+                Files.write(temp, content.getBytes(StandardCharsets.UTF_8));
+                try {
+                    Files.move(
+                            temp,
+                            file,
+                            StandardCopyOption.ATOMIC_MOVE,
+                            StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write cached completion {}: {}", file, e.getMessage());
+        }
+    }
+}
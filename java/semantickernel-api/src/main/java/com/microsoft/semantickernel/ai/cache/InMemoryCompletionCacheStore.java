@@ -0,0 +1,72 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.ai.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * In-heap store holding up to a fixed number of completions. When full, the least recently used
+ * completion is evicted. Completions older than the time to live are discarded on lookup.
+ */
+public class InMemoryCompletionCacheStore implements CompletionCacheStore {
+
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final LinkedHashMap<String, CachedCompletion> entries;
+
+    /**
+     * Create a store
+     *
+     * @param maxEntries Maximum number of completions kept
+     * @param timeToLive How long a completion can be served after being stored
+     */
+    public InMemoryCompletionCacheStore(int maxEntries, Duration timeToLive) {
+        this(maxEntries, timeToLive, Clock.systemUTC());
+    }
+
+    public InMemoryCompletionCacheStore(int maxEntries, Duration timeToLive, Clock clock) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("A cache store must hold at least one entry");
+        }
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.entries =
+                new LinkedHashMap<String, CachedCompletion>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, CachedCompletion> eldest) {
+                        return size() > maxEntries;
+                    }
+                };
+    }
+
+    @Override
+    @Nullable
+    public synchronized CachedCompletion get(String key) {
+        CachedCompletion completion = entries.get(key);
+        if (completion == null) {
+            return null;
+        }
+        if (completion.getCreatedAt().plus(timeToLive).isBefore(clock.instant())) {
+            entries.remove(key);
+            return null;
+        }
+        return completion;
+    }
+
+    @Override
+    public synchronized void put(String key, CachedCompletion completion) {
+        entries.put(key, completion);
+    }
+
+    /**
+     * Get the number of completions held, including expired ones not yet discarded
+     *
+     * @return Number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -31,7 +31,47 @@ public class Embedding {
      */
     public Embedding(@Nonnull List<Float> vector) {
         Objects.requireNonNull(vector);
-        this.vector = Collections.unmodifiableList(vector);
+        if (vector instanceof FloatArrayList) {
+            this.vector = vector;
+        } else {
+            this.vector = Collections.unmodifiableList(vector);
+        }
+    }
+
+    /**
+     * Initializes a new instance of the Embedding class that contains numeric elements copied from
+     * the specified array. The elements are stored unboxed.
+     *
+     * @param vector The array whose elements are copied to the new Embedding
+     */
+    public Embedding(@Nonnull float[] vector) {
+        Objects.requireNonNull(vector);
+        this.vector = new FloatArrayList(vector.clone());
+    }
+
+    /**
+     * Creates an embedding from a vector of doubles, as decoded by the OpenAI SDK. The elements are
+     * narrowed to floats and stored unboxed, in a single copy.
+     *
+     * @param vector The vector
+     * @return The new Embedding
+     */
+    public static Embedding fromDoubles(@Nonnull List<Double> vector) {
+        Objects.requireNonNull(vector);
+        float[] array = new float[vector.size()];
+        int i = 0;
+        for (Double value : vector) {
+            array[i++] = value.floatValue();
+        }
+        return wrap(array);
+    }
+
+    /**
+     * Creates an embedding backed by the array, without copying it. The array must not be modified
+     * afterwards.
+     */
+    static Embedding wrap(float[] vector) {
+        return new Embedding(new FloatArrayList(vector));
     }
 
     /**
@@ -0,0 +1,34 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.ai.embeddings;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Read-only list view over a primitive float array. Elements are only boxed when they are read
+ * through the {@link java.util.List} interface, {@link VectorOperations} works on the array
+ * directly.
+ */
+final class FloatArrayList extends AbstractList<Float> implements RandomAccess {
+
+    // array is never modified after construction
+    private final float[] array;
+
+    FloatArrayList(float[] array) {
+        this.array = array;
+    }
+
+    float[] array() {
+        return array;
+    }
+
+    @Override
+    public Float get(int index) {
+        return array[index];
+    }
+
+    @Override
+    public int size() {
+        return array.length;
+    }
+}
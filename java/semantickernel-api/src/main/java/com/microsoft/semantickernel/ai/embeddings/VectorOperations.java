@@ -51,6 +51,15 @@ final class VectorOperations {
             throw new IllegalArgumentException("Divisor cannot be zero");
         }
 
+        if (vector instanceof FloatArrayList) {
+            float[] array = ((FloatArrayList) vector).array();
+            float[] result = new float[array.length];
+            for (int i = 0; i < array.length; ++i) {
+                result[i] = array[i] / divisor;
+            }
+            return new FloatArrayList(result);
+        }
+
         return vector.stream().map(x -> x / divisor).collect(Collectors.toList());
     }
 
@@ -62,6 +71,10 @@ final class VectorOperations {
             throw new IllegalArgumentException("Vectors lengths must be equal");
         }
 
+        if (x instanceof FloatArrayList && y instanceof FloatArrayList) {
+            return dot(((FloatArrayList) x).array(), ((FloatArrayList) y).array());
+        }
+
         float result = 0;
         for (int i = 0; i < x.size(); ++i) {
             result += x.get(i) * y.get(i);
@@ -70,6 +83,15 @@ final class VectorOperations {
         return result;
     }
 
+    private static float dot(float[] x, float[] y) {
+        float result = 0;
+        for (int i = 0; i < x.length; ++i) {
+            result += x[i] * y[i];
+        }
+
+        return result;
+    }
+
     /**
      * Calculates the Euclidean length of a vector.
      *
@@ -97,6 +119,15 @@ final class VectorOperations {
             throw new IllegalArgumentException("Multiplier cannot be infinite");
         }
 
+        if (vector instanceof FloatArrayList) {
+            float[] array = ((FloatArrayList) vector).array();
+            float[] result = new float[array.length];
+            for (int i = 0; i < array.length; ++i) {
+                result[i] = array[i] * multiplier;
+            }
+            return new FloatArrayList(result);
+        }
+
         return vector.stream().map(x -> x * multiplier).collect(Collectors.toList());
     }
 
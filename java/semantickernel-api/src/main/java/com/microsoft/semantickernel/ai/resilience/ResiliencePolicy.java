@@ -0,0 +1,433 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.ai.resilience;
+
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpResponse;
+import com.microsoft.semantickernel.ai.AIException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Retry and circuit breaking policy applied by the kernel around calls to AI services.
+ *
+ * <p>Throttled (429) and failed (5xx) requests are retried after the delay advertised by the
+ * service in its Retry-After header or, when there is none, after a jittered exponential backoff.
+ * Retries are drawn from a retry budget shared by every call made through the policy, so that
+ * concurrent requests do not all retry at once against a struggling service. Each service has a
+ * circuit breaker that opens after consecutive failures. The request that opens the breaker fails
+ * with the error of the service; while the breaker is open, requests to the service fail fast with
+ * {@link AIException.ErrorCodes#SERVICE_UNAVAILABLE}, or are sent to the fallback service when one
+ * is configured.
+ *
+ * <p>The clients of the Azure SDK retry throttled and failed requests in their HTTP pipeline as
+ * well, and each of their attempts counts as a single call for the policy: with both enabled a
+ * request is sent up to {@code (pipeline retries + 1) * (maxRetries + 1)} times, and the circuit
+ * breakers only see the pipeline's last error. Let the policy retry alone by building the client
+ * without pipeline retries:
+ *
+ * <pre>{@code
+ * new OpenAIClientBuilder()
+ *         .retryOptions(new RetryOptions(new FixedDelayOptions(0, Duration.ZERO)))
+ *         ...
+ * }</pre>
+ *
+ * <p>A policy holds the retry budget and circuit breakers, share one instance between kernels to
+ * coordinate them.
+ */
+public class ResiliencePolicy {
+
+    private static final String RETRY_AFTER_MS_HEADER = "retry-after-ms";
+    private static final String MS_RETRY_AFTER_MS_HEADER = "x-ms-retry-after-ms";
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    private final int maxRetries;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    @Nullable private final String fallbackServiceId;
+    private final Clock clock;
+
+    private final RetryBudget retryBudget;
+    private final Map<Object, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    protected ResiliencePolicy(
+            int maxRetries,
+            Duration baseDelay,
+            Duration maxDelay,
+            int retryBudget,
+            double retriesPerRequest,
+            int failureThreshold,
+            Duration openDuration,
+            @Nullable String fallbackServiceId,
+            Clock clock) {
+        this.maxRetries = maxRetries;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.fallbackServiceId = fallbackServiceId;
+        this.clock = clock;
+        this.retryBudget = new RetryBudget(retryBudget, retriesPerRequest);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get the id of the service to use while the circuit breaker of a service is open
+     *
+     * @return The id of the fallback service, or null to fail fast
+     */
+    @Nullable
+    public String getFallbackServiceId() {
+        return fallbackServiceId;
+    }
+
+    /**
+     * Whether the circuit breaker of the service is currently open. Once the open duration has
+     * elapsed the breaker is half open, and no longer reported as open, as the next request is let
+     * through as a trial.
+     *
+     * @param service The service
+     * @return true if requests to the service are being rejected
+     */
+    public boolean isOpen(Object service) {
+        CircuitBreaker circuitBreaker = circuitBreakers.get(service);
+        return circuitBreaker != null && circuitBreaker.getState() == CircuitBreaker.State.OPEN;
+    }
+
+    /**
+     * Whether the error was raised because the circuit breaker of a service is open
+     *
+     * @param error The error
+     * @return true if the error signals an open circuit breaker
+     */
+    public static boolean isServiceUnavailable(Throwable error) {
+        return error instanceof AIException
+                && ((AIException) error).getErrorCode()
+                        == AIException.ErrorCodes.SERVICE_UNAVAILABLE;
+    }
+
+    /**
+     * Execute a single-valued call to a service under this policy
+     *
+     * @param service The service being called, identifies its circuit breaker
+     * @param call Creates the request, invoked again for every retry
+     * @return The result of the call
+     */
+    public <T> Mono<T> execute(Object service, Supplier<Mono<T>> call) {
+        return executeMany(service, call).singleOrEmpty();
+    }
+
+    /**
+     * Execute a streaming call to a service under this policy. A stream that fails after emitting
+     * elements is not retried, as that would replay the elements already emitted.
+     *
+     * @param service The service being called, identifies its circuit breaker
+     * @param call Creates the request, invoked again for every retry
+     * @return The elements emitted by the call
+     */
+    public <T> Flux<T> executeMany(Object service, Supplier<? extends Publisher<T>> call) {
+        CircuitBreaker circuitBreaker =
+                circuitBreakers.computeIfAbsent(
+                        service, key -> new CircuitBreaker(failureThreshold, openDuration, clock));
+
+        return Flux.defer(
+                () -> {
+                    retryBudget.deposit();
+                    return attempt(circuitBreaker, call, 0);
+                });
+    }
+
+    private <T> Flux<T> attempt(
+            CircuitBreaker circuitBreaker, Supplier<? extends Publisher<T>> call, int attempt) {
+        return Flux.defer(
+                () -> {
+                    if (!circuitBreaker.tryAcquire()) {
+                        return Flux.error(unavailable());
+                    }
+
+                    AtomicBoolean emitted = new AtomicBoolean(false);
+
+                    return Flux.<T>from(call.get())
+                            .doOnNext(
+                                    it -> {
+                                        if (emitted.compareAndSet(false, true)) {
+                                            circuitBreaker.onSuccess();
+                                        }
+                                    })
+                            .doOnComplete(circuitBreaker::onSuccess)
+                            .doOnCancel(circuitBreaker::onCancel)
+                            .onErrorResume(
+                                    error -> {
+                                        if (!isRetryable(error)) {
+                                            circuitBreaker.onCancel();
+                                            return Flux.error(error);
+                                        }
+
+                                        circuitBreaker.onFailure();
+
+                                        // The call that opens the breaker fails with its own error
+                                        if (emitted.get()
+                                                || circuitBreaker.getState()
+                                                        == CircuitBreaker.State.OPEN
+                                                || attempt >= maxRetries) {
+                                            return Flux.error(error);
+                                        }
+
+                                        Duration delay = retryDelay(error, attempt);
+                                        if (delay == null || !retryBudget.tryWithdraw()) {
+                                            return Flux.error(error);
+                                        }
+
+                                        return Mono.delay(delay)
+                                                .thenMany(
+                                                        attempt(circuitBreaker, call, attempt + 1));
+                                    });
+                });
+    }
+
+    /**
+     * Delay before the next attempt, the delay requested by the service if any, otherwise an
+     * exponential backoff with jitter. Returns null if the service asks to wait longer than the
+     * maximum delay.
+     */
+    @Nullable
+    private Duration retryDelay(Throwable error, int attempt) {
+        Duration retryAfter = getRetryAfter(error);
+        if (retryAfter != null) {
+            return retryAfter.compareTo(maxDelay) > 0 ? null : retryAfter;
+        }
+
+        long backoff = baseDelay.toMillis() << Math.min(attempt, 30);
+        if (backoff <= 0 || backoff > maxDelay.toMillis()) {
+            backoff = maxDelay.toMillis();
+        }
+        // Equal jitter, wait at least half of the backoff
+        long half = backoff / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    private static AIException unavailable() {
+        return new AIException(
+                AIException.ErrorCodes.SERVICE_UNAVAILABLE,
+                "Circuit breaker is open after repeated throttling or server errors");
+    }
+
+    /**
+     * Whether the error is a throttling or server error worth retrying
+     *
+     * @param error The error
+     * @return true if the request may succeed when retried
+     */
+    public static boolean isRetryable(Throwable error) {
+        if (error instanceof HttpResponseException) {
+            HttpResponse response = ((HttpResponseException) error).getResponse();
+            if (response == null) {
+                return false;
+            }
+            int statusCode = response.getStatusCode();
+            return statusCode == 429 || statusCode == 408 || statusCode >= 500;
+        }
+        if (error instanceof AIException) {
+            switch (((AIException) error).getErrorCode()) {
+                case THROTTLING:
+                case REQUEST_TIMEOUT:
+                case SERVICE_ERROR:
+                    return true;
+                default:
+                    return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Extract the delay requested by the service before retrying from the response headers
+     *
+     * @param error The error
+     * @return The requested delay, or null if the service did not provide one
+     */
+    @Nullable
+    public static Duration getRetryAfter(Throwable error) {
+        if (!(error instanceof HttpResponseException)) {
+            return null;
+        }
+        HttpResponse response = ((HttpResponseException) error).getResponse();
+        if (response == null) {
+            return null;
+        }
+
+        Duration millis = parseMillis(response, RETRY_AFTER_MS_HEADER);
+        if (millis == null) {
+            millis = parseMillis(response, MS_RETRY_AFTER_MS_HEADER);
+        }
+        if (millis != null) {
+            return millis;
+        }
+
+        @SuppressWarnings("deprecation")
+        String retryAfter = response.getHeaderValue(RETRY_AFTER_HEADER);
+        if (retryAfter == null || retryAfter.trim().isEmpty()) {
+            return null;
+        }
+        retryAfter = retryAfter.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter)));
+        } catch (NumberFormatException e) {
+            // Not delta-seconds, try an HTTP date
+        }
+        try {
+            ZonedDateTime date =
+                    ZonedDateTime.parse(retryAfter, DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration delay = Duration.between(ZonedDateTime.now(date.getZone()), date);
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static Duration parseMillis(HttpResponse response, String header) {
+        @SuppressWarnings("deprecation")
+        String value = response.getHeaderValue(header);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Duration.ofMillis(Math.max(0, (long) Double.parseDouble(value.trim())));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /** Builder for a {@link ResiliencePolicy} */
+    public static class Builder {
+        private int maxRetries = 3;
+        private Duration baseDelay = Duration.ofMillis(500);
+        private Duration maxDelay = Duration.ofSeconds(30);
+        private int retryBudget = 10;
+        private double retriesPerRequest = 0.2;
+        private int failureThreshold = 5;
+        private Duration openDuration = Duration.ofSeconds(30);
+        @Nullable private String fallbackServiceId = null;
+        private Clock clock = Clock.systemUTC();
+
+        /**
+         * Set the maximum number of retries of a single call. Defaults to 3.
+         *
+         * @param maxRetries Maximum number of retries
+         * @return Builder
+         */
+        public Builder withMaxRetries(int maxRetries) {
+            if (maxRetries < 0) {
+                throw new IllegalArgumentException("Max retries must be >=0");
+            }
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * Set the base and maximum delays of the exponential backoff. A call is not retried if the
+         * service asks to wait longer than the maximum delay. Defaults to 500ms and 30s.
+         *
+         * @param baseDelay Delay before the first retry
+         * @param maxDelay Maximum delay between two attempts
+         * @return Builder
+         */
+        public Builder withBackoff(Duration baseDelay, Duration maxDelay) {
+            if (baseDelay.isNegative() || maxDelay.compareTo(baseDelay) < 0) {
+                throw new IllegalArgumentException("Invalid backoff delays");
+            }
+            this.baseDelay = baseDelay;
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Set the global retry budget. Every call earns {@code retriesPerRequest} retries, up to a
+         * maximum of {@code maxRetries} retries kept in reserve. Defaults to 10 and 0.2, retries
+         * are limited to 20% of the calls once the reserve is spent.
+         *
+         * @param maxRetries Maximum number of retries kept in reserve
+         * @param retriesPerRequest Retries earned by every call
+         * @return Builder
+         */
+        public Builder withRetryBudget(int maxRetries, double retriesPerRequest) {
+            if (maxRetries < 0 || retriesPerRequest < 0) {
+                throw new IllegalArgumentException("Retry budget must not be negative");
+            }
+            this.retryBudget = maxRetries;
+            this.retriesPerRequest = retriesPerRequest;
+            return this;
+        }
+
+        /**
+         * Configure the circuit breakers. Defaults to opening after 5 consecutive failures, for 30
+         * seconds.
+         *
+         * @param failureThreshold Consecutive throttling or server errors that open the breaker
+         * @param openDuration Time the breaker stays open before a trial request is allowed
+         * @return Builder
+         */
+        public Builder withCircuitBreaker(int failureThreshold, Duration openDuration) {
+            if (failureThreshold < 1 || openDuration.isNegative()) {
+                throw new IllegalArgumentException("Invalid circuit breaker configuration");
+            }
+            this.failureThreshold = failureThreshold;
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        /**
+         * Send requests to another registered service while the circuit breaker of a service is
+         * open, rather than failing fast
+         *
+         * @param serviceId Id of the fallback service
+         * @return Builder
+         */
+        public Builder withFallbackService(@Nullable String serviceId) {
+            this.fallbackServiceId = serviceId;
+            return this;
+        }
+
+        /**
+         * Set the clock timing the open duration of the circuit breakers. Defaults to the system
+         * clock.
+         *
+         * @param clock The clock
+         * @return Builder
+         */
+        public Builder withClock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public ResiliencePolicy build() {
+            return new ResiliencePolicy(
+                    maxRetries,
+                    baseDelay,
+                    maxDelay,
+                    retryBudget,
+                    retriesPerRequest,
+                    failureThreshold,
+                    openDuration,
+                    fallbackServiceId,
+                    clock);
+        }
+    }
+}
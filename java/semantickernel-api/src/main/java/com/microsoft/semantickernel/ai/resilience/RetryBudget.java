@@ -0,0 +1,42 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.ai.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket limiting retries to a fraction of the requests made through a {@link
+ * ResiliencePolicy}. Every request deposits a fraction of a token, every retry withdraws a whole
+ * one, so concurrent callers cannot multiply the load on a struggling service.
+ */
+final class RetryBudget {
+
+    // Balance is kept in thousandths of a token
+    private static final long SCALE = 1000;
+
+    private final long maxBalance;
+    private final long depositPerRequest;
+    private final AtomicLong balance;
+
+    RetryBudget(int maxRetries, double retriesPerRequest) {
+        this.maxBalance = maxRetries * SCALE;
+        this.depositPerRequest = (long) (retriesPerRequest * SCALE);
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    void deposit() {
+        balance.accumulateAndGet(
+                depositPerRequest, (current, x) -> Math.min(maxBalance, current + x));
+    }
+
+    boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+}
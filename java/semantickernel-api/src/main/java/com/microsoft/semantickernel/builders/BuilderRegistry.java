@@ -0,0 +1,36 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.builders;
+
+import java.util.function.Supplier;
+
+/**
+ * Provides builder implementations directly, rather than through META-INF/services files. Builders
+ * of a registry are created without scanning the classpath or calling constructors reflectively,
+ * which shortens the start up of short lived applications.
+ *
+ * <p>Registries are opt in, list their class names, comma separated, in the {@value
+ * BuildersSingleton#REGISTRY_PROPERTY} system property. Builders that no registry provides are
+ * still service loaded.
+ */
+public interface BuilderRegistry {
+
+    /**
+     * Register the builders of this registry
+     *
+     * @param registrar Receives the builders
+     */
+    void registerBuilders(Registrar registrar);
+
+    /** Receives the builders of a {@link BuilderRegistry} */
+    interface Registrar {
+
+        /**
+         * Register a builder
+         *
+         * @param clazz The builder interface
+         * @param builder Creates a new builder instance on every call
+         */
+        <U extends Buildable, T extends SemanticKernelBuilder<U>> void register(
+                Class<T> clazz, Supplier<? extends T> builder);
+    }
+}
@@ -11,6 +11,7 @@ import com.microsoft.semantickernel.orchestration.ContextVariables;
 import com.microsoft.semantickernel.orchestration.SKContext;
 import com.microsoft.semantickernel.semanticfunctions.PromptTemplate;
 import com.microsoft.semantickernel.semanticfunctions.PromptTemplateConfig;
+import com.microsoft.semantickernel.services.MemoizedSupplier;
 import com.microsoft.semantickernel.skilldefinition.ReadOnlySkillCollection;
 import com.microsoft.semantickernel.templateengine.PromptTemplateEngine;
 import com.microsoft.semantickernel.textcompletion.CompletionSKFunction;
@@ -18,10 +19,15 @@ import com.microsoft.semantickernel.textcompletion.TextCompletion;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Enum singleton that service loads builder implementations */
+/**
+ * Enum singleton that service loads builder implementations. Each builder is looked up once, on
+ * first use, and builders of the {@link BuilderRegistry registries} named in {@value
+ * #REGISTRY_PROPERTY} are not looked up at all.
+ */
 @SuppressWarnings("ImmutableEnumChecker")
 public enum BuildersSingleton {
     INST;
@@ -58,37 +64,83 @@ public enum BuildersSingleton {
     private static final String FALLBACK_VARIABLE_BUILDER_CLASS =
             "com.microsoft.semantickernel.orchestration.DefaultContextVariables$Builder";
 
-    private final Map<Class<? extends SemanticKernelBuilder<?>>, Supplier<? extends Buildable>>
-            builders = new HashMap<>();
+    /** System property listing the {@link BuilderRegistry} classes to use, comma separated */
+    public static final String REGISTRY_PROPERTY = "semantickernel.builders.registry";
+
+    // Builder factories, each resolved once on first use. Only written while constructing.
+    private final Map<Class<?>, Supplier<Supplier<?>>> builders = new HashMap<>();
 
     BuildersSingleton() {
+        // Keep this list in alphabetical order by fallback variable name
+        registerBuilder(ChatCompletion.Builder.class, FALLBACK_CHAT_COMPLETION_BUILDER_CLASS);
+        registerBuilder(
+                PromptTemplateConfig.CompletionConfigBuilder.class,
+                FALLBACK_COMPLETION_CONFIG_BUILDER_CLASS);
+        registerBuilder(
+                CompletionSKFunction.Builder.class, FALLBACK_COMPLETION_FUNCTION_BUILDER_CLASS);
+        registerBuilder(SKContext.Builder.class, FALLBACK_CONTEXT_BUILDER_CLASS);
+        registerBuilder(
+                TextEmbeddingGeneration.Builder.class,
+                FALLBACK_TEXT_EMBEDDING_GENERATION_BUILDER_CLASS);
+        registerBuilder(Kernel.Builder.class, FALLBACK_KERNEL_BUILDER_CLASS);
+        registerBuilder(KernelConfig.Builder.class, FALLBACK_KERNEL_CONFIG_BUILDER_CLASS);
+        registerBuilder(MemoryStore.Builder.class, FALLBACK_MEMORY_STORE_BUILDER_CLASS);
+        registerBuilder(PromptTemplate.Builder.class, FALLBACK_PROMPT_TEMPLATE_BUILDER_CLASS);
+        registerBuilder(
+                PromptTemplateEngine.Builder.class, FALLBACK_PROMPT_TEMPLATE_ENGINE_BUILDER_CLASS);
+        registerBuilder(SemanticTextMemory.Builder.class, FALLBACK_SEMANTIC_TEXT_MEMORY_CLASS);
+        registerBuilder(
+                ReadOnlySkillCollection.Builder.class, FALLBACK_SKILL_COLLECTION_BUILDER_CLASS);
+        registerBuilder(TextCompletion.Builder.class, FALLBACK_TEXT_COMPLETION_BUILDER_CLASS);
+        registerBuilder(ContextVariables.Builder.class, FALLBACK_VARIABLE_BUILDER_CLASS);
+
+        registerStaticBuilders(System.getProperty(REGISTRY_PROPERTY));
+    }
+
+    private <U extends Buildable, T extends SemanticKernelBuilder<U>> void registerBuilder(
+            Class<T> clazz, String fallbackClassName) {
+        // Service loading is deferred to the first use, builders that are never used are never
+        // looked up
+        builders.put(
+                clazz, MemoizedSupplier.<Supplier<?>>of(() -> resolve(clazz, fallbackClassName)));
+    }
+
+    private void registerStaticBuilders(@Nullable String registries) {
+        if (registries == null || registries.trim().isEmpty()) {
+            return;
+        }
+
+        for (String className : registries.split(",")) {
+            try {
+                BuilderRegistry registry =
+                        (BuilderRegistry)
+                                Class.forName(className.trim())
+                                        .getDeclaredConstructor()
+                                        .newInstance();
+                registry.registerBuilders(this::registerStaticBuilder);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                LoggerFactory.getLogger(BuildersSingleton.class)
+                        .warn(
+                                "Failed to load builder registry "
+                                        + className
+                                        + ", its builders will be service loaded",
+                                e);
+            }
+        }
+    }
+
+    private <U extends Buildable, T extends SemanticKernelBuilder<U>> void registerStaticBuilder(
+            Class<T> clazz, Supplier<? extends T> builder) {
+        builders.put(clazz, () -> builder);
+    }
+
+    private static <U extends Buildable, T extends SemanticKernelBuilder<U>> Supplier<T> resolve(
+            Class<T> clazz, String fallbackClassName) {
         try {
-            // Keep this list in alphabetical order by fallback variable name
-            registerBuilder(ChatCompletion.Builder.class, FALLBACK_CHAT_COMPLETION_BUILDER_CLASS);
-            registerBuilder(
-                    PromptTemplateConfig.CompletionConfigBuilder.class,
-                    FALLBACK_COMPLETION_CONFIG_BUILDER_CLASS);
-            registerBuilder(
-                    CompletionSKFunction.Builder.class, FALLBACK_COMPLETION_FUNCTION_BUILDER_CLASS);
-            registerBuilder(SKContext.Builder.class, FALLBACK_CONTEXT_BUILDER_CLASS);
-            registerBuilder(
-                    TextEmbeddingGeneration.Builder.class,
-                    FALLBACK_TEXT_EMBEDDING_GENERATION_BUILDER_CLASS);
-            registerBuilder(Kernel.Builder.class, FALLBACK_KERNEL_BUILDER_CLASS);
-            registerBuilder(KernelConfig.Builder.class, FALLBACK_KERNEL_CONFIG_BUILDER_CLASS);
-            registerBuilder(MemoryStore.Builder.class, FALLBACK_MEMORY_STORE_BUILDER_CLASS);
-            registerBuilder(PromptTemplate.Builder.class, FALLBACK_PROMPT_TEMPLATE_BUILDER_CLASS);
-            registerBuilder(
-                    PromptTemplateEngine.Builder.class,
-                    FALLBACK_PROMPT_TEMPLATE_ENGINE_BUILDER_CLASS);
-            registerBuilder(SemanticTextMemory.Builder.class, FALLBACK_SEMANTIC_TEXT_MEMORY_CLASS);
-            registerBuilder(
-                    ReadOnlySkillCollection.Builder.class, FALLBACK_SKILL_COLLECTION_BUILDER_CLASS);
-            registerBuilder(TextCompletion.Builder.class, FALLBACK_TEXT_COMPLETION_BUILDER_CLASS);
-            registerBuilder(ContextVariables.Builder.class, FALLBACK_VARIABLE_BUILDER_CLASS);
+            return ServiceLoadUtil.findServiceLoader(clazz, fallbackClassName);
         } catch (Throwable e) {
             Logger LOGGER = LoggerFactory.getLogger(BuildersSingleton.class);
-            LOGGER.error("Failed to discover Semantic Kernel Builders", e);
+            LOGGER.error("Failed to discover Semantic Kernel Builder " + clazz.getName(), e);
             LOGGER.error(
                     "This is likely due to:\n\n"
                         + "- The Semantic Kernel implementation (typically provided by"
@@ -111,17 +163,8 @@ public enum BuildersSingleton {
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private <U extends Buildable, T extends SemanticKernelBuilder<U>> void registerBuilder(
-            Class<T> clazz, String fallbackClassName) {
-        builders.put(
-                clazz,
-                (Supplier<? extends Buildable>)
-                        ServiceLoadUtil.findServiceLoader(clazz, fallbackClassName));
-    }
-
     @SuppressWarnings("unchecked")
     public <U extends Buildable, T extends SemanticKernelBuilder<U>> T getInstance(Class<T> clazz) {
-        return (T) builders.get(clazz).get();
+        return (T) builders.get(clazz).get().get();
     }
 }
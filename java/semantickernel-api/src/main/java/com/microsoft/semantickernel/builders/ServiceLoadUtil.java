@@ -18,12 +18,13 @@ public class ServiceLoadUtil {
 
     public static <U extends Buildable, T extends SemanticKernelBuilder<U>>
             Supplier<T> findServiceLoader(Class<T> clazz, String alternativeClassName) {
-        List<T> services = findAllServiceLoaders(clazz);
+        // Only the first provider is used, do not instantiate the others
+        Iterator<T> services = ServiceLoader.load(clazz).iterator();
 
         T impl = null;
 
-        if (services.size() > 0) {
-            impl = services.get(0);
+        if (services.hasNext()) {
+            impl = services.next();
         }
 
         if (impl == null) {
@@ -49,14 +50,9 @@ public class ServiceLoadUtil {
         }
 
         try {
+            // impl is an instance of clazz created by this constructor, no need to test it again
             Constructor<?> constructor = impl.getClass().getConstructor();
 
-            // Test that we can construct the builder
-            if (!clazz.isInstance(constructor.newInstance())) {
-                throw new RuntimeException(
-                        "Builder creates instance of the wrong type: " + clazz.getName());
-            }
-
             return () -> {
                 try {
                     return (T) constructor.newInstance();
@@ -69,8 +65,6 @@ public class ServiceLoadUtil {
         } catch (NoSuchMethodException e) {
             throw new RuntimeException(
                     "Builder requires a no args constructor: " + clazz.getName());
-        } catch (InvocationTargetException | InstantiationException | IllegalAccessException e) {
-            throw new RuntimeException("Builder is of wrong type: " + clazz.getName());
         }
     }
 
@@ -36,6 +36,19 @@ public interface ChatCompletion<ChatHistoryType extends ChatHistory>
     Flux<String> generateMessageStream(
             ChatHistoryType chatHistory, @Nullable ChatRequestSettings requestSettings);
 
+    /**
+     * Generate a new chat message, emitting each fragment of the message as soon as it is received
+     * from the AI service. Concatenating the emitted fragments yields the full message.
+     *
+     * @param chatHistory Chat history
+     * @param requestSettings AI request settings
+     * @return Fragments of the generated chat message
+     */
+    default Flux<String> generateMessageDeltaStream(
+            ChatHistoryType chatHistory, @Nullable ChatRequestSettings requestSettings) {
+        return generateMessageStream(chatHistory, requestSettings);
+    }
+
     Flux<ChatCompletions> getStreamingChatCompletionsAsync(
             ChatHistoryType chat, ChatRequestSettings requestSettings);
 
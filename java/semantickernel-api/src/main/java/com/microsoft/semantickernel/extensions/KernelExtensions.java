@@ -3,6 +3,7 @@ package com.microsoft.semantickernel.extensions;
 
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.microsoft.semantickernel.KernelException;
 import com.microsoft.semantickernel.KernelException.ErrorCodes;
 import com.microsoft.semantickernel.SKBuilders;
@@ -16,8 +17,10 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,12 +31,35 @@ public class KernelExtensions {
     private static final String CONFIG_FILE = "config.json";
     private static final String PROMPT_FILE = "skprompt.txt";
 
+    // Readers are immutable and shared by all the threads loading functions
+    private static final ObjectReader CONFIG_READER =
+            new ObjectMapper().readerFor(PromptTemplateConfig.class);
+
     private KernelExtensions() {}
 
     public static Map<String, SemanticFunctionConfig> importSemanticSkillFromDirectory(
             String parentDirectory,
             String skillDirectoryName,
             PromptTemplateEngine promptTemplateEngine) {
+        return importSemanticSkillFromDirectory(
+                parentDirectory, skillDirectoryName, promptTemplateEngine, false);
+    }
+
+    /**
+     * Load the semantic functions of a skill directory, each function in a sub directory with a
+     * skprompt.txt and an optional config.json. Functions are loaded in parallel.
+     *
+     * @param parentDirectory Directory containing the skill directory
+     * @param skillDirectoryName Name of the skill directory
+     * @param promptTemplateEngine Engine rendering the prompts
+     * @param lazyPromptLoading Whether the prompts are read when first used rather than now
+     * @return The functions indexed by name
+     */
+    public static Map<String, SemanticFunctionConfig> importSemanticSkillFromDirectory(
+            String parentDirectory,
+            String skillDirectoryName,
+            PromptTemplateEngine promptTemplateEngine,
+            boolean lazyPromptLoading) {
 
         // Verify.ValidSkillName(skillDirectoryName);
         File skillDir = new File(parentDirectory, skillDirectoryName);
@@ -46,50 +72,101 @@ public class KernelExtensions {
                     "No Skills found in directory " + skillDir.getAbsolutePath());
         }
 
-        HashMap<String, SemanticFunctionConfig> skills = new HashMap<>();
+        Map<String, SemanticFunctionConfig> skills = new ConcurrentHashMap<>();
+
+        // Functions do not depend on each other, read and parse them in parallel
+        Arrays.stream(files)
+                .parallel()
+                .forEach(
+                        dir -> {
+                            SemanticFunctionConfig function =
+                                    loadFunction(dir, promptTemplateEngine, lazyPromptLoading);
+                            if (function != null) {
+                                skills.put(dir.getName(), function);
+                            }
+                        });
+
+        return new HashMap<>(skills);
+    }
 
-        for (File dir : files) {
-            try {
-                // Continue only if prompt template exists
-                File promptPath = new File(dir, PROMPT_FILE);
-                if (!promptPath.exists()) {
-                    continue;
-                }
-
-                // Load prompt configuration. Note: the configuration is
-                // optional.
-                PromptTemplateConfig config = new PromptTemplateConfig("", "", null);
-
-                File configPath = new File(dir, CONFIG_FILE);
-                if (configPath.exists()) {
-                    config = new ObjectMapper().readValue(configPath, PromptTemplateConfig.class);
-
-                    // Verify.NotNull(config, $"Invalid prompt template
-                    // configuration, unable to parse {configPath}");
-                }
-
-                // kernel.Log.LogTrace("Config {0}: {1}", functionName,
-                // config.ToJson());
-
-                // Load prompt template
-                String template =
-                        new String(
-                                Files.readAllBytes(promptPath.toPath()), Charset.defaultCharset());
-
-                PromptTemplate promptTemplate =
-                        SKBuilders.promptTemplate()
-                                .withPromptTemplate(template)
-                                .withPromptTemplateConfig(config)
-                                .withPromptTemplateEngine(promptTemplateEngine)
-                                .build();
-
-                skills.put(dir.getName(), new SemanticFunctionConfig(config, promptTemplate));
-            } catch (IOException e) {
-                LOGGER.error("Failed to read file", e);
+    /**
+     * Load a single semantic function of a skill directory, as {@link
+     * #importSemanticSkillFromDirectory} would.
+     *
+     * @param parentDirectory Directory containing the skill directory
+     * @param skillDirectoryName Name of the skill directory
+     * @param functionName Name of the function, that is of its sub directory
+     * @param promptTemplateEngine Engine rendering the prompts
+     * @param lazyPromptLoading Whether the prompt is read when first used rather than now
+     * @return The function, or null if the directory does not hold a readable function
+     */
+    @Nullable
+    public static SemanticFunctionConfig importSemanticFunctionFromDirectory(
+            String parentDirectory,
+            String skillDirectoryName,
+            String functionName,
+            PromptTemplateEngine promptTemplateEngine,
+            boolean lazyPromptLoading) {
+        File functionDir = new File(new File(parentDirectory, skillDirectoryName), functionName);
+        return loadFunction(functionDir, promptTemplateEngine, lazyPromptLoading);
+    }
+
+    @Nullable
+    private static SemanticFunctionConfig loadFunction(
+            File dir, PromptTemplateEngine promptTemplateEngine, boolean lazyPromptLoading) {
+        try {
+            // Continue only if prompt template exists
+            File promptPath = new File(dir, PROMPT_FILE);
+            if (!promptPath.exists()) {
+                return null;
             }
+
+            // Load prompt configuration. Note: the configuration is
+            // optional.
+            PromptTemplateConfig config = new PromptTemplateConfig("", "", null);
+
+            File configPath = new File(dir, CONFIG_FILE);
+            if (configPath.exists()) {
+                config = CONFIG_READER.readValue(configPath);
+
+                // Verify.NotNull(config, $"Invalid prompt template
+                // configuration, unable to parse {configPath}");
+            }
+
+            // kernel.Log.LogTrace("Config {0}: {1}", functionName,
+            // config.ToJson());
+
+            // Load prompt template
+            PromptTemplate.Builder builder =
+                    SKBuilders.promptTemplate()
+                            .withPromptTemplateConfig(config)
+                            .withPromptTemplateEngine(promptTemplateEngine);
+            if (lazyPromptLoading) {
+                builder = builder.withPromptTemplateLoader(() -> readLazily(promptPath));
+            } else {
+                builder = builder.withPromptTemplate(readPrompt(promptPath));
+            }
+
+            return new SemanticFunctionConfig(config, builder.build());
+        } catch (IOException e) {
+            LOGGER.error("Failed to read file", e);
+            return null;
         }
+    }
 
-        return skills;
+    private static String readPrompt(File promptPath) throws IOException {
+        return new String(Files.readAllBytes(promptPath.toPath()), Charset.defaultCharset());
+    }
+
+    private static String readLazily(File promptPath) {
+        try {
+            return readPrompt(promptPath);
+        } catch (IOException e) {
+            throw new KernelException(
+                    ErrorCodes.FUNCTION_NOT_AVAILABLE,
+                    "Failed to read prompt " + promptPath.getAbsolutePath(),
+                    e);
+        }
     }
 
     public static Map<String, SemanticFunctionConfig> importSemanticSkillFromResourcesDirectory(
@@ -169,7 +246,7 @@ public class KernelExtensions {
                             ResourceLocation.CLASSPATH,
                             ResourceLocation.FILESYSTEM);
 
-          return new ObjectMapper().readValue(config, PromptTemplateConfig.class);
+          return CONFIG_READER.readValue(config);
         } catch (IOException e) {
           if (e instanceof JsonMappingException) {
             LOGGER.error("Failed to parse config file " + configFileName, e);
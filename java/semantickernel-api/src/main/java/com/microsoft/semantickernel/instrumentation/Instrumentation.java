@@ -0,0 +1,193 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.instrumentation;
+
+import com.microsoft.semantickernel.instrumentation.InstrumentationEvent.Kind;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Registry of the {@link InstrumentationListener}s notified of the operations of every kernel.
+ *
+ * <p>Function invocations, prompt rendering, AI service requests and memory store operations are
+ * wrapped with {@link #observe}. While no listener is registered the operation is returned as is,
+ * so instrumentation costs nothing when it is not used. Whether an operation is instrumented is
+ * decided when it is assembled, listeners added later do not see operations already assembled.
+ */
+public final class Instrumentation {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Instrumentation.class);
+
+    private static final InstrumentationListener[] NONE = new InstrumentationListener[0];
+
+    private static volatile InstrumentationListener[] listeners = NONE;
+
+    private Instrumentation() {}
+
+    /**
+     * Register a listener
+     *
+     * @param listener The listener
+     */
+    public static synchronized void addListener(InstrumentationListener listener) {
+        InstrumentationListener[] current = listeners;
+        InstrumentationListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * Unregister a listener
+     *
+     * @param listener The listener
+     */
+    public static synchronized void removeListener(InstrumentationListener listener) {
+        List<InstrumentationListener> updated = new ArrayList<>(Arrays.asList(listeners));
+        updated.remove(listener);
+        listeners = updated.isEmpty() ? NONE : updated.toArray(NONE);
+    }
+
+    /**
+     * @return Whether any listener is registered
+     */
+    public static boolean isEnabled() {
+        return listeners.length > 0;
+    }
+
+    /**
+     * Instrument a single-valued operation
+     *
+     * @param kind The kind of operation
+     * @param name The name of the operation
+     * @param operation The operation
+     * @return The operation, reporting its timing to the listeners
+     */
+    public static <T> Mono<T> observe(Kind kind, String name, Mono<T> operation) {
+        return observe(kind, name, operation, null);
+    }
+
+    /**
+     * Instrument a single-valued request to an AI service
+     *
+     * @param kind The kind of operation
+     * @param name The name of the operation
+     * @param operation The operation
+     * @param usage Extracts the token usage from the result, may return null
+     * @return The operation, reporting its timing and token usage to the listeners
+     */
+    public static <T> Mono<T> observe(
+            Kind kind,
+            String name,
+            Mono<T> operation,
+            @Nullable Function<? super T, TokenUsage> usage) {
+        if (!isEnabled()) {
+            return operation;
+        }
+        return Mono.defer(
+                () -> {
+                    Observation<T> observation = new Observation<>(kind, name, usage);
+                    // Published before the result is passed on, so that callers blocking on the
+                    // operation see the event
+                    return operation
+                            .doOnSuccess(observation::onSuccess)
+                            .doOnError(observation::onError)
+                            .doOnCancel(observation::onCancel);
+                });
+    }
+
+    /**
+     * Instrument a streaming operation, the duration covers the whole stream
+     *
+     * @param kind The kind of operation
+     * @param name The name of the operation
+     * @param operation The operation
+     * @return The operation, reporting its timing to the listeners
+     */
+    public static <T> Flux<T> observeMany(Kind kind, String name, Flux<T> operation) {
+        if (!isEnabled()) {
+            return operation;
+        }
+        return Flux.defer(
+                () -> {
+                    Observation<T> observation = new Observation<>(kind, name, null);
+                    return operation
+                            .doOnError(observation::onError)
+                            .doOnComplete(observation::onComplete)
+                            .doOnCancel(observation::onCancel);
+                });
+    }
+
+    private static void publish(InstrumentationEvent event) {
+        for (InstrumentationListener listener : listeners) {
+            try {
+                listener.onEvent(event);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Instrumentation listener failed", e);
+            }
+        }
+    }
+
+    private static final class Observation<T> {
+        private final Kind kind;
+        private final String name;
+        @Nullable private final Function<? super T, TokenUsage> usage;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean reported = new AtomicBoolean();
+
+        @Nullable private TokenUsage tokens;
+
+        private Observation(
+                Kind kind, String name, @Nullable Function<? super T, TokenUsage> usage) {
+            this.kind = kind;
+            this.name = name;
+            this.usage = usage;
+        }
+
+        private void onSuccess(@Nullable T value) {
+            if (value != null && usage != null) {
+                tokens = usage.apply(value);
+            }
+            report(null);
+        }
+
+        private void onComplete() {
+            report(null);
+        }
+
+        private void onError(Throwable error) {
+            report(error.getClass().getName());
+        }
+
+        private void onCancel() {
+            report(CancellationException.class.getName());
+        }
+
+        private void report(@Nullable String errorType) {
+            // A cancellation may race with the result, report whichever comes first
+            if (!reported.compareAndSet(false, true)) {
+                return;
+            }
+            publish(
+                    new InstrumentationEvent(
+                            kind,
+                            name,
+                            Duration.ofNanos(System.nanoTime() - start),
+                            tokens == null
+                                    ? InstrumentationEvent.UNKNOWN_TOKENS
+                                    : tokens.getPromptTokens(),
+                            tokens == null
+                                    ? InstrumentationEvent.UNKNOWN_TOKENS
+                                    : tokens.getCompletionTokens(),
+                            errorType));
+        }
+    }
+}
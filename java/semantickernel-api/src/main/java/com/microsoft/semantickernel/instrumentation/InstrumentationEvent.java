@@ -0,0 +1,107 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.instrumentation;
+
+import java.time.Duration;
+import javax.annotation.Nullable;
+
+/** Timing of one operation of the kernel, reported to {@link InstrumentationListener}s */
+public class InstrumentationEvent {
+
+    /** The kinds of operation that are instrumented */
+    public enum Kind {
+        /** Invocation of a native or semantic function, named after the function */
+        FUNCTION,
+        /** Rendering of the prompt of a semantic function, named after the function */
+        TEMPLATE_RENDER,
+        /** Text completion request, named after the model */
+        TEXT_COMPLETION,
+        /** Chat completion request, named after the model */
+        CHAT_COMPLETION,
+        /** Embedding generation request, named after the model */
+        EMBEDDING,
+        /** Memory store operation, named after the collection and the operation */
+        MEMORY
+    }
+
+    /** Token count of events that do not report token usage */
+    public static final long UNKNOWN_TOKENS = -1;
+
+    private final Kind kind;
+    private final String name;
+    private final Duration duration;
+    private final long promptTokens;
+    private final long completionTokens;
+    @Nullable private final String errorType;
+
+    public InstrumentationEvent(
+            Kind kind,
+            String name,
+            Duration duration,
+            long promptTokens,
+            long completionTokens,
+            @Nullable String errorType) {
+        this.kind = kind;
+        this.name = name;
+        this.duration = duration;
+        this.promptTokens = promptTokens;
+        this.completionTokens = completionTokens;
+        this.errorType = errorType;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Time from the subscription to the operation until it completed, failed or was
+     *     cancelled
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return Number of prompt tokens, or {@link #UNKNOWN_TOKENS} if not reported
+     */
+    public long getPromptTokens() {
+        return promptTokens;
+    }
+
+    /**
+     * @return Number of completion tokens, or {@link #UNKNOWN_TOKENS} if not reported
+     */
+    public long getCompletionTokens() {
+        return completionTokens;
+    }
+
+    /**
+     * @return Class name of the error the operation failed with, or null if it succeeded
+     */
+    @Nullable
+    public String getErrorType() {
+        return errorType;
+    }
+
+    public boolean isSuccess() {
+        return errorType == null;
+    }
+
+    @Override
+    public String toString() {
+        return kind
+                + " "
+                + name
+                + " took "
+                + duration.toMillis()
+                + "ms"
+                + (promptTokens == UNKNOWN_TOKENS ? "" : ", prompt tokens: " + promptTokens)
+                + (completionTokens == UNKNOWN_TOKENS
+                        ? ""
+                        : ", completion tokens: " + completionTokens)
+                + (errorType == null ? "" : ", failed with " + errorType);
+    }
+}
@@ -0,0 +1,17 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.instrumentation;
+
+/**
+ * Receives an event for every instrumented operation once it completes. Listeners are called on
+ * the thread that completed the operation and should return quickly.
+ */
+@FunctionalInterface
+public interface InstrumentationListener {
+
+    /**
+     * Called once an operation completed, failed or was cancelled
+     *
+     * @param event The timing of the operation
+     */
+    void onEvent(InstrumentationEvent event);
+}
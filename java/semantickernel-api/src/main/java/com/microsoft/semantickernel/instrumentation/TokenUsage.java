@@ -0,0 +1,26 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.instrumentation;
+
+/** Number of tokens consumed by a request to an AI service */
+public class TokenUsage {
+
+    private final long promptTokens;
+    private final long completionTokens;
+
+    /**
+     * @param promptTokens Number of tokens in the prompt
+     * @param completionTokens Number of tokens in the completion
+     */
+    public TokenUsage(long promptTokens, long completionTokens) {
+        this.promptTokens = promptTokens;
+        this.completionTokens = completionTokens;
+    }
+
+    public long getPromptTokens() {
+        return promptTokens;
+    }
+
+    public long getCompletionTokens() {
+        return completionTokens;
+    }
+}
@@ -27,7 +27,7 @@ public abstract class AbstractSKContext implements SKContext {
     @Nullable
     @Override
     public String getResult() {
-        return getVariables().asMap().get(ContextVariables.MAIN_KEY);
+        return variables.get(ContextVariables.MAIN_KEY);
     }
 
     /// <summary>
@@ -35,7 +35,8 @@ public abstract class AbstractSKContext implements SKContext {
     /// </summary>
     @Override
     public ContextVariables getVariables() {
-        return SKBuilders.variables().withVariables(variables.asMap()).build();
+        // Clones are copy-on-write, callers cannot modify the variables of the context
+        return variables.writableClone();
     }
 
     AbstractSKContext(ContextVariables variables) {
@@ -53,8 +54,10 @@ public abstract class AbstractSKContext implements SKContext {
             ContextVariables variables,
             @Nullable SemanticTextMemory memory,
             @Nullable ReadOnlySkillCollection skills) {
-        this.variables =
-                SKBuilders.variables().withVariables(variables.asMap()).build().writableClone();
+        this.variables = variables.writableClone();
+        if (this.variables.get(ContextVariables.MAIN_KEY) == null) {
+            this.variables.setVariable(ContextVariables.MAIN_KEY, "");
+        }
 
         if (memory != null) {
             this.memory = memory.copy();
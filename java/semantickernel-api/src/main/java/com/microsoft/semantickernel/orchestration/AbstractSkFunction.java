@@ -2,9 +2,13 @@
 package com.microsoft.semantickernel.orchestration;
 
 import com.microsoft.semantickernel.SKBuilders;
+import com.microsoft.semantickernel.instrumentation.Instrumentation;
+import com.microsoft.semantickernel.instrumentation.InstrumentationEvent;
 import com.microsoft.semantickernel.memory.NullMemory;
 import com.microsoft.semantickernel.memory.SemanticTextMemory;
 import com.microsoft.semantickernel.orchestration.FunctionNotRegisteredException.ErrorCodes;
+import com.microsoft.semantickernel.orchestration.hooks.FunctionInvocationHooks;
+import com.microsoft.semantickernel.services.MemoizedSupplier;
 import com.microsoft.semantickernel.skilldefinition.KernelSkillsSupplier;
 import com.microsoft.semantickernel.skilldefinition.ParameterView;
 import com.microsoft.semantickernel.skilldefinition.ReadOnlySkillCollection;
@@ -13,21 +17,25 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /** Abstract implementation of the SKFunction interface. */
 public abstract class AbstractSkFunction<RequestConfiguration>
         implements SKFunction<RequestConfiguration>, RegistrableSkFunction {
 
-    private final List<ParameterView> parameters;
+    private final Supplier<List<ParameterView>> parameters;
     private final String skillName;
     private final String functionName;
     private final String description;
 
     private final List<ParameterView> returnParameters;
     @Nullable private KernelSkillsSupplier skillsSupplier;
+    @Nullable private FunctionInvocationHooks invocationHooks;
 
     /**
      * Constructor.
@@ -45,8 +53,36 @@ public abstract class AbstractSkFunction<RequestConfiguration>
             String description,
             List<ParameterView> returnParameters,
             @Nullable KernelSkillsSupplier skillsSupplier) {
+        this(
+                fixed(parameters),
+                skillName,
+                functionName,
+                description,
+                returnParameters,
+                skillsSupplier);
+    }
 
-        this.parameters = new ArrayList<>(parameters);
+    /**
+     * Constructor for functions whose parameters are only known once the function is loaded, for
+     * instance semantic functions whose prompt is read on first use.
+     *
+     * @param parameters Supplies the parameters of the function, invoked at most once.
+     * @param skillName The name of the skill.
+     * @param functionName The name of the function.
+     * @param description The description of the function.
+     * @param skillsSupplier The skill supplier.
+     */
+    protected AbstractSkFunction(
+            Supplier<List<ParameterView>> parameters,
+            String skillName,
+            String functionName,
+            String description,
+            List<ParameterView> returnParameters,
+            @Nullable KernelSkillsSupplier skillsSupplier) {
+
+        this.parameters =
+                MemoizedSupplier.of(
+                        () -> Collections.unmodifiableList(new ArrayList<>(parameters.get())));
         this.skillName = skillName;
         this.functionName = functionName;
         this.description = description;
@@ -54,6 +90,11 @@ public abstract class AbstractSkFunction<RequestConfiguration>
         this.skillsSupplier = skillsSupplier;
     }
 
+    private static Supplier<List<ParameterView>> fixed(List<ParameterView> parameters) {
+        List<ParameterView> copy = Collections.unmodifiableList(new ArrayList<>(parameters));
+        return () -> copy;
+    }
+
     /**
      * Asserts that the skill supplier is registered.
      *
@@ -74,6 +115,16 @@ public abstract class AbstractSkFunction<RequestConfiguration>
         this.skillsSupplier = skillsSupplier;
     }
 
+    /**
+     * Sets the hooks run around the invocations of this function, done by the kernel the function
+     * is registered on.
+     *
+     * @param invocationHooks The hooks of the kernel.
+     */
+    public void setInvocationHooks(@Nullable FunctionInvocationHooks invocationHooks) {
+        this.invocationHooks = invocationHooks;
+    }
+
     /**
      * Gets the skill supplier.
      *
@@ -126,7 +177,40 @@ public abstract class AbstractSkFunction<RequestConfiguration>
             context = context.copy();
         }
 
-        return this.invokeAsyncInternal(context, settings);
+        FunctionInvocationHooks hooks = this.invocationHooks;
+        Mono<SKContext> result;
+        if (hooks == null) {
+            result = this.invokeAsyncInternal(context, settings);
+        } else {
+            result = hooks.invoke(this, context, it -> this.invokeAsyncInternal(it, settings));
+        }
+
+        String name = toFullyQualifiedName();
+        return Instrumentation.observe(
+                InstrumentationEvent.Kind.FUNCTION, name, Deadline.enforce(name, result));
+    }
+
+    /**
+     * Streams an invocation through the same hooks, instrumentation and deadline as {@link
+     * #invokeAsync(SKContext, Object)}.
+     *
+     * @param context The context.
+     * @param invocation Starts the stream of the function.
+     * @return The stream of the invocation.
+     */
+    protected Flux<String> invokeStreamingAsyncInternal(
+            SKContext context, Function<SKContext, Flux<String>> invocation) {
+        FunctionInvocationHooks hooks = this.invocationHooks;
+        Flux<String> result;
+        if (hooks == null) {
+            result = Flux.defer(() -> invocation.apply(context));
+        } else {
+            result = hooks.invokeStreaming(this, context, invocation);
+        }
+
+        String name = toFullyQualifiedName();
+        return Instrumentation.observeMany(
+                InstrumentationEvent.Kind.FUNCTION, name, Deadline.enforceMany(name, result));
     }
 
     /**
@@ -155,7 +239,7 @@ public abstract class AbstractSkFunction<RequestConfiguration>
      * @return The parameters of the function.
      */
     public List<ParameterView> getParametersView() {
-        return Collections.unmodifiableList(parameters);
+        return parameters.get();
     }
 
     /**
@@ -177,7 +261,7 @@ public abstract class AbstractSkFunction<RequestConfiguration>
     @Override
     public String toEmbeddingString() {
         String inputs =
-                parameters.stream()
+                parameters.get().stream()
                         .map(p -> "    - " + p.getName() + ": " + p.getDescription())
                         .collect(Collectors.joining("\n"));
 
@@ -187,7 +271,7 @@ public abstract class AbstractSkFunction<RequestConfiguration>
     @Override
     public String toManualString(boolean includeOutputs) {
         String inputs =
-                parameters.stream()
+                parameters.get().stream()
                         .map(
                                 parameter -> {
                                     String defaultValueString;
@@ -0,0 +1,103 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.orchestration;
+
+import java.time.Duration;
+import javax.annotation.Nullable;
+
+/**
+ * Options of a batch run of a pipeline over many inputs.
+ *
+ * <p>Calls made by the functions of the pipeline go through the resilience policy of the kernel
+ * like any other call, so throttled requests are retried after the delay the service asks for. The
+ * concurrency and rate of the batch bound how many requests are made in the first place.
+ */
+public class BatchOptions {
+
+    private final int concurrency;
+    private final boolean ordered;
+    @Nullable private final Duration interval;
+
+    protected BatchOptions(int concurrency, boolean ordered, @Nullable Duration interval) {
+        this.concurrency = concurrency;
+        this.ordered = ordered;
+        this.interval = interval;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return Maximum number of inputs processed at the same time
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * @return Whether results are emitted in the order of the inputs
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * @return Minimum delay between starting two inputs, or null if the rate is not limited
+     */
+    @Nullable
+    public Duration getInterval() {
+        return interval;
+    }
+
+    /** Builder for {@link BatchOptions} */
+    public static class Builder {
+        private int concurrency = 16;
+        private boolean ordered = true;
+        @Nullable private Duration interval = null;
+
+        /**
+         * Set the maximum number of inputs processed at the same time. Defaults to 16.
+         *
+         * @param concurrency Maximum number of inputs processed at the same time
+         * @return Builder
+         */
+        public Builder withConcurrency(int concurrency) {
+            if (concurrency < 1) {
+                throw new IllegalArgumentException("Concurrency must be at least 1");
+            }
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * Set whether results are emitted in the order of the inputs. Unordered results are
+         * emitted as soon as they complete, so one slow input does not hold back the others.
+         * Defaults to true.
+         *
+         * @param ordered Whether results are emitted in the order of the inputs
+         * @return Builder
+         */
+        public Builder withOrdered(boolean ordered) {
+            this.ordered = ordered;
+            return this;
+        }
+
+        /**
+         * Limit the number of inputs started per second. Not limited by default.
+         *
+         * @param inputsPerSecond Maximum number of inputs started per second
+         * @return Builder
+         */
+        public Builder withMaxRate(double inputsPerSecond) {
+            if (inputsPerSecond <= 0) {
+                throw new IllegalArgumentException("The rate must be positive");
+            }
+            this.interval = Duration.ofNanos((long) (1_000_000_000L / inputsPerSecond));
+            return this;
+        }
+
+        public BatchOptions build() {
+            return new BatchOptions(concurrency, ordered, interval);
+        }
+    }
+}
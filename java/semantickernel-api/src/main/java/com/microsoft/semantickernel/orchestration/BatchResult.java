@@ -0,0 +1,103 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.orchestration;
+
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+/**
+ * Outcome of one input of a batch run. A failed input does not fail the batch, its error is
+ * reported in its result instead.
+ */
+public class BatchResult {
+
+    private final long index;
+    private final ContextVariables input;
+    @Nullable private final SKContext context;
+    @Nullable private final Throwable error;
+
+    public BatchResult(
+            long index,
+            ContextVariables input,
+            @Nullable SKContext context,
+            @Nullable Throwable error) {
+        this.index = index;
+        this.input = input;
+        this.context = context;
+        this.error = error;
+    }
+
+    /**
+     * @return Position of the input in the batch, starting from 0
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * @return The variables the input was run with
+     */
+    public ContextVariables getInput() {
+        return input;
+    }
+
+    /**
+     * @return The context produced by the pipeline, or null if the input failed or the pipeline
+     *     produced no result
+     */
+    @Nullable
+    public SKContext getContext() {
+        return context;
+    }
+
+    /**
+     * @return The error the input failed with, or null if it succeeded
+     */
+    @Nullable
+    public Throwable getError() {
+        return error;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Run each input of a batch, catching the error of an input in its result
+     *
+     * @param inputs Variables to run
+     * @param options Concurrency, ordering and rate of the batch
+     * @param runner Runs a single input
+     * @return One result per input
+     */
+    public static Flux<BatchResult> runBatch(
+            Flux<ContextVariables> inputs,
+            BatchOptions options,
+            Function<ContextVariables, Mono<SKContext>> runner) {
+        Flux<Tuple2<Long, ContextVariables>> indexed = inputs.index();
+        if (options.getInterval() != null) {
+            indexed = indexed.delayElements(options.getInterval());
+        }
+
+        Function<Tuple2<Long, ContextVariables>, Mono<BatchResult>> run =
+                input -> {
+                    long index = input.getT1();
+                    ContextVariables variables = input.getT2();
+                    return Mono.defer(() -> runner.apply(variables))
+                            .map(context -> new BatchResult(index, variables, context, null))
+                            .defaultIfEmpty(new BatchResult(index, variables, null, null))
+                            .onErrorResume(
+                                    error ->
+                                            Mono.just(
+                                                    new BatchResult(
+                                                            index, variables, null, error)));
+                };
+
+        if (options.isOrdered()) {
+            return indexed.flatMapSequential(run, options.getConcurrency());
+        }
+        return indexed.flatMap(run, options.getConcurrency());
+    }
+}
@@ -0,0 +1,188 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.orchestration;
+
+import java.time.Duration;
+import javax.annotation.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+/**
+ * The point in time by which an operation has to complete, carried in the Reactor context of the
+ * operation. Apply one with {@link #within(Duration, Mono)}, e.g.
+ *
+ * <pre>{@code
+ * Deadline.within(Duration.ofSeconds(10), kernel.runAsync(input, summarize, translate))
+ * }</pre>
+ *
+ * <p>Function invocations, prompt rendering, AI service requests and memory store operations run
+ * through {@link #enforce}: once the deadline has passed they fail with a {@link
+ * DeadlineExceededException} and the work in progress is cancelled. Functions can read the
+ * remaining budget to reduce their work, reactive code with {@link #current()} and native functions
+ * by declaring a parameter of type {@code Deadline}, which is null when no deadline applies.
+ */
+public final class Deadline {
+
+    private static final Class<Deadline> KEY = Deadline.class;
+
+    private final Duration timeout;
+    private final long expiresAt;
+
+    private Deadline(Duration timeout) {
+        this.timeout = timeout;
+        this.expiresAt = System.nanoTime() + timeout.toNanos();
+    }
+
+    /**
+     * Create a deadline expiring after the given timeout, counted from now
+     *
+     * @param timeout The timeout
+     * @return The deadline
+     */
+    public static Deadline after(Duration timeout) {
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("The timeout must not be negative");
+        }
+        return new Deadline(timeout);
+    }
+
+    /**
+     * @return The timeout the deadline was created with
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * @return The time left before the deadline, zero once it has passed
+     */
+    public Duration getRemaining() {
+        return Duration.ofNanos(Math.max(0, expiresAt - System.nanoTime()));
+    }
+
+    /**
+     * @return Whether the deadline has passed
+     */
+    public boolean isExpired() {
+        return expiresAt - System.nanoTime() <= 0;
+    }
+
+    /**
+     * The deadline of the operation being run
+     *
+     * @return The deadline, or an empty Mono when no deadline applies
+     */
+    public static Mono<Deadline> current() {
+        return Mono.deferContextual(context -> Mono.justOrEmpty(from(context)));
+    }
+
+    /**
+     * The deadline carried in a Reactor context
+     *
+     * @param context The context
+     * @return The deadline, or null when no deadline applies
+     */
+    @Nullable
+    public static Deadline from(ContextView context) {
+        return context.getOrDefault(KEY, null);
+    }
+
+    /**
+     * Run an operation with a deadline. The deadline starts when the operation is subscribed to,
+     * if the caller already applied an earlier deadline that one is kept.
+     *
+     * <p>The deadline is only carried in the context, it is enforced by the kernel operations
+     * within the operation, each failing with its own name. Wrap other code in {@link
+     * #enforce(String, Mono)} to bound it as well.
+     *
+     * @param timeout Time the operation has to complete
+     * @param operation The operation
+     * @return The operation, with the deadline in its context
+     */
+    public static <T> Mono<T> within(Duration timeout, Mono<T> operation) {
+        return Mono.defer(
+                () -> {
+                    Deadline deadline = after(timeout);
+                    return operation.contextWrite(
+                            context -> context.put(KEY, earliest(deadline, context)));
+                });
+    }
+
+    /**
+     * Run a streaming operation with a deadline covering the whole stream, see {@link
+     * #within(Duration, Mono)}
+     *
+     * @param timeout Time the operation has to complete
+     * @param operation The operation
+     * @return The operation, with the deadline in its context
+     */
+    public static <T> Flux<T> withinMany(Duration timeout, Flux<T> operation) {
+        return Flux.defer(
+                () -> {
+                    Deadline deadline = after(timeout);
+                    return operation.contextWrite(
+                            context -> context.put(KEY, earliest(deadline, context)));
+                });
+    }
+
+    /**
+     * Bound an operation by the deadline of its caller, if any. The operation is not started if
+     * the deadline has already passed, and is cancelled when it passes.
+     *
+     * @param name The name of the operation, used in the error
+     * @param operation The operation
+     * @return The operation, failing with a {@link DeadlineExceededException} when it takes longer
+     */
+    public static <T> Mono<T> enforce(String name, Mono<T> operation) {
+        return Mono.deferContextual(
+                context -> {
+                    Deadline deadline = from(context);
+                    if (deadline == null) {
+                        return operation;
+                    }
+                    if (deadline.isExpired()) {
+                        return Mono.error(new DeadlineExceededException(name, deadline));
+                    }
+                    return operation.timeout(
+                            deadline.getRemaining(),
+                            Mono.error(() -> new DeadlineExceededException(name, deadline)));
+                });
+    }
+
+    /**
+     * Bound a streaming operation by the deadline of its caller, see {@link #enforce(String,
+     * Mono)}
+     *
+     * @param name The name of the operation, used in the error
+     * @param operation The operation
+     * @return The operation, failing with a {@link DeadlineExceededException} when it takes longer
+     */
+    public static <T> Flux<T> enforceMany(String name, Flux<T> operation) {
+        return Flux.deferContextual(
+                context -> {
+                    Deadline deadline = from(context);
+                    if (deadline == null) {
+                        return operation;
+                    }
+                    if (deadline.isExpired()) {
+                        return Flux.error(new DeadlineExceededException(name, deadline));
+                    }
+                    // Errors of the timer cancel the stream and are passed on
+                    return operation.takeUntilOther(
+                            Mono.delay(deadline.getRemaining())
+                                    .then(
+                                            Mono.error(
+                                                    () ->
+                                                            new DeadlineExceededException(
+                                                                    name, deadline))));
+                });
+    }
+
+    private static Deadline earliest(Deadline deadline, ContextView context) {
+        Deadline current = from(context);
+        if (current != null && current.expiresAt - deadline.expiresAt < 0) {
+            return current;
+        }
+        return deadline;
+    }
+}
@@ -0,0 +1,40 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.orchestration;
+
+import com.microsoft.semantickernel.SKException;
+
+/** Thrown when an operation does not complete before its {@link Deadline}. */
+public class DeadlineExceededException extends SKException {
+
+    private final String operation;
+    private final transient Deadline deadline;
+
+    /**
+     * Initializes a new instance of the {@code DeadlineExceededException} class.
+     *
+     * @param operation The name of the operation that did not complete
+     * @param deadline The deadline that passed
+     */
+    public DeadlineExceededException(String operation, Deadline deadline) {
+        super(
+                String.format(
+                        "%s did not complete within %d ms",
+                        operation, deadline.getTimeout().toMillis()));
+        this.operation = operation;
+        this.deadline = deadline;
+    }
+
+    /**
+     * @return The name of the operation that did not complete
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return The deadline that passed
+     */
+    public Deadline getDeadline() {
+        return deadline;
+    }
+}
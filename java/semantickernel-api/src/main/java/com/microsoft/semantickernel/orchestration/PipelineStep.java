@@ -0,0 +1,148 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.orchestration;
+
+import com.microsoft.semantickernel.skilldefinition.ParameterView;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * A function of a pipeline together with the context variables it reads and writes. The kernel
+ * uses these to find out which steps of a pipeline depend on each other, steps that do not are run
+ * concurrently.
+ *
+ * <p>The result of the function is stored in the output variable, {@link ContextVariables#MAIN_KEY}
+ * by default. Other variables the function sets on its context are only kept if they are declared
+ * as written. A step only sees the variables it declares as read as they were left by the steps
+ * before it, other variables may or may not contain the writes of concurrent steps.
+ */
+public class PipelineStep {
+
+    private final SKFunction<?> function;
+    private final Set<String> reads;
+    private final Set<String> writes;
+    private final String output;
+
+    private PipelineStep(
+            SKFunction<?> function, Set<String> reads, Set<String> writes, String output) {
+        this.function = function;
+        this.reads = Collections.unmodifiableSet(reads);
+        this.writes = Collections.unmodifiableSet(writes);
+        this.output = output;
+    }
+
+    /**
+     * Creates a step that reads the parameters of the function and writes its result to {@link
+     * ContextVariables#MAIN_KEY}.
+     *
+     * @param function The function to run
+     * @return The step
+     */
+    public static PipelineStep of(SKFunction<?> function) {
+        return new Builder(function).build();
+    }
+
+    public SKFunction<?> getFunction() {
+        return function;
+    }
+
+    /**
+     * @return The lower case names of the variables the step reads
+     */
+    public Set<String> getReads() {
+        return reads;
+    }
+
+    /**
+     * @return The lower case names of the variables the step writes, including the output variable
+     */
+    public Set<String> getWrites() {
+        return writes;
+    }
+
+    /**
+     * @return The lower case name of the variable the result of the function is stored in
+     */
+    public String getOutput() {
+        return output;
+    }
+
+    /** Builder for a {@link PipelineStep} */
+    public static class Builder {
+        private final SKFunction<?> function;
+        @Nullable private Set<String> reads;
+        private final Set<String> writes = new LinkedHashSet<>();
+        private String output = ContextVariables.MAIN_KEY;
+
+        /**
+         * @param function The function to run
+         */
+        public Builder(SKFunction<?> function) {
+            if (function == null) {
+                throw new IllegalArgumentException("A pipeline step requires a function");
+            }
+            this.function = function;
+        }
+
+        /**
+         * Set the variables the step reads, replacing the parameters of the function
+         *
+         * @param variables The names of the variables
+         * @return Builder
+         */
+        public Builder withReads(String... variables) {
+            reads = normalize(variables);
+            return this;
+        }
+
+        /**
+         * Declare variables the function sets on its context, in addition to its output
+         *
+         * @param variables The names of the variables
+         * @return Builder
+         */
+        public Builder withWrites(String... variables) {
+            writes.addAll(normalize(variables));
+            return this;
+        }
+
+        /**
+         * Set the variable the result of the function is stored in
+         *
+         * @param variable The name of the variable
+         * @return Builder
+         */
+        public Builder withOutput(String variable) {
+            output = variable;
+            return this;
+        }
+
+        public PipelineStep build() {
+            Set<String> stepReads = reads;
+            if (stepReads == null) {
+                stepReads = new LinkedHashSet<>();
+                for (ParameterView parameter : function.describe().getParameters()) {
+                    stepReads.add(parameter.getName().toLowerCase(Locale.ROOT));
+                }
+            }
+
+            String stepOutput = output.toLowerCase(Locale.ROOT);
+            Set<String> stepWrites = new LinkedHashSet<>(writes);
+            stepWrites.add(stepOutput);
+
+            return new PipelineStep(
+                    function, new LinkedHashSet<>(stepReads), stepWrites, stepOutput);
+        }
+
+        private static Set<String> normalize(String... variables) {
+            Set<String> names = new LinkedHashSet<>();
+            for (String variable : Arrays.asList(variables)) {
+                names.add(variable.toLowerCase(Locale.ROOT));
+            }
+            return names;
+        }
+    }
+}
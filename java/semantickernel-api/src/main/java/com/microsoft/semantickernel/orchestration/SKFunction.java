@@ -114,6 +114,16 @@ public interface SKFunction<RequestConfiguration> {
      */
     String toManualString(boolean includeOutputs);
 
+    /**
+     * Whether the function has no side effects and returns the same result for the same input, in
+     * which case its result may be reused while rendering a prompt template.
+     *
+     * @return true if the function is idempotent
+     */
+    default boolean isIdempotent() {
+        return false;
+    }
+
     /**
      * Invokes the function with the given input, context and settings
      *
@@ -0,0 +1,50 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.orchestration.hooks;
+
+import com.microsoft.semantickernel.orchestration.SKContext;
+import com.microsoft.semantickernel.orchestration.SKFunction;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import reactor.core.publisher.Mono;
+
+/**
+ * Intercepts the invocations of the functions of a kernel. A hook may change the context before
+ * passing it on, change the result, or return a result without invoking the function at all, e.g.
+ * to serve it from a cache or to reject it while throttled.
+ */
+@FunctionalInterface
+public interface FunctionInvocationHook {
+
+    /**
+     * Called for every invocation of a function
+     *
+     * @param function The function being invoked
+     * @param context The context the function is invoked with
+     * @param next Continues the invocation with the next hook, and finally the function itself
+     * @return The result of the invocation
+     */
+    Mono<SKContext> invoke(
+            SKFunction<?> function, SKContext context, Function<SKContext, Mono<SKContext>> next);
+
+    /**
+     * Create a hook that runs before every invocation
+     *
+     * @param before Returns the context to invoke the function with
+     * @return The hook
+     */
+    static FunctionInvocationHook before(
+            BiFunction<SKFunction<?>, SKContext, SKContext> before) {
+        return (function, context, next) -> next.apply(before.apply(function, context));
+    }
+
+    /**
+     * Create a hook that runs after every successful invocation
+     *
+     * @param after Returns the result of the invocation
+     * @return The hook
+     */
+    static FunctionInvocationHook after(BiFunction<SKFunction<?>, SKContext, SKContext> after) {
+        return (function, context, next) ->
+                next.apply(context).map(result -> after.apply(function, result));
+    }
+}
@@ -0,0 +1,202 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.orchestration.hooks;
+
+import com.microsoft.semantickernel.orchestration.SKContext;
+import com.microsoft.semantickernel.orchestration.SKFunction;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The hooks run around the invocations of the functions of a kernel, and the latency statistics
+ * of these invocations. Every function registered on or imported into the kernel, native, semantic
+ * or plan, is invoked through it.
+ *
+ * <p>The statistics cover the whole invocation including its hooks, so an invocation answered by
+ * a hook, e.g. from a cache, is recorded with the latency the caller saw.
+ */
+public class FunctionInvocationHooks {
+
+    private static final FunctionInvocationHook[] NONE = new FunctionInvocationHook[0];
+
+    private volatile FunctionInvocationHook[] hooks = NONE;
+    private final Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+
+    /**
+     * Add a hook, hooks are run in the order they were added
+     *
+     * @param hook The hook
+     */
+    public synchronized void addHook(FunctionInvocationHook hook) {
+        FunctionInvocationHook[] current = hooks;
+        FunctionInvocationHook[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = hook;
+        hooks = updated;
+    }
+
+    /**
+     * Remove a hook
+     *
+     * @param hook The hook
+     */
+    public synchronized void removeHook(FunctionInvocationHook hook) {
+        List<FunctionInvocationHook> updated = new ArrayList<>(Arrays.asList(hooks));
+        updated.remove(hook);
+        hooks = updated.isEmpty() ? NONE : updated.toArray(NONE);
+    }
+
+    /**
+     * Statistics of every function invoked so far
+     *
+     * @return Statistics indexed by the fully qualified name of the function
+     */
+    public Map<String, FunctionStats> getStats() {
+        Map<String, FunctionStats> stats = new TreeMap<>();
+        for (LatencyRecorder recorder : recorders.values()) {
+            FunctionStats functionStats = recorder.getStats();
+            stats.put(functionStats.getName(), functionStats);
+        }
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * Statistics of a function
+     *
+     * @param skillName Name of the skill
+     * @param functionName Name of the function
+     * @return The statistics, or null if the function has not been invoked
+     */
+    @Nullable
+    public FunctionStats getStats(String skillName, String functionName) {
+        LatencyRecorder recorder = recorders.get(key(skillName + "." + functionName));
+        return recorder == null ? null : recorder.getStats();
+    }
+
+    /** Discard the statistics recorded so far */
+    public void resetStats() {
+        recorders.clear();
+    }
+
+    /**
+     * Run an invocation through the hooks, recording its latency
+     *
+     * @param function The function being invoked
+     * @param context The context the function is invoked with
+     * @param invocation Invokes the function itself
+     * @return The result of the invocation
+     */
+    public Mono<SKContext> invoke(
+            SKFunction<?> function,
+            SKContext context,
+            Function<SKContext, Mono<SKContext>> invocation) {
+        FunctionInvocationHook[] current = hooks;
+        Mono<SKContext> result = proceed(current, 0, function, context, invocation);
+
+        String name = function.toFullyQualifiedName();
+        LatencyRecorder recorder =
+                recorders.computeIfAbsent(key(name), key -> new LatencyRecorder(name));
+
+        return Mono.defer(
+                () -> {
+                    Consumer<Boolean> record = recordOnce(recorder);
+                    // Recorded before the result is passed on, so that callers blocking on the
+                    // invocation see it in the statistics
+                    return result.doOnSuccess(it -> record.accept(false))
+                            .doOnError(error -> record.accept(true))
+                            .doOnCancel(() -> record.accept(false));
+                });
+    }
+
+    /**
+     * Run a streaming invocation through the hooks, recording its latency over the whole stream.
+     *
+     * <p>The hooks see the context the stream is started with, not its result. A hook that
+     * returns a result without passing the invocation on answers it, the result is then emitted
+     * once.
+     *
+     * @param function The function being invoked
+     * @param context The context the function is invoked with
+     * @param invocation Starts the stream of the function itself
+     * @return The stream of the invocation
+     */
+    public Flux<String> invokeStreaming(
+            SKFunction<?> function,
+            SKContext context,
+            Function<SKContext, Flux<String>> invocation) {
+        FunctionInvocationHook[] current = hooks;
+
+        String name = function.toFullyQualifiedName();
+        LatencyRecorder recorder =
+                recorders.computeIfAbsent(key(name), key -> new LatencyRecorder(name));
+
+        return Flux.defer(
+                () -> {
+                    Consumer<Boolean> record = recordOnce(recorder);
+                    AtomicReference<Flux<String>> stream = new AtomicReference<>();
+
+                    return proceed(
+                                    current,
+                                    0,
+                                    function,
+                                    context,
+                                    next -> {
+                                        stream.set(invocation.apply(next));
+                                        return Mono.just(next);
+                                    })
+                            .flatMapMany(
+                                    result -> {
+                                        Flux<String> started = stream.get();
+                                        if (started != null) {
+                                            return started;
+                                        }
+                                        return Mono.justOrEmpty(result.getResult());
+                                    })
+                            .doOnComplete(() -> record.accept(false))
+                            .doOnError(error -> record.accept(true))
+                            .doOnCancel(() -> record.accept(false));
+                });
+    }
+
+    // Records the latency since it was created, the first time it is called
+    private static Consumer<Boolean> recordOnce(LatencyRecorder recorder) {
+        long start = System.nanoTime();
+        AtomicBoolean recorded = new AtomicBoolean();
+        return error -> {
+            if (recorded.compareAndSet(false, true)) {
+                recorder.record(Duration.ofNanos(System.nanoTime() - start), error);
+            }
+        };
+    }
+
+    private static Mono<SKContext> proceed(
+            FunctionInvocationHook[] hooks,
+            int index,
+            SKFunction<?> function,
+            SKContext context,
+            Function<SKContext, Mono<SKContext>> invocation) {
+        if (index == hooks.length) {
+            return invocation.apply(context);
+        }
+        return hooks[index].invoke(
+                function,
+                context,
+                next -> proceed(hooks, index + 1, function, next, invocation));
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
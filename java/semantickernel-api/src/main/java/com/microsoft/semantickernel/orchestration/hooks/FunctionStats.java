@@ -0,0 +1,112 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.orchestration.hooks;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/** Snapshot of the latency, throughput and error rate of the invocations of a function */
+public class FunctionStats {
+
+    private final String name;
+    private final long count;
+    private final long errors;
+    private final Duration mean;
+    private final Duration p50;
+    private final Duration p95;
+    private final Duration p99;
+    private final Duration max;
+    private final double throughput;
+
+    public FunctionStats(
+            String name,
+            long count,
+            long errors,
+            Duration mean,
+            Duration p50,
+            Duration p95,
+            Duration p99,
+            Duration max,
+            double throughput) {
+        this.name = name;
+        this.count = count;
+        this.errors = errors;
+        this.mean = mean;
+        this.p50 = p50;
+        this.p95 = p95;
+        this.p99 = p99;
+        this.max = max;
+        this.throughput = throughput;
+    }
+
+    /**
+     * @return Fully qualified name of the function
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Number of completed invocations
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return Number of invocations that failed
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return Fraction of the invocations that failed
+     */
+    public double getErrorRate() {
+        return count == 0 ? 0 : (double) errors / count;
+    }
+
+    public Duration getMean() {
+        return mean;
+    }
+
+    public Duration getP50() {
+        return p50;
+    }
+
+    public Duration getP95() {
+        return p95;
+    }
+
+    public Duration getP99() {
+        return p99;
+    }
+
+    public Duration getMax() {
+        return max;
+    }
+
+    /**
+     * @return Invocations completed per second since the statistics were started
+     */
+    public double getThroughput() {
+        return throughput;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                Locale.ROOT,
+                "%s: count=%d, errors=%d, mean=%dms, p50=%dms, p95=%dms, p99=%dms, max=%dms,"
+                        + " throughput=%.2f/s",
+                name,
+                count,
+                errors,
+                mean.toMillis(),
+                p50.toMillis(),
+                p95.toMillis(),
+                p99.toMillis(),
+                max.toMillis(),
+                throughput);
+    }
+}
@@ -0,0 +1,131 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.orchestration.hooks;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with logarithmic buckets, in the style of HdrHistogram. Latencies are
+ * recorded in microseconds. Above 128us each bucket is at most 1/64th of its lowest value wide, and
+ * a percentile is reported as the highest value of its bucket, so it is at most 1/64th, about 1.6%,
+ * above the recorded latency. Smaller latencies are recorded exactly.
+ */
+public class LatencyRecorder {
+
+    // Each power of two is split in SUB_BUCKETS / 2 buckets
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+
+    // Latencies above 2^36us, about 19 hours, are recorded as 2^36us
+    private static final long MAX_MICROS = (1L << 36) - 1;
+    private static final int BUCKETS = bucket(MAX_MICROS) + 1;
+
+    private final String name;
+    private final Clock clock;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+    private final long startMillis;
+
+    /**
+     * @param name Name of the recorded operation
+     */
+    public LatencyRecorder(String name) {
+        this(name, Clock.systemUTC());
+    }
+
+    /**
+     * @param name Name of the recorded operation
+     * @param clock Clock used to compute the throughput
+     */
+    public LatencyRecorder(String name, Clock clock) {
+        this.name = name;
+        this.clock = clock;
+        this.startMillis = clock.millis();
+    }
+
+    /**
+     * Record one operation
+     *
+     * @param latency Duration of the operation
+     * @param failed Whether the operation failed
+     */
+    public void record(Duration latency, boolean failed) {
+        long micros = Math.min(MAX_MICROS, Math.max(0, latency.toNanos() / 1000));
+        buckets.incrementAndGet(bucket(micros));
+        totalMicros.add(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+        if (failed) {
+            errors.increment();
+        }
+        count.increment();
+    }
+
+    /**
+     * @param percentile Percentile between 0 and 100
+     * @return The latency below which the given percentage of the operations completed
+     */
+    public Duration getPercentile(double percentile) {
+        long total = 0;
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Duration.ofNanos(Math.min(highestValue(i), maxMicros.get()) * 1000);
+            }
+        }
+        return Duration.ofNanos(maxMicros.get() * 1000);
+    }
+
+    /**
+     * @return Snapshot of the statistics recorded so far
+     */
+    public FunctionStats getStats() {
+        long invocations = count.sum();
+        long elapsedMillis = Math.max(1, clock.millis() - startMillis);
+        return new FunctionStats(
+                name,
+                invocations,
+                errors.sum(),
+                Duration.ofNanos(invocations == 0 ? 0 : totalMicros.sum() / invocations * 1000),
+                getPercentile(50),
+                getPercentile(95),
+                getPercentile(99),
+                Duration.ofNanos(maxMicros.get() * 1000),
+                invocations * 1000.0 / elapsedMillis);
+    }
+
+    private static int bucket(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        // Shift the value so that it falls in the upper half of the sub buckets
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - (SUB_BUCKET_BITS - 1);
+        return shift * HALF_SUB_BUCKETS + (int) (micros >>> shift);
+    }
+
+    private static long highestValue(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / HALF_SUB_BUCKETS - 1;
+        long subBucket = bucket - (long) shift * HALF_SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
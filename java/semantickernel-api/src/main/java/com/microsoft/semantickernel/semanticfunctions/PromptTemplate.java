@@ -8,6 +8,7 @@ import com.microsoft.semantickernel.orchestration.SKContext;
 import com.microsoft.semantickernel.skilldefinition.ParameterView;
 import com.microsoft.semantickernel.templateengine.PromptTemplateEngine;
 import java.util.List;
+import java.util.function.Supplier;
 import reactor.core.publisher.Mono;
 
 /** Interface for prompt template */
@@ -27,6 +28,12 @@ public interface PromptTemplate extends Buildable {
      */
     Mono<String> renderAsync(SKContext executionContext);
 
+    /**
+     * Drop what the template engine cached for the text of this template, once the template has
+     * been replaced. Renders still running, or started later, are not affected.
+     */
+    default void evict() {}
+
     static Builder builder() {
         return BuildersSingleton.INST.getInstance(Builder.class);
     }
@@ -35,6 +42,17 @@ public interface PromptTemplate extends Buildable {
 
         Builder withPromptTemplate(String promptTemplate);
 
+        /**
+         * Set a loader reading the prompt when the template is first used, instead of the prompt
+         * itself. Builders that do not load prompts lazily invoke the loader immediately.
+         *
+         * @param promptTemplateLoader Loads the prompt, invoked at most once
+         * @return Builder
+         */
+        default Builder withPromptTemplateLoader(Supplier<String> promptTemplateLoader) {
+            return withPromptTemplate(promptTemplateLoader.get());
+        }
+
         Builder withPromptTemplateConfig(PromptTemplateConfig config);
 
         Builder withPromptTemplateEngine(PromptTemplateEngine promptTemplateEngine);
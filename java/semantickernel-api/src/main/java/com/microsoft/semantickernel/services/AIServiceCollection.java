@@ -16,7 +16,10 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
-/** A collection that can hold AI services */
+/**
+ * A collection that can hold AI services. Services can be registered from several threads, {@link
+ * #build()} freezes the services registered so far into an immutable {@link AIServiceProvider}.
+ */
 public class AIServiceCollection {
     // A constant key for the default service
     private static final String DefaultKey = "__DEFAULT__";
@@ -44,7 +47,7 @@ public class AIServiceCollection {
      * @param serviceType The type of the service.
      */
     public <T extends AIService> void setService(T service, Class<T> serviceType) {
-        setService(DefaultKey, (Supplier<T>) () -> service, true, serviceType);
+        setServiceFactory(DefaultKey, () -> service, true, serviceType);
     }
 
     /**
@@ -57,38 +60,75 @@ public class AIServiceCollection {
      */
     public <T extends AIService> void setService(
             String name, T service, boolean setAsDefault, Class<T> serviceType) {
-        setService(name, (Supplier<T>) () -> service, setAsDefault, serviceType);
+        setServiceFactory(name, () -> service, setAsDefault, serviceType);
     }
 
     /**
-     * Registers a transient service factory with the default name.
+     * Registers a service factory with the default name.
      *
      * @param factory The factory function to create the service instance.
      * @param serviceType The type of the service.
+     * @deprecated Ambiguous when called with a lambda, use {@link #setServiceFactory(Supplier,
+     *     Class)}
      */
+    @Deprecated
     public <T extends AIService> void setService(Supplier<T> factory, Class<T> serviceType) {
-        setService(DefaultKey, factory, true, serviceType);
+        setServiceFactory(factory, serviceType);
     }
 
     /**
-     * Registers a transient service factory with an optional name and default flag.
+     * Registers a service factory with an optional name and default flag.
      *
      * @param name The name of the service, or null for the default service.
      * @param factory The factory function to create the service instance.
      * @param setAsDefault Whether the service should be the default for its type.
      * @param specificServiceType The type of the service.
+     * @deprecated Ambiguous when called with a lambda, use {@link #setServiceFactory(String,
+     *     Supplier, boolean, Class)}
      */
+    @Deprecated
     public <T extends AIService> void setService(
             @Nullable String name,
             Supplier<T> factory,
             boolean setAsDefault,
             Class<T> specificServiceType) {
+        setServiceFactory(name, factory, setAsDefault, specificServiceType);
+    }
+
+    /**
+     * Registers a service factory with the default name. The factory is invoked when the service
+     * is first requested, and at most once.
+     *
+     * @param factory The factory function to create the service instance.
+     * @param serviceType The type of the service.
+     */
+    public <T extends AIService> void setServiceFactory(Supplier<T> factory, Class<T> serviceType) {
+        setServiceFactory(DefaultKey, factory, true, serviceType);
+    }
+
+    /**
+     * Registers a service factory with an optional name and default flag. The factory is invoked
+     * when the service is first requested, and at most once.
+     *
+     * @param name The name of the service, or null for the default service.
+     * @param factory The factory function to create the service instance.
+     * @param setAsDefault Whether the service should be the default for its type.
+     * @param specificServiceType The type of the service.
+     */
+    public synchronized <T extends AIService> void setServiceFactory(
+            @Nullable String name,
+            Supplier<T> factory,
+            boolean setAsDefault,
+            Class<T> specificServiceType) {
 
         // Validate the factory function
         if (factory == null) {
             throw new IllegalArgumentException();
         }
 
+        // Shared by all the types the service is registered as
+        Supplier<T> memoized = MemoizedSupplier.of(factory);
+
         // if this is an implementation of a known service type, register it as such
         getKnownServiceTypes(specificServiceType)
                 .forEach(
@@ -106,7 +146,7 @@ public class AIServiceCollection {
                             }
 
                             // Register the factory with the given name
-                            namedServices.put(name == null ? DefaultKey : name, factory);
+                            namedServices.put(name == null ? DefaultKey : name, memoized);
                         });
     }
 
@@ -126,7 +166,7 @@ public class AIServiceCollection {
      *
      * @return The AIServiceProvider.
      */
-    public AIServiceProvider build() {
+    public synchronized AIServiceProvider build() {
         // Create a clone of the services and defaults Dictionaries to prevent further changes
         // by the services provider.
         Map<Class<? extends AIService>, Map<String, Supplier<? extends AIService>>> servicesClone =
@@ -150,7 +190,10 @@ public class AIServiceCollection {
                         .reduce(
                                 new HashMap<>(),
                                 (a, b) -> {
-                                    a.put(b.getKey(), Collections.unmodifiableMap(b.getValue()));
+                                    a.put(
+                                            b.getKey(),
+                                            Collections.unmodifiableMap(
+                                                    new HashMap<>(b.getValue())));
                                     return a;
                                 },
                                 (a, b) -> {
@@ -7,7 +7,11 @@ import java.util.Map;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
-/** Default implementation of {@link NamedServiceProvider} */
+/**
+ * Default implementation of {@link NamedServiceProvider}. The services are copied when the provider
+ * is created and never change afterwards, so lookups need no synchronization. The default service
+ * of each type is resolved up front, looking it up costs a single map access.
+ */
 public class DefaultNamedServiceProvider<T> implements NamedServiceProvider<T> {
 
     // A dictionary that maps a service type to a nested dictionary of names and service instances
@@ -18,11 +22,23 @@ public class DefaultNamedServiceProvider<T> implements NamedServiceProvider<T> {
     // A dictionary that maps a service type to the name of the default service
     private final Map<Class<? extends T>, String> defaultIds;
 
+    // A dictionary that maps a service type to the factory of the default service
+    private final Map<Class<? extends T>, Supplier<? extends T>> defaultServices;
+
     public DefaultNamedServiceProvider(
             Map<Class<? extends T>, Map<String, Supplier<? extends T>>> services,
             Map<Class<? extends T>, String> defaultIds) {
         this.services = AIServiceCollection.cloneServices(services);
         this.defaultIds = new HashMap<>(defaultIds);
+
+        this.defaultServices = new HashMap<>();
+        for (Class<? extends T> type : this.defaultIds.keySet()) {
+            String name = getDefaultServiceName(type);
+            Map<String, Supplier<? extends T>> namedServices = this.services.get(type);
+            if (name != null && namedServices != null && namedServices.containsKey(name)) {
+                this.defaultServices.put(type, namedServices.get(name));
+            }
+        }
     }
 
     /**
@@ -51,7 +67,7 @@ public class DefaultNamedServiceProvider<T> implements NamedServiceProvider<T> {
      * @return The service instance, or null if none.
      */
     @Nullable
-    private <U extends T> String getDefaultServiceName(Class<U> clazz) {
+    private String getDefaultServiceName(Class<? extends T> clazz) {
         // Returns the name of the default service for the given type, or null if none
         String name = this.defaultIds.get(clazz);
         if (!Verify.isNullOrEmpty(name)) {
@@ -63,20 +79,16 @@ public class DefaultNamedServiceProvider<T> implements NamedServiceProvider<T> {
 
     @Nullable
     private <U extends T> Supplier<U> getServiceFactory(@Nullable String name, Class<U> clazz) {
+        if (name == null) {
+            return (Supplier<U>) defaultServices.get(clazz);
+        }
+
         // Get the nested dictionary for the service type
         Map<String, Supplier<? extends T>> namedServices = services.get(clazz);
 
         if (namedServices != null) {
-            Supplier<U> serviceFactory = null;
-
-            // If the name is not specified, try to load the default factory
-            name = name == null ? this.getDefaultServiceName(clazz) : name;
-            if (name != null) {
-                // Check if there is a service registered with the given name
-                serviceFactory = (Supplier<U>) namedServices.get(name);
-            }
-
-            return serviceFactory;
+            // Check if there is a service registered with the given name
+            return (Supplier<U>) namedServices.get(name);
         }
 
         return null;
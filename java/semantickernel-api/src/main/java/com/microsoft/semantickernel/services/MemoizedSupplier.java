@@ -0,0 +1,49 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.services;
+
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * A supplier that invokes its factory at most once and returns the same value afterwards. A
+ * factory that returns null or throws is invoked again on the next call.
+ *
+ * @param <T> The type of the value
+ */
+public final class MemoizedSupplier<T> implements Supplier<T> {
+
+    private final Supplier<T> factory;
+    @Nullable private volatile T value;
+
+    private MemoizedSupplier(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Memoize a factory
+     *
+     * @param factory The factory
+     * @return A supplier invoking the factory at most once
+     */
+    public static <T> MemoizedSupplier<T> of(Supplier<T> factory) {
+        if (factory instanceof MemoizedSupplier) {
+            return (MemoizedSupplier<T>) factory;
+        }
+        return new MemoizedSupplier<>(factory);
+    }
+
+    @Override
+    public T get() {
+        T result = value;
+        if (result == null) {
+            synchronized (this) {
+                result = value;
+                if (result == null) {
+                    result = factory.get();
+                    value = result;
+                }
+            }
+        }
+        return result;
+    }
+}
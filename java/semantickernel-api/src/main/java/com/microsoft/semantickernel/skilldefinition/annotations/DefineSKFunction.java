@@ -17,4 +17,11 @@ public @interface DefineSKFunction {
     String returnType() default "void";
 
     String returnDescription() default "";
+
+    /**
+     * Whether the function has no side effects and returns the same result for the same input.
+     * Repeated calls to an idempotent function with the same argument within one prompt template
+     * share a single invocation.
+     */
+    boolean idempotent() default false;
 }
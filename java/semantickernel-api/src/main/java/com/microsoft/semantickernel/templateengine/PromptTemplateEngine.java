@@ -6,6 +6,7 @@ import com.microsoft.semantickernel.builders.BuildersSingleton;
 import com.microsoft.semantickernel.builders.SemanticKernelBuilder;
 import com.microsoft.semantickernel.orchestration.SKContext;
 import com.microsoft.semantickernel.templateengine.blocks.Block;
+import com.microsoft.semantickernel.templateengine.blocks.BlockTypes;
 import java.util.List;
 import reactor.core.publisher.Mono;
 
@@ -34,6 +35,26 @@ public interface PromptTemplateEngine extends Buildable {
      */
     Mono<String> renderAsync(String templateText, SKContext context);
 
+    /**
+     * Given a list of blocks render each block and compose the final result. Engines that do not
+     * render blocks directly render the template text the blocks were extracted from.
+     *
+     * @param blocks Template blocks generated by {@link #extractBlocks(String)}
+     * @param context Access into the current kernel execution context
+     * @return The prompt template ready to be used for an AI request
+     */
+    default Mono<String> renderAsync(List<Block> blocks, SKContext context) {
+        StringBuilder templateText = new StringBuilder();
+        for (Block block : blocks) {
+            if (block.getType() == BlockTypes.Text) {
+                templateText.append(block.getContent());
+            } else {
+                templateText.append("{{").append(block.getContent()).append("}}");
+            }
+        }
+        return renderAsync(templateText.toString(), context);
+    }
+
     /**
      * Given a prompt template string, extract all the blocks (text, variables, function calls)
      *
@@ -43,9 +64,30 @@ public interface PromptTemplateEngine extends Buildable {
      */
     List<Block> extractBlocks(String promptTemplate);
 
+    /**
+     * Drop what the engine cached for a template text, once no template of that text is used
+     * anymore, for instance when the file of a prompt was edited and its function reloaded
+     *
+     * @param promptTemplate Prompt template that is no longer used
+     */
+    default void evict(String promptTemplate) {}
+
     static Builder builder() {
         return BuildersSingleton.INST.getInstance(Builder.class);
     }
 
-    interface Builder extends SemanticKernelBuilder<PromptTemplateEngine> {}
+    interface Builder extends SemanticKernelBuilder<PromptTemplateEngine> {
+
+        /**
+         * Set the maximum number of function calls of a template that are rendered concurrently.
+         * The rendered blocks are always assembled in template order. Defaults to 1, functions are
+         * invoked one after the other.
+         *
+         * @param renderConcurrency Maximum number of concurrent function calls
+         * @return The builder, engines that do not render concurrently ignore the setting
+         */
+        default Builder withRenderConcurrency(int renderConcurrency) {
+            return this;
+        }
+    }
 }
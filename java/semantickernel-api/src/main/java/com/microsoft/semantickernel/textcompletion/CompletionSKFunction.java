@@ -2,6 +2,8 @@
 package com.microsoft.semantickernel.textcompletion;
 
 import com.microsoft.semantickernel.Kernel;
+import com.microsoft.semantickernel.SKBuilders;
+import com.microsoft.semantickernel.ai.cache.CompletionCache;
 import com.microsoft.semantickernel.builders.Buildable;
 import com.microsoft.semantickernel.builders.BuildersSingleton;
 import com.microsoft.semantickernel.builders.SemanticKernelBuilder;
@@ -10,7 +12,9 @@ import com.microsoft.semantickernel.orchestration.SKFunction;
 import com.microsoft.semantickernel.semanticfunctions.PromptTemplateConfig;
 import com.microsoft.semantickernel.semanticfunctions.SemanticFunctionConfig;
 import java.util.List;
+import java.util.stream.Collectors;
 import javax.annotation.Nullable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /** Semantic function for text completion */
@@ -26,6 +30,88 @@ public interface CompletionSKFunction extends SKFunction<CompletionRequestSettin
     Mono<SKContext> aggregatePartitionedResultsAsync(
             List<String> partitionedInput, @Nullable SKContext context);
 
+    /**
+     * Method to aggregate partitioned results of a semantic function, invoking the function on up
+     * to {@code concurrency} partitions at a time. Every partition is completed with its own copy
+     * of the context, so results of earlier partitions are not visible to later ones. The results
+     * are joined in the order of the partitions.
+     *
+     * @param partitionedInput Input to aggregate
+     * @param context Semantic Kernel context
+     * @param concurrency Maximum number of partitions completed at the same time
+     * @return Aggregated results
+     */
+    default Mono<SKContext> aggregatePartitionedResultsAsync(
+            List<String> partitionedInput, @Nullable SKContext context, int concurrency) {
+        return aggregatePartitionedResultsAsync(
+                partitionedInput, context, concurrency, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Method to aggregate partitioned results of a semantic function, invoking the function on up
+     * to {@code concurrency} partitions at a time. If the joined results are estimated to be longer
+     * than {@code maxResultTokens}, adjacent results are grouped and the function is invoked again
+     * on each group, until the joined results fit or can no longer be reduced. This is meant for
+     * functions such as summaries whose output can be fed back as their input.
+     *
+     * <p>The default implementation invokes the function on the partitions one after the other
+     * and joins the results, without reducing them to the token budget.
+     *
+     * @param partitionedInput Input to aggregate
+     * @param context Semantic Kernel context
+     * @param concurrency Maximum number of partitions completed at the same time
+     * @param maxResultTokens Token budget of the aggregated results
+     * @return Aggregated results
+     */
+    default Mono<SKContext> aggregatePartitionedResultsAsync(
+            List<String> partitionedInput,
+            @Nullable SKContext context,
+            int concurrency,
+            int maxResultTokens) {
+        SKContext base = context == null ? SKBuilders.context().build() : context;
+        return Flux.fromIterable(partitionedInput)
+                .concatMap(input -> invokeAsync(base.copy().update(input), null))
+                .mapNotNull(SKContext::getResult)
+                .collect(Collectors.joining("\n"))
+                .map(base::update);
+    }
+
+    /**
+     * Invokes the function, emitting fragments of the completion as they are produced by the AI
+     * service rather than waiting for the full result. The returned Flux honours downstream demand,
+     * fragments are only requested from the service as they are consumed.
+     *
+     * <p>The default implementation invokes the function with {@link #invokeAsync(SKContext,
+     * Object)} and emits the completion once, as a single fragment.
+     *
+     * @param context Semantic Kernel context used to render the prompt
+     * @param settings Request settings, if null the settings of the function are used
+     * @return Fragments of the completion
+     */
+    default Flux<String> invokeStreamingAsync(
+            @Nullable SKContext context, @Nullable CompletionRequestSettings settings) {
+        Mono<SKContext> result = context == null ? invokeAsync() : invokeAsync(context, settings);
+        return result.mapNotNull(SKContext::getResult).flux();
+    }
+
+    /**
+     * Invokes the function once for each of the contexts, sending all of the rendered prompts to
+     * the AI service together so that services which accept several prompts per request can
+     * complete them in as few requests as possible.
+     *
+     * <p>The default implementation invokes the function for each context one after the other.
+     *
+     * @param contexts Contexts to render the prompt with, one per invocation
+     * @param settings Request settings, if null the settings of the function are used
+     * @return The updated contexts, in the same order as {@code contexts}
+     */
+    default Mono<List<SKContext>> invokeBatchAsync(
+            List<SKContext> contexts, @Nullable CompletionRequestSettings settings) {
+        return Flux.fromIterable(contexts)
+                .concatMap(context -> invokeAsync(context, settings))
+                .collectList();
+    }
+
     static Builder builder() {
         return BuildersSingleton.INST.getInstance(CompletionSKFunction.Builder.class);
     }
@@ -48,5 +134,16 @@ public interface CompletionSKFunction extends SKFunction<CompletionRequestSettin
         Builder withFunctionName(@Nullable String functionName);
 
         Builder withDescription(String description);
+
+        /**
+         * Cache the completions of the function, overriding the cache of the kernel. Streamed and
+         * batched invocations bypass the cache. Builders that do not support caching ignore it.
+         *
+         * @param completionCache The completion cache
+         * @return Builder
+         */
+        default Builder withCompletionCache(@Nullable CompletionCache completionCache) {
+            return this;
+        }
     }
 }
@@ -34,6 +34,57 @@ public interface TextCompletion extends AIService, Buildable {
     Flux<String> completeStreamAsync(
             @Nonnull String text, @Nonnull CompletionRequestSettings requestSettings);
 
+    /**
+     * Creates a completion for the prompt and settings, emitting each fragment of text as soon as
+     * it is received from the remote model rather than the aggregated completion. Concatenating the
+     * emitted fragments yields the full completion.
+     *
+     * <p>Services that do not support incremental delivery emit the complete result produced by
+     * {@link #completeStreamAsync(String, CompletionRequestSettings)}.
+     *
+     * @param text The prompt to complete.
+     * @param requestSettings Request settings for the completion API
+     * @return Fragments of text generated by the remote model
+     */
+    default Flux<String> completeStreamDeltasAsync(
+            @Nonnull String text, @Nonnull CompletionRequestSettings requestSettings) {
+        return completeStreamAsync(text, requestSettings);
+    }
+
+    /**
+     * Creates one completion for each of the prompts. Services that accept several prompts in a
+     * single request pack them together, others complete the prompts one after the other.
+     *
+     * @param prompts The prompts to complete.
+     * @param requestSettings Request settings for the completion API
+     * @return Text generated by the remote model, the completion of {@code prompts.get(i)} is at
+     *     index {@code i}
+     */
+    default Mono<List<String>> completeBatchAsync(
+            @Nonnull List<String> prompts, @Nonnull CompletionRequestSettings requestSettings) {
+        return Flux.fromIterable(prompts)
+                .concatMap(
+                        prompt ->
+                                completeAsync(prompt, requestSettings)
+                                        .map(
+                                                completions ->
+                                                        completions.isEmpty()
+                                                                ? ""
+                                                                : completions.get(0)))
+                .collectList();
+    }
+
+    /**
+     * Returns the id of the model completing the prompts, used to tell the completions of
+     * different models apart, for instance in a completion cache. Defaults to the class name of
+     * the service.
+     *
+     * @return The model id
+     */
+    default String getModelId() {
+        return getClass().getName();
+    }
+
     static Builder builder() {
         return BuildersSingleton.INST.getInstance(Builder.class);
     }
@@ -59,5 +110,30 @@ public interface TextCompletion extends AIService, Buildable {
          * CompletionType#STREAMING}.
          */
         Builder withDefaultCompletionType(CompletionType completionType);
+
+        /**
+         * Sets the maximum number of prompts packed into a single request by {@link
+         * #completeBatchAsync(List, CompletionRequestSettings)}. Ignored by services that do not
+         * pack prompts.
+         *
+         * @param maxPromptsPerRequest Maximum number of prompts per request
+         * @return The builder
+         */
+        default Builder withMaxPromptsPerRequest(int maxPromptsPerRequest) {
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of tokens a single request of {@link
+         * #completeBatchAsync(List, CompletionRequestSettings)} may use, counting the estimated
+         * tokens of its prompts and the maximum tokens of each of their completions. Ignored by
+         * services that do not pack prompts.
+         *
+         * @param maxTokensPerRequest Maximum number of tokens per request
+         * @return The builder
+         */
+        default Builder withMaxTokensPerRequest(int maxTokensPerRequest) {
+            return this;
+        }
     }
 }
@@ -0,0 +1,51 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel;
+
+import com.microsoft.semantickernel.builders.BuilderRegistry;
+import com.microsoft.semantickernel.memory.DefaultSemanticTextMemory;
+import com.microsoft.semantickernel.memory.MemoryStore;
+import com.microsoft.semantickernel.memory.SemanticTextMemory;
+import com.microsoft.semantickernel.memory.VolatileMemoryStore;
+import com.microsoft.semantickernel.orchestration.ContextVariables;
+import com.microsoft.semantickernel.orchestration.ContextVariablesBuilders;
+import com.microsoft.semantickernel.orchestration.DefaultCompletionSKFunction;
+import com.microsoft.semantickernel.orchestration.DefaultSKContext;
+import com.microsoft.semantickernel.orchestration.SKContext;
+import com.microsoft.semantickernel.semanticfunctions.DefaultPromptTemplate;
+import com.microsoft.semantickernel.semanticfunctions.PromptTemplate;
+import com.microsoft.semantickernel.semanticfunctions.PromptTemplateConfig;
+import com.microsoft.semantickernel.skilldefinition.DefaultSkillCollection;
+import com.microsoft.semantickernel.skilldefinition.ReadOnlySkillCollection;
+import com.microsoft.semantickernel.templateengine.DefaultPromptTemplateEngine;
+import com.microsoft.semantickernel.templateengine.PromptTemplateEngine;
+import com.microsoft.semantickernel.textcompletion.CompletionSKFunction;
+
+/**
+ * The builders of semantickernel-core, the same that its META-INF/services files and the fallbacks
+ * of {@link com.microsoft.semantickernel.builders.BuildersSingleton} provide. Enable with
+ * -Dsemantickernel.builders.registry=com.microsoft.semantickernel.CoreBuilderRegistry
+ */
+public class CoreBuilderRegistry implements BuilderRegistry {
+
+    @Override
+    public void registerBuilders(Registrar registrar) {
+        // Keep this list in alphabetical order by builder interface
+        registrar.register(
+                PromptTemplateConfig.CompletionConfigBuilder.class,
+                PromptTemplateConfig.CompletionConfigBuilder::new);
+        registrar.register(
+                CompletionSKFunction.Builder.class, DefaultCompletionSKFunction.Builder::new);
+        registrar.register(ContextVariables.Builder.class, ContextVariablesBuilders::builder);
+        registrar.register(Kernel.Builder.class, DefaultKernel.Builder::new);
+        registrar.register(KernelConfig.Builder.class, KernelConfig.Builder::new);
+        registrar.register(MemoryStore.Builder.class, VolatileMemoryStore.Builder::new);
+        registrar.register(PromptTemplate.Builder.class, DefaultPromptTemplate.Builder::new);
+        registrar.register(
+                PromptTemplateEngine.Builder.class, DefaultPromptTemplateEngine.Builder::new);
+        registrar.register(
+                ReadOnlySkillCollection.Builder.class, DefaultSkillCollection.Builder::new);
+        registrar.register(
+                SemanticTextMemory.Builder.class, DefaultSemanticTextMemory.Builder::new);
+        registrar.register(SKContext.Builder.class, DefaultSKContext.Builder::new);
+    }
+}
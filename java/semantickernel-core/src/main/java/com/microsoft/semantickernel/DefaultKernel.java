@@ -11,10 +11,17 @@ import com.microsoft.semantickernel.memory.MemoryConfiguration;
 import com.microsoft.semantickernel.memory.MemoryStore;
 import com.microsoft.semantickernel.memory.NullMemory;
 import com.microsoft.semantickernel.memory.SemanticTextMemory;
+import com.microsoft.semantickernel.orchestration.AbstractSkFunction;
+import com.microsoft.semantickernel.orchestration.BatchOptions;
+import com.microsoft.semantickernel.orchestration.BatchResult;
 import com.microsoft.semantickernel.orchestration.ContextVariables;
+import com.microsoft.semantickernel.orchestration.DefaultNativeFunctionScheduler;
+import com.microsoft.semantickernel.orchestration.PipelineStep;
 import com.microsoft.semantickernel.orchestration.RegistrableSkFunction;
 import com.microsoft.semantickernel.orchestration.SKContext;
 import com.microsoft.semantickernel.orchestration.SKFunction;
+import com.microsoft.semantickernel.orchestration.hooks.FunctionInvocationHooks;
+import com.microsoft.semantickernel.semanticfunctions.PromptTemplate;
 import com.microsoft.semantickernel.semanticfunctions.SemanticFunctionConfig;
 import com.microsoft.semantickernel.services.AIService;
 import com.microsoft.semantickernel.services.AIServiceCollection;
@@ -23,24 +30,44 @@ import com.microsoft.semantickernel.skilldefinition.DefaultSkillCollection;
 import com.microsoft.semantickernel.skilldefinition.FunctionNotFound;
 import com.microsoft.semantickernel.skilldefinition.ReadOnlyFunctionCollection;
 import com.microsoft.semantickernel.skilldefinition.ReadOnlySkillCollection;
+import com.microsoft.semantickernel.skilldefinition.SkillDirectoryWatcher;
 import com.microsoft.semantickernel.templateengine.DefaultPromptTemplateEngine;
 import com.microsoft.semantickernel.templateengine.PromptTemplateEngine;
 import com.microsoft.semantickernel.textcompletion.CompletionSKFunction;
 import jakarta.inject.Inject;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 public class DefaultKernel implements Kernel {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultKernel.class);
+
     private final KernelConfig kernelConfig;
-    private final DefaultSkillCollection defaultSkillCollection;
+    // Immutable snapshots of the skills, replaced as a whole when skills are added so that
+    // functions can be resolved without locking while skills are imported
+    private final AtomicReference<DefaultSkillCollection> skillCollection =
+            new AtomicReference<>(new DefaultSkillCollection());
     private final PromptTemplateEngine promptTemplateEngine;
     private final AIServiceProvider aiServiceProvider;
+    private final FunctionInvocationHooks invocationHooks = new FunctionInvocationHooks();
     private SemanticTextMemory memory;
 
     @Inject
@@ -56,7 +83,6 @@ public class DefaultKernel implements Kernel {
         this.kernelConfig = kernelConfig;
         this.aiServiceProvider = aiServiceProvider;
         this.promptTemplateEngine = promptTemplateEngine;
-        this.defaultSkillCollection = new DefaultSkillCollection();
 
         if (memoryStore != null) {
             this.memory = memoryStore.copy();
@@ -88,6 +114,17 @@ public class DefaultKernel implements Kernel {
         return kernelConfig;
     }
 
+    @Override
+    public FunctionInvocationHooks getInvocationHooks() {
+        return invocationHooks;
+    }
+
+    private void setInvocationHooks(SKFunction<?> function) {
+        if (function instanceof AbstractSkFunction) {
+            ((AbstractSkFunction<?>) function).setInvocationHooks(invocationHooks);
+        }
+    }
+
     @Override
     public <RequestConfiguration, FunctionType extends SKFunction<RequestConfiguration>>
             FunctionType registerSemanticFunction(FunctionType func) {
@@ -95,13 +132,15 @@ public class DefaultKernel implements Kernel {
             throw new RuntimeException("This function does not implement RegistrableSkFunction");
         }
         ((RegistrableSkFunction) func).registerOnKernel(this);
-        defaultSkillCollection.addSemanticFunction(func);
+        setInvocationHooks(func);
+        skillCollection.updateAndGet(
+                current -> current.withFunctions(Collections.singletonList(func)));
         return func;
     }
 
     @Override
     public SKFunction<?> getFunction(String skill, String function) {
-        return defaultSkillCollection.getFunction(skill, function, null);
+        return skillCollection.get().getFunction(skill, function, null);
     }
 
     @Override
@@ -168,24 +207,25 @@ public class DefaultKernel implements Kernel {
         }
 
         // skill = new Dictionary<string, ISKFunction>(StringComparer.OrdinalIgnoreCase);
+        Scheduler scheduler = kernelConfig.getNativeFunctionScheduler(skillName);
+        if (scheduler == null) {
+            scheduler = DefaultNativeFunctionScheduler.get();
+        }
+
         ReadOnlyFunctionCollection functions =
-                SkillImporter.importSkill(skillInstance, skillName, () -> defaultSkillCollection);
+                SkillImporter.importSkill(
+                        skillInstance, skillName, this::getSkills, scheduler);
 
-        DefaultSkillCollection newSkills =
-                functions.getAll().stream()
-                        .reduce(
-                                new DefaultSkillCollection(),
-                                DefaultSkillCollection::addNativeFunction,
-                                DefaultSkillCollection::merge);
+        functions.getAll().forEach(this::setInvocationHooks);
 
-        this.defaultSkillCollection.merge(newSkills);
+        skillCollection.updateAndGet(current -> current.withFunctions(functions.getAll()));
 
         return functions;
     }
 
     @Override
     public ReadOnlySkillCollection getSkills() {
-        return defaultSkillCollection;
+        return skillCollection.get();
     }
 
     @Override
@@ -195,7 +235,7 @@ public class DefaultKernel implements Kernel {
 
     @Override
     public ReadOnlyFunctionCollection getSkill(String skillName) throws FunctionNotFound {
-        ReadOnlyFunctionCollection functions = this.defaultSkillCollection.getFunctions(skillName);
+        ReadOnlyFunctionCollection functions = skillCollection.get().getFunctions(skillName);
         if (functions == null) {
             throw new FunctionNotFound(FunctionNotFound.ErrorCodes.FUNCTION_NOT_FOUND, skillName);
         }
@@ -208,13 +248,90 @@ public class DefaultKernel implements Kernel {
             String skillName, String parentDirectory, String skillDirectoryName) {
         Map<String, SemanticFunctionConfig> skills =
                 KernelExtensions.importSemanticSkillFromDirectory(
-                        parentDirectory, skillDirectoryName, promptTemplateEngine);
+                        parentDirectory,
+                        skillDirectoryName,
+                        promptTemplateEngine,
+                        kernelConfig.isLazyPromptLoading());
         return importSkill(skillName, skills);
     }
 
+    @Override
+    public Closeable watchSkillDirectory(
+            String skillName,
+            String parentDirectory,
+            String skillDirectoryName,
+            Duration debounce) {
+        Map<String, SemanticFunctionConfig> skills =
+                KernelExtensions.importSemanticSkillFromDirectory(
+                        parentDirectory,
+                        skillDirectoryName,
+                        promptTemplateEngine,
+                        kernelConfig.isLazyPromptLoading());
+        importSkill(skillName, skills);
+
+        // Current template of each function, evicted from the engine once replaced
+        Map<String, PromptTemplate> templates = new ConcurrentHashMap<>();
+        skills.forEach((name, config) -> templates.put(name, config.getTemplate()));
+        try {
+            return SkillDirectoryWatcher.watch(
+                    Paths.get(parentDirectory, skillDirectoryName),
+                    debounce,
+                    functionName ->
+                            reloadSemanticFunction(
+                                    skillName,
+                                    parentDirectory,
+                                    skillDirectoryName,
+                                    functionName,
+                                    templates));
+        } catch (IOException e) {
+            throw new KernelException(
+                    KernelException.ErrorCodes.FUNCTION_NOT_AVAILABLE,
+                    "Failed to watch skill directory " + skillDirectoryName,
+                    e);
+        }
+    }
+
+    private void reloadSemanticFunction(
+            String skillName,
+            String parentDirectory,
+            String skillDirectoryName,
+            String functionName,
+            Map<String, PromptTemplate> templates) {
+        SemanticFunctionConfig config =
+                KernelExtensions.importSemanticFunctionFromDirectory(
+                        parentDirectory,
+                        skillDirectoryName,
+                        functionName,
+                        promptTemplateEngine,
+                        kernelConfig.isLazyPromptLoading());
+        if (config == null) {
+            // Deleted or half written, keep serving the last version that loaded
+            LOGGER.debug("Keeping the current version of {}.{}", skillName, functionName);
+            return;
+        }
+
+        // Registering replaces the previous version in a new snapshot of the skill collection,
+        // invocations that already resolved the function complete on the previous version
+        SKBuilders.completionFunctions()
+                .withKernel(this)
+                .withSkillName(skillName)
+                .withFunctionName(functionName)
+                .withSemanticFunctionConfig(config)
+                .build();
+
+        // The previous version keeps its own blocks, only the engine forgets its text
+        PromptTemplate previous = templates.put(functionName, config.getTemplate());
+        if (previous != null) {
+            previous.evict();
+        }
+        LOGGER.info("Reloaded semantic function {}.{}", skillName, functionName);
+    }
+
     @Override
     public void importSkillsFromDirectory(String parentDirectory, String... skillNames) {
+        // Skills are added to the kernel atomically, so they can be imported in parallel
         Arrays.stream(skillNames)
+                .parallel()
                 .forEach(
                         skill -> {
                             importSkillFromDirectory(skill, parentDirectory, skill);
@@ -271,13 +388,18 @@ public class DefaultKernel implements Kernel {
         if (pipeline == null || pipeline.length == 0) {
             throw new SKException("No parameters provided to pipeline");
         }
+        return runPipeline(variables, getSkills(), pipeline);
+    }
+
+    private Mono<SKContext> runPipeline(
+            ContextVariables variables, ReadOnlySkillCollection skills, SKFunction<?>[] pipeline) {
         // TODO: The SemanticTextMemory can be null, but there should be a way to provide it.
         //       Not sure registerMemory is the right way.
         Mono<SKContext> pipelineBuilder =
                 Mono.just(
                         SKBuilders.context()
                                 .withVariables(variables)
-                                .withSkills(getSkills())
+                                .withSkills(skills)
                                 .build());
 
         for (SKFunction f : Arrays.asList(pipeline)) {
@@ -289,7 +411,7 @@ public class DefaultKernel implements Kernel {
                                                 // Previous pipeline did not produce a result
                                                 return SKBuilders.context()
                                                         .withVariables(variables)
-                                                        .withSkills(getSkills())
+                                                        .withSkills(skills)
                                                         .build();
                                             }))
                             .flatMap(
@@ -307,6 +429,90 @@ public class DefaultKernel implements Kernel {
         return pipelineBuilder;
     }
 
+    @Override
+    public Mono<SKContext> runPipelineAsync(ContextVariables variables, PipelineStep... pipeline) {
+        if (pipeline == null || pipeline.length == 0) {
+            throw new SKException("No parameters provided to pipeline");
+        }
+
+        return new PipelineExecutor(Arrays.asList(pipeline)).run(variables, getSkills(), null);
+    }
+
+    @Override
+    public Flux<BatchResult> runBatchAsync(
+            Flux<ContextVariables> inputs, BatchOptions options, SKFunction<?>... pipeline) {
+        if (pipeline == null || pipeline.length == 0) {
+            throw new SKException("No parameters provided to pipeline");
+        }
+
+        return Flux.defer(
+                () -> {
+                    // All inputs of the batch share one snapshot of the skills
+                    ReadOnlySkillCollection skills = getSkills();
+
+                    return BatchResult.runBatch(
+                            inputs, options, input -> runPipeline(input, skills, pipeline));
+                });
+    }
+
+    @Override
+    public Flux<String> runStreamingAsync(ContextVariables variables, SKFunction<?>... pipeline) {
+        if (pipeline == null || pipeline.length == 0) {
+            throw new SKException("No parameters provided to pipeline");
+        }
+
+        SKFunction<?> last = pipeline[pipeline.length - 1];
+
+        Mono<SKContext> head;
+        if (pipeline.length == 1) {
+            head = Mono.empty();
+        } else {
+            head = runAsync(variables, Arrays.copyOf(pipeline, pipeline.length - 1));
+        }
+
+        return head.switchIfEmpty(
+                        Mono.fromCallable(
+                                () ->
+                                        SKBuilders.context()
+                                                .withVariables(variables)
+                                                .withSkills(getSkills())
+                                                .build()))
+                .flatMapMany(
+                        newContext -> {
+                            SKContext context =
+                                    SKBuilders.context()
+                                            .withVariables(newContext.getVariables())
+                                            .withMemory(newContext.getSemanticMemory())
+                                            .withSkills(newContext.getSkills())
+                                            .build();
+
+                            if (last instanceof CompletionSKFunction) {
+                                return ((CompletionSKFunction) last)
+                                        .invokeStreamingAsync(context, null);
+                            }
+                            return last.invokeAsync(context, null)
+                                    .mapNotNull(SKContext::getResult)
+                                    .flux();
+                        });
+    }
+
+    @Override
+    public Mono<List<SKContext>> invokeBatchAsync(
+            CompletionSKFunction function, List<ContextVariables> inputs) {
+        ReadOnlySkillCollection skills = getSkills();
+        List<SKContext> contexts =
+                inputs.stream()
+                        .map(
+                                variables ->
+                                        SKBuilders.context()
+                                                .withVariables(variables)
+                                                .withSkills(skills)
+                                                .build())
+                        .collect(Collectors.toList());
+
+        return function.invokeBatchAsync(contexts, null);
+    }
+
     public static class Builder implements Kernel.Builder {
         @Nullable private KernelConfig config = null;
         @Nullable private PromptTemplateEngine promptTemplateEngine = null;
@@ -394,7 +600,7 @@ public class DefaultKernel implements Kernel {
          */
         public <T extends AIService> Kernel.Builder withDefaultAIService(
                 Supplier<T> factory, Class<T> clazz) {
-            this.aiServices.setService(factory, clazz);
+            this.aiServices.setServiceFactory(factory, clazz);
             return this;
         }
 
@@ -426,8 +632,8 @@ public class DefaultKernel implements Kernel {
                 Function<KernelConfig, T> factory,
                 boolean setAsDefault,
                 Class<T> clazz) {
-            this.aiServices.setService(
-                    serviceId, (Supplier<T>) () -> factory.apply(this.config), setAsDefault, clazz);
+            this.aiServices.setServiceFactory(
+                    serviceId, () -> factory.apply(this.config), setAsDefault, clazz);
             return this;
         }
 
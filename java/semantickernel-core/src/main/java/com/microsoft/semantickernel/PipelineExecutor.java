@@ -0,0 +1,143 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel;
+
+import com.microsoft.semantickernel.memory.SemanticTextMemory;
+import com.microsoft.semantickernel.orchestration.ContextVariables;
+import com.microsoft.semantickernel.orchestration.PipelineStep;
+import com.microsoft.semantickernel.orchestration.SKContext;
+import com.microsoft.semantickernel.orchestration.WritableContextVariables;
+import com.microsoft.semantickernel.skilldefinition.ReadOnlySkillCollection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Nullable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Runs the steps of a pipeline as a dependency graph. A step depends on an earlier step if it reads
+ * a variable the earlier step writes, writes a variable the earlier step reads, or writes the same
+ * variable. Each step starts once the steps it depends on have completed, so steps that do not
+ * depend on each other run concurrently while every variable still ends up with the value it would
+ * have had if the steps had run one after another.
+ */
+final class PipelineExecutor {
+
+    private final List<PipelineStep> steps;
+    private final List<List<Integer>> dependencies;
+
+    PipelineExecutor(List<PipelineStep> steps) {
+        this.steps = steps;
+        this.dependencies = new ArrayList<>(steps.size());
+
+        for (int i = 0; i < steps.size(); i++) {
+            PipelineStep step = steps.get(i);
+            List<Integer> stepDependencies = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                PipelineStep earlier = steps.get(j);
+                if (intersects(earlier.getWrites(), step.getReads())
+                        || intersects(earlier.getReads(), step.getWrites())
+                        || intersects(earlier.getWrites(), step.getWrites())) {
+                    stepDependencies.add(j);
+                }
+            }
+            dependencies.add(stepDependencies);
+        }
+    }
+
+    /**
+     * @param i Index of a step
+     * @return Indexes of the earlier steps that step {@code i} waits for
+     */
+    List<Integer> getDependencies(int i) {
+        return Collections.unmodifiableList(dependencies.get(i));
+    }
+
+    Mono<SKContext> run(
+            ContextVariables variables,
+            @Nullable ReadOnlySkillCollection skills,
+            @Nullable SemanticTextMemory memory) {
+        return Mono.defer(
+                () -> {
+                    WritableContextVariables state = variables.writableClone();
+
+                    List<Mono<Void>> executions = new ArrayList<>(steps.size());
+                    for (int i = 0; i < steps.size(); i++) {
+                        List<Mono<Void>> upstream = new ArrayList<>();
+                        for (int dependency : dependencies.get(i)) {
+                            upstream.add(executions.get(dependency));
+                        }
+
+                        PipelineStep step = steps.get(i);
+                        executions.add(
+                                Mono.when(upstream)
+                                        .then(
+                                                Mono.defer(
+                                                        () -> execute(step, state, skills, memory)))
+                                        .cache());
+                    }
+
+                    return Mono.when(executions)
+                            .then(
+                                    Mono.fromCallable(
+                                            () ->
+                                                    SKBuilders.context()
+                                                            .withVariables(snapshot(state))
+                                                            .withMemory(memory)
+                                                            .withSkills(skills)
+                                                            .build()));
+                });
+    }
+
+    private static Mono<Void> execute(
+            PipelineStep step,
+            WritableContextVariables state,
+            @Nullable ReadOnlySkillCollection skills,
+            @Nullable SemanticTextMemory memory) {
+        SKContext context =
+                SKBuilders.context()
+                        .withVariables(snapshot(state))
+                        .withMemory(memory)
+                        .withSkills(skills)
+                        .build();
+
+        return step.getFunction()
+                .invokeAsync(context, null)
+                .doOnNext(result -> merge(step, result, state))
+                .then();
+    }
+
+    // Copies the variables written by the step into the pipeline state
+    private static void merge(PipelineStep step, SKContext result, WritableContextVariables state) {
+        ContextVariables resultVariables = result.getVariables();
+        synchronized (state) {
+            for (String variable : step.getWrites()) {
+                String value;
+                if (variable.equals(step.getOutput())) {
+                    value = result.getResult();
+                } else {
+                    value = resultVariables.get(variable);
+                }
+
+                if (value != null) {
+                    state.setVariable(variable, value);
+                }
+            }
+        }
+    }
+
+    private static ContextVariables snapshot(WritableContextVariables state) {
+        synchronized (state) {
+            return state.writableClone();
+        }
+    }
+
+    private static boolean intersects(Set<String> a, Set<String> b) {
+        for (String value : a) {
+            if (b.contains(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
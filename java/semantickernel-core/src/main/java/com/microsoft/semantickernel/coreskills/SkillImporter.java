@@ -1,6 +1,7 @@
 // Copyright (c) Microsoft. All rights reserved.
 package com.microsoft.semantickernel.coreskills;
 
+import com.microsoft.semantickernel.orchestration.DefaultNativeFunctionScheduler;
 import com.microsoft.semantickernel.orchestration.NativeSKFunction;
 import com.microsoft.semantickernel.skilldefinition.FunctionCollection;
 import com.microsoft.semantickernel.skilldefinition.KernelSkillsSupplier;
@@ -8,11 +9,33 @@ import com.microsoft.semantickernel.skilldefinition.annotations.DefineSKFunction
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import reactor.core.scheduler.Scheduler;
 
 public class SkillImporter {
 
     public static FunctionCollection importSkill(
             Object skillInstance, String skillName, KernelSkillsSupplier skillCollectionSupplier) {
+        return importSkill(
+                skillInstance,
+                skillName,
+                skillCollectionSupplier,
+                DefaultNativeFunctionScheduler.get());
+    }
+
+    /**
+     * Import the native functions of a skill
+     *
+     * @param skillInstance Instance of the skill
+     * @param skillName Name of the skill
+     * @param skillCollectionSupplier Skills available to the functions
+     * @param scheduler Scheduler running the functions that do not return a Mono
+     * @return The functions of the skill
+     */
+    public static FunctionCollection importSkill(
+            Object skillInstance,
+            String skillName,
+            KernelSkillsSupplier skillCollectionSupplier,
+            Scheduler scheduler) {
         List<NativeSKFunction> methods =
                 Arrays.stream(skillInstance.getClass().getMethods())
                         .filter(method -> method.isAnnotationPresent(DefineSKFunction.class))
@@ -22,7 +45,8 @@ public class SkillImporter {
                                             method,
                                             skillInstance,
                                             skillName,
-                                            skillCollectionSupplier);
+                                            skillCollectionSupplier,
+                                            scheduler);
                                 })
                         .collect(Collectors.toList());
 
@@ -25,7 +25,7 @@ public class DefaultSemanticTextMemory implements SemanticTextMemory {
             @Nonnull MemoryStore storage, @Nonnull EmbeddingGeneration<String> embeddingGenerator) {
         this._embeddingGenerator = embeddingGenerator;
         // TODO: this assignment raises EI_EXPOSE_REP2 in spotbugs (filtered out for now)
-        this._storage = storage;
+        this._storage = InstrumentedMemoryStore.wrap(storage);
     }
 
     @Override
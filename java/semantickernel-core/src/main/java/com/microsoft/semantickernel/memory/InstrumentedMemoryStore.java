@@ -0,0 +1,137 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.memory;
+
+import com.microsoft.semantickernel.ai.embeddings.Embedding;
+import com.microsoft.semantickernel.instrumentation.Instrumentation;
+import com.microsoft.semantickernel.instrumentation.InstrumentationEvent.Kind;
+import com.microsoft.semantickernel.orchestration.Deadline;
+import java.util.Collection;
+import java.util.List;
+import javax.annotation.Nonnull;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+/**
+ * Reports the operations of a {@link MemoryStore} to the {@link Instrumentation} listeners. Events
+ * are named after the collection and the operation, e.g. {@code notes.upsert}. Operations are also
+ * bounded by the {@link Deadline} of the caller.
+ */
+class InstrumentedMemoryStore implements MemoryStore {
+
+    private final MemoryStore store;
+
+    private InstrumentedMemoryStore(MemoryStore store) {
+        this.store = store;
+    }
+
+    static MemoryStore wrap(MemoryStore store) {
+        if (store instanceof InstrumentedMemoryStore) {
+            return store;
+        }
+        return new InstrumentedMemoryStore(store);
+    }
+
+    private static <T> Mono<T> observe(String collectionName, String operation, Mono<T> call) {
+        return observe(collectionName + "." + operation, call);
+    }
+
+    private static <T> Mono<T> observe(String name, Mono<T> call) {
+        Mono<T> bounded = Deadline.enforce(name, call);
+        if (!Instrumentation.isEnabled()) {
+            return bounded;
+        }
+        return Instrumentation.observe(Kind.MEMORY, name, bounded);
+    }
+
+    @Override
+    public Mono<Void> createCollectionAsync(@Nonnull String collectionName) {
+        return observe(
+                collectionName, "createCollection", store.createCollectionAsync(collectionName));
+    }
+
+    @Override
+    public Mono<List<String>> getCollectionsAsync() {
+        return observe("getCollections", store.getCollectionsAsync());
+    }
+
+    @Override
+    public Mono<Boolean> doesCollectionExistAsync(@Nonnull String collectionName) {
+        return observe(
+                collectionName,
+                "doesCollectionExist",
+                store.doesCollectionExistAsync(collectionName));
+    }
+
+    @Override
+    public Mono<Void> deleteCollectionAsync(@Nonnull String collectionName) {
+        return observe(
+                collectionName, "deleteCollection", store.deleteCollectionAsync(collectionName));
+    }
+
+    @Override
+    public Mono<String> upsertAsync(@Nonnull String collectionName, @Nonnull MemoryRecord record) {
+        return observe(collectionName, "upsert", store.upsertAsync(collectionName, record));
+    }
+
+    @Override
+    public Mono<Collection<String>> upsertBatchAsync(
+            @Nonnull String collectionName, @Nonnull Collection<MemoryRecord> records) {
+        return observe(
+                collectionName, "upsertBatch", store.upsertBatchAsync(collectionName, records));
+    }
+
+    @Override
+    public Mono<MemoryRecord> getAsync(
+            @Nonnull String collectionName, @Nonnull String key, boolean withEmbedding) {
+        return observe(collectionName, "get", store.getAsync(collectionName, key, withEmbedding));
+    }
+
+    @Override
+    public Mono<Collection<MemoryRecord>> getBatchAsync(
+            @Nonnull String collectionName,
+            @Nonnull Collection<String> keys,
+            boolean withEmbeddings) {
+        return observe(
+                collectionName,
+                "getBatch",
+                store.getBatchAsync(collectionName, keys, withEmbeddings));
+    }
+
+    @Override
+    public Mono<Void> removeAsync(@Nonnull String collectionName, @Nonnull String key) {
+        return observe(collectionName, "remove", store.removeAsync(collectionName, key));
+    }
+
+    @Override
+    public Mono<Void> removeBatchAsync(
+            @Nonnull String collectionName, @Nonnull Collection<String> keys) {
+        return observe(collectionName, "removeBatch", store.removeBatchAsync(collectionName, keys));
+    }
+
+    @Override
+    public Mono<Collection<Tuple2<MemoryRecord, Float>>> getNearestMatchesAsync(
+            @Nonnull String collectionName,
+            @Nonnull Embedding embedding,
+            int limit,
+            float minRelevanceScore,
+            boolean withEmbeddings) {
+        return observe(
+                collectionName,
+                "getNearestMatches",
+                store.getNearestMatchesAsync(
+                        collectionName, embedding, limit, minRelevanceScore, withEmbeddings));
+    }
+
+    @Override
+    public Mono<Tuple2<MemoryRecord, Float>> getNearestMatchAsync(
+            @Nonnull String collectionName,
+            @Nonnull Embedding embedding,
+            float minRelevanceScore,
+            boolean withEmbedding) {
+        return observe(
+                collectionName,
+                "getNearestMatch",
+                store.getNearestMatchAsync(
+                        collectionName, embedding, minRelevanceScore, withEmbedding));
+    }
+}
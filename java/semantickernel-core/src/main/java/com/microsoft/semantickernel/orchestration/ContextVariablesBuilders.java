@@ -0,0 +1,15 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.orchestration;
+
+/** Creates the builders of the default context variables, which are not public */
+public final class ContextVariablesBuilders {
+
+    private ContextVariablesBuilders() {}
+
+    /**
+     * @return A new builder of default context variables
+     */
+    public static ContextVariables.Builder builder() {
+        return new DefaultContextVariables.Builder();
+    }
+}
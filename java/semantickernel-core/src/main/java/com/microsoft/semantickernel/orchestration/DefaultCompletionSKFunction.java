@@ -5,10 +5,15 @@ import com.azure.core.exception.HttpResponseException;
 import com.microsoft.semantickernel.Kernel;
 import com.microsoft.semantickernel.SKBuilders;
 import com.microsoft.semantickernel.ai.AIException;
+import com.microsoft.semantickernel.ai.cache.CompletionCache;
+import com.microsoft.semantickernel.ai.resilience.ResiliencePolicy;
+import com.microsoft.semantickernel.instrumentation.Instrumentation;
+import com.microsoft.semantickernel.instrumentation.InstrumentationEvent;
 import com.microsoft.semantickernel.orchestration.FunctionNotRegisteredException.ErrorCodes;
 import com.microsoft.semantickernel.semanticfunctions.PromptTemplate;
 import com.microsoft.semantickernel.semanticfunctions.PromptTemplateConfig;
 import com.microsoft.semantickernel.semanticfunctions.SemanticFunctionConfig;
+import com.microsoft.semantickernel.services.MemoizedSupplier;
 import com.microsoft.semantickernel.skilldefinition.FunctionView;
 import com.microsoft.semantickernel.skilldefinition.KernelSkillsSupplier;
 import com.microsoft.semantickernel.skilldefinition.ParameterView;
@@ -16,11 +21,15 @@ import com.microsoft.semantickernel.skilldefinition.ReadOnlySkillCollection;
 import com.microsoft.semantickernel.textcompletion.CompletionRequestSettings;
 import com.microsoft.semantickernel.textcompletion.CompletionSKFunction;
 import com.microsoft.semantickernel.textcompletion.TextCompletion;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
@@ -43,6 +52,9 @@ public class DefaultCompletionSKFunction
     private final CompletionRequestSettings requestSettings;
 
     @Nullable private DefaultTextCompletionSupplier aiService;
+    @Nullable private ResiliencePolicy resiliencePolicy;
+    @Nullable private Function<String, TextCompletion> namedServices;
+    @Nullable private CompletionCache completionCache;
 
     public DefaultCompletionSKFunction(
             List<ParameterView> parameters,
@@ -62,6 +74,19 @@ public class DefaultCompletionSKFunction
         this.functionConfig = functionConfig;
     }
 
+    // Parameters are computed from the prompt on first use, which reads a lazily loaded prompt
+    private DefaultCompletionSKFunction(
+            Supplier<List<ParameterView>> parameters,
+            String skillName,
+            String functionName,
+            String description,
+            CompletionRequestSettings requestSettings,
+            SemanticFunctionConfig functionConfig) {
+        super(parameters, skillName, functionName, description, null);
+        this.requestSettings = requestSettings;
+        this.functionConfig = functionConfig;
+    }
+
     /*
     /// <inheritdoc/>
     public string Name { get; }
@@ -146,6 +171,89 @@ public class DefaultCompletionSKFunction
                 .map(context::update);
     }
 
+    @Override
+    public Mono<SKContext> aggregatePartitionedResultsAsync(
+            List<String> partitionedInput,
+            @Nullable SKContext contextIn,
+            int concurrency,
+            int maxResultTokens) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1");
+        }
+        if (maxResultTokens < 1) {
+            throw new IllegalArgumentException("The token budget must be at least 1");
+        }
+
+        SKContext context;
+        if (contextIn == null) {
+            context = buildContext();
+        } else {
+            context = contextIn;
+        }
+
+        return mapPartitions(partitionedInput, context, concurrency)
+                .flatMap(results -> reduce(results, context, concurrency, maxResultTokens))
+                .map(results -> context.update(String.join("\n", results)));
+    }
+
+    // Invokes the function on every partition, keeping the results in the order of the partitions
+    private Mono<List<String>> mapPartitions(
+            List<String> partitions, SKContext context, int concurrency) {
+        return Flux.fromIterable(partitions)
+                .flatMapSequential(
+                        input ->
+                                invokeAsync(context.copy().update(input), null)
+                                        .map(SKContext::getResult),
+                        concurrency)
+                .collectList();
+    }
+
+    // Groups adjacent results that fit in the token budget together and invokes the function on
+    // each group, until the joined results fit. Stops once a round can no longer merge any results.
+    private Mono<List<String>> reduce(
+            List<String> results, SKContext context, int concurrency, int maxResultTokens) {
+        if (results.size() <= 1
+                || estimateTokens(String.join("\n", results)) <= maxResultTokens) {
+            return Mono.just(results);
+        }
+
+        List<String> groups = new ArrayList<>();
+        StringBuilder group = new StringBuilder();
+        for (String result : results) {
+            if (group.length() > 0
+                    && estimateTokens(group.length() + 1 + result.length()) > maxResultTokens) {
+                groups.add(group.toString());
+                group.setLength(0);
+            }
+            if (group.length() > 0) {
+                group.append('\n');
+            }
+            group.append(result);
+        }
+        groups.add(group.toString());
+
+        if (groups.size() == results.size()) {
+            LOGGER.debug(
+                    "Aggregated results of {}.{} exceed {} tokens but cannot be reduced further",
+                    getSkillName(),
+                    getName(),
+                    maxResultTokens);
+            return Mono.just(results);
+        }
+
+        return mapPartitions(groups, context, concurrency)
+                .flatMap(reduced -> reduce(reduced, context, concurrency, maxResultTokens));
+    }
+
+    private static int estimateTokens(String text) {
+        return estimateTokens(text.length());
+    }
+
+    // Same rough estimate as the text chunker uses to partition the input
+    private static int estimateTokens(int length) {
+        return length / 4;
+    }
+
     // Run the semantic function
     @Override
     protected Mono<SKContext> invokeAsyncInternal(
@@ -163,19 +271,132 @@ public class DefaultCompletionSKFunction
             settings = this.requestSettings;
         }
 
-        if (this.aiService.get() == null) {
+        TextCompletion client = this.aiService.get();
+        if (client == null) {
             throw new IllegalStateException("Failed to initialise aiService");
         }
 
         CompletionRequestSettings finalSettings = settings;
 
-        return function.run(this.aiService.get(), finalSettings, context)
+        return function.run(client, finalSettings, context)
                 .map(
                         result -> {
                             return context.update(result.getVariables());
                         });
     }
 
+    @Override
+    public Mono<List<SKContext>> invokeBatchAsync(
+            List<SKContext> contexts, @Nullable CompletionRequestSettings settings) {
+        if (function == null || aiService == null) {
+            throw new FunctionNotRegisteredException(
+                    ErrorCodes.FUNCTION_NOT_REGISTERED, this.getName());
+        }
+
+        if (settings == null) {
+            settings = this.requestSettings;
+        }
+
+        TextCompletion client = this.aiService.get();
+        if (client == null) {
+            throw new IllegalStateException("Failed to initialise aiService");
+        }
+
+        CompletionRequestSettings finalSettings = settings;
+        List<SKContext> copies =
+                contexts.stream().map(SKContext::copy).collect(Collectors.toList());
+
+        return Flux.fromIterable(copies)
+                .concatMap(this::render)
+                .collectList()
+                .flatMap(
+                        prompts ->
+                                callAIService(
+                                                client,
+                                                service ->
+                                                        service.completeBatchAsync(
+                                                                prompts, finalSettings))
+                                        .single())
+                .handle(
+                        (completions, sink) -> {
+                            if (completions.size() != copies.size()) {
+                                sink.error(
+                                        new AIException(
+                                                AIException.ErrorCodes.INVALID_RESPONSE_CONTENT,
+                                                "Expected "
+                                                        + copies.size()
+                                                        + " completions but received "
+                                                        + completions.size()));
+                                return;
+                            }
+
+                            List<SKContext> results = new ArrayList<>(copies.size());
+                            for (int i = 0; i < copies.size(); i++) {
+                                results.add(copies.get(i).update(completions.get(i)));
+                            }
+                            sink.next(results);
+                        });
+    }
+
+    @Override
+    public Flux<String> invokeStreamingAsync(
+            @Nullable SKContext contextIn, @Nullable CompletionRequestSettings settings) {
+        if (function == null || aiService == null) {
+            throw new FunctionNotRegisteredException(
+                    ErrorCodes.FUNCTION_NOT_REGISTERED, this.getName());
+        }
+
+        SKContext context;
+        if (contextIn == null) {
+            context = buildContext();
+        } else {
+            context = contextIn.copy();
+        }
+
+        if (settings == null) {
+            settings = this.requestSettings;
+        }
+
+        TextCompletion client = this.aiService.get();
+        if (client == null) {
+            throw new IllegalStateException("Failed to initialise aiService");
+        }
+
+        CompletionRequestSettings finalSettings = settings;
+
+        return invokeStreamingAsyncInternal(
+                        context, it -> streamCompletion(client, it, finalSettings))
+                .doOnError(
+                        ex ->
+                                LOGGER.warn(
+                                        "Something went wrong while streaming the semantic"
+                                                + " function. Function: {}.{}. Error: {}",
+                                        getSkillName(),
+                                        getName(),
+                                        ex.getMessage()));
+    }
+
+    private Flux<String> streamCompletion(
+            TextCompletion client, SKContext context, CompletionRequestSettings settings) {
+        return render(context)
+                .flatMapMany(
+                        prompt -> {
+                            LOGGER.debug("RENDERED PROMPT: \n{}", prompt);
+                            return callAIService(
+                                    client,
+                                    service -> service.completeStreamDeltasAsync(prompt, settings));
+                        })
+                .filter(delta -> !delta.isEmpty());
+    }
+
+    private Mono<String> render(SKContext context) {
+        String name = toFullyQualifiedName();
+        return Instrumentation.observe(
+                InstrumentationEvent.Kind.TEMPLATE_RENDER,
+                name,
+                Deadline.enforce(name, functionConfig.getTemplate().renderAsync(context)));
+    }
+
     @Override
     public void registerOnKernel(Kernel kernel) {
         this.function =
@@ -186,13 +407,11 @@ public class DefaultCompletionSKFunction
                     // TODO
                     // Verify.NotNull(client, "AI LLM backed is empty");
 
-                    PromptTemplate func = functionConfig.getTemplate();
-
-                    return func.renderAsync(context)
+                    return render(context)
                             .flatMap(
                                     prompt ->
-                                            performCompletionRequest(
-                                                    client, requestSettings, prompt, context))
+                                            complete(client, requestSettings, prompt)
+                                                    .map(context::update))
                             .doOnError(
                                     ex -> {
                                         LOGGER.warn(
@@ -230,14 +449,79 @@ public class DefaultCompletionSKFunction
                 };
 
         this.setSkillsSupplier(kernel::getSkills);
-        this.aiService = () -> kernel.getService(null, TextCompletion.class);
+        // The services of a kernel do not change once it is built, resolve the service once
+        MemoizedSupplier<TextCompletion> textCompletion =
+                MemoizedSupplier.of(() -> kernel.getService(null, TextCompletion.class));
+        this.aiService = textCompletion::get;
+        this.resiliencePolicy = kernel.getConfig().getResiliencePolicy();
+        this.namedServices = serviceId -> kernel.getService(serviceId, TextCompletion.class);
+        if (this.completionCache == null) {
+            this.completionCache = kernel.getConfig().getCompletionCache();
+        }
     }
 
-    private static Mono<SKContext> performCompletionRequest(
-            TextCompletion client,
-            CompletionRequestSettings requestSettings,
-            String prompt,
-            SKContext context) {
+    /**
+     * Completes the rendered prompt, through the completion cache when there is one. The cache is
+     * keyed by the model of the client the request is first sent to.
+     */
+    private Mono<String> complete(
+            TextCompletion client, CompletionRequestSettings requestSettings, String prompt) {
+        // Assembling the call may already send the request, only do so on a cache miss
+        Supplier<Mono<String>> completion =
+                () ->
+                        callAIService(
+                                        client,
+                                        service ->
+                                                performCompletionRequest(
+                                                        service, requestSettings, prompt))
+                                .single();
+
+        CompletionCache cache = this.completionCache;
+        if (cache == null) {
+            return completion.get();
+        }
+
+        return cache.getOrCompute(
+                CompletionCache.key(prompt, requestSettings, client.getModelId()), completion);
+    }
+
+    /**
+     * Calls the AI service under the resilience policy of the kernel, if there is one. While the
+     * circuit breaker of the service is open the call is sent to the fallback service instead.
+     */
+    private <T> Flux<T> callAIService(
+            TextCompletion client, Function<TextCompletion, Publisher<T>> call) {
+        ResiliencePolicy policy = this.resiliencePolicy;
+        if (policy == null) {
+            return Flux.from(call.apply(client));
+        }
+
+        Flux<T> result = policy.executeMany(client, () -> call.apply(client));
+
+        String fallbackServiceId = policy.getFallbackServiceId();
+        if (fallbackServiceId == null || namedServices == null) {
+            return result;
+        }
+
+        // Also falls back on the error of the call that opened the breaker
+        return result.onErrorResume(
+                error -> ResiliencePolicy.isServiceUnavailable(error) || policy.isOpen(client),
+                error -> {
+                    TextCompletion fallback = namedServices.apply(fallbackServiceId);
+                    if (fallback == client) {
+                        return Flux.error(error);
+                    }
+                    LOGGER.warn(
+                            "AI service unavailable, function {}.{} falls back to service {}",
+                            getSkillName(),
+                            getName(),
+                            fallbackServiceId);
+                    return policy.executeMany(fallback, () -> call.apply(fallback));
+                });
+    }
+
+    private static Mono<String> performCompletionRequest(
+            TextCompletion client, CompletionRequestSettings requestSettings, String prompt) {
 
         LOGGER.debug("RENDERED PROMPT: \n{}", prompt);
 
@@ -245,15 +529,14 @@ public class DefaultCompletionSKFunction
             case NON_STREAMING:
                 return client.completeAsync(prompt, requestSettings)
                         .single()
-                        .map(completion -> context.update(completion.get(0)));
+                        .map(completion -> completion.get(0));
 
             case STREAMING:
             default:
                 return client.completeStreamAsync(prompt, requestSettings)
                         .filter(completion -> !completion.isEmpty())
                         .take(1)
-                        .single()
-                        .map(context::update);
+                        .single();
         }
     }
 
@@ -288,6 +571,7 @@ public class DefaultCompletionSKFunction
                 new PromptTemplateConfig.CompletionConfig();
         @Nullable private SemanticFunctionConfig functionConfig = null;
         @Nullable private PromptTemplateConfig promptTemplateConfig = null;
+        @Nullable private CompletionCache completionCache = null;
 
         @Override
         public CompletionSKFunction build() {
@@ -340,15 +624,28 @@ public class DefaultCompletionSKFunction
 
             PromptTemplate promptTemplate = functionConfig.getTemplate();
 
-            DefaultCompletionSKFunction function =
-                    new DefaultCompletionSKFunction(
-                            promptTemplate.getParameters(),
-                            skillName,
-                            functionName,
-                            functionConfig.getConfig().getDescription(),
-                            requestSettings,
-                            functionConfig,
-                            null);
+            DefaultCompletionSKFunction function;
+            if (kernel.getConfig().isLazyPromptLoading()) {
+                function =
+                        new DefaultCompletionSKFunction(
+                                promptTemplate::getParameters,
+                                skillName,
+                                functionName,
+                                functionConfig.getConfig().getDescription(),
+                                requestSettings,
+                                functionConfig);
+            } else {
+                function =
+                        new DefaultCompletionSKFunction(
+                                promptTemplate.getParameters(),
+                                skillName,
+                                functionName,
+                                functionConfig.getConfig().getDescription(),
+                                requestSettings,
+                                functionConfig,
+                                null);
+            }
+            function.completionCache = completionCache;
 
             kernel.registerSemanticFunction(function);
             return function;
@@ -404,5 +701,12 @@ public class DefaultCompletionSKFunction
             this.description = description;
             return this;
         }
+
+        @Override
+        public CompletionSKFunction.Builder withCompletionCache(
+                @Nullable CompletionCache completionCache) {
+            this.completionCache = completionCache;
+            return this;
+        }
     }
 }
@@ -2,8 +2,14 @@
 package com.microsoft.semantickernel.orchestration;
 
 import com.microsoft.semantickernel.skilldefinition.CaseInsensitiveMap;
-import java.util.Collections;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import javax.annotation.Nullable;
 import reactor.util.annotation.NonNull;
 
@@ -13,7 +19,34 @@ import reactor.util.annotation.NonNull;
 /// </summary>
 class DefaultContextVariables implements ContextVariables, WritableContextVariables {
 
-    private final CaseInsensitiveMap<String> variables;
+    // Number of frozen layers above which the layers are flattened into one
+    private static final int MAX_DEPTH = 8;
+
+    /**
+     * Variables shared by clones. A layer is never modified once created, a null value records that
+     * the variable was removed.
+     */
+    private static final class Layer {
+        private final CaseInsensitiveMap<String> entries;
+        @Nullable private final Layer parent;
+        private final int depth;
+
+        private Layer(CaseInsensitiveMap<String> entries, @Nullable Layer parent) {
+            this.entries = entries;
+            this.parent = parent;
+            this.depth = parent == null ? 1 : parent.depth + 1;
+        }
+    }
+
+    // Variables inherited from the instance this one was cloned from
+    @Nullable private Layer frozen;
+
+    // Variables set on this instance, overriding the frozen layers
+    private CaseInsensitiveMap<String> local;
+
+    // Whether local is also referenced by a clone, in which case it is frozen on the next write.
+    // Set by writableClone(), possibly on another thread than the next write.
+    private volatile boolean localShared;
 
     /// <summary>
     /// In the simplest scenario, the data is an input string, stored here.
@@ -25,23 +58,84 @@ class DefaultContextVariables implements ContextVariables, WritableContextVariab
     /// </summary>
     /// <param name="content">Optional value for the main variable of the context.</param>
     DefaultContextVariables(@NonNull String content) {
-        this.variables = new CaseInsensitiveMap<>();
-        this.variables.put(MAIN_KEY, content);
+        this.local = new CaseInsensitiveMap<>();
+        this.local.put(MAIN_KEY, content);
     }
 
     DefaultContextVariables(Map<String, String> variables) {
-        this.variables = new CaseInsensitiveMap<>(variables);
+        this.local = new CaseInsensitiveMap<>(variables);
+    }
+
+    private DefaultContextVariables(@Nullable Layer frozen, CaseInsensitiveMap<String> local) {
+        this.frozen = frozen;
+        this.local = local;
+        this.localShared = true;
+    }
+
+    /**
+     * Get the map holding the variables set on this instance, freezing the current one first if
+     * it is shared with a clone. Only the variables written since the last clone are frozen, the
+     * rest of the variables are not copied.
+     */
+    private CaseInsensitiveMap<String> writableLocal() {
+        if (localShared) {
+            if (!local.isEmpty()) {
+                frozen = new Layer(local, frozen);
+                if (frozen.depth > MAX_DEPTH) {
+                    frozen = new Layer(flatten(frozen, null), null);
+                }
+            }
+            local = new CaseInsensitiveMap<>();
+            localShared = false;
+        }
+        return local;
+    }
+
+    /** The local variables followed by the frozen layers, from the most to the least recent */
+    private List<Map<String, String>> layers() {
+        List<Map<String, String>> layers = new ArrayList<>();
+        layers.add(local);
+        for (Layer it = frozen; it != null; it = it.parent) {
+            layers.add(it.entries);
+        }
+        return layers;
+    }
+
+    /** Merge the layers and the local variables into a single map, without removed variables */
+    private static CaseInsensitiveMap<String> flatten(
+            @Nullable Layer layer, @Nullable Map<String, String> local) {
+        List<Map<String, String>> layers = new ArrayList<>();
+        if (local != null) {
+            layers.add(local);
+        }
+        for (Layer it = layer; it != null; it = it.parent) {
+            layers.add(it.entries);
+        }
+
+        CaseInsensitiveMap<String> result = new CaseInsensitiveMap<>();
+        for (int i = layers.size() - 1; i >= 0; i--) {
+            layers.get(i)
+                    .forEach(
+                            (key, value) -> {
+                                if (value == null) {
+                                    result.remove(key);
+                                } else {
+                                    result.put(key, value);
+                                }
+                            });
+        }
+        return result;
     }
 
     @Override
     public ContextVariables setVariable(@NonNull String key, @NonNull String content) {
-        this.variables.put(key, content);
+        writableLocal().put(key, content);
         return this;
     }
 
     @Override
     public ContextVariables appendToVariable(@NonNull String key, @NonNull String content) {
-        String existing = this.variables.get(key);
+        String existing = get(key);
 
         String newVal;
         if (existing == null) {
@@ -55,7 +149,100 @@ class DefaultContextVariables implements ContextVariables, WritableContextVariab
 
     @Override
     public Map<String, String> asMap() {
-        return Collections.unmodifiableMap(variables);
+        return new AbstractMap<String, String>() {
+            @Override
+            @Nullable
+            public String get(Object key) {
+                return key instanceof String ? DefaultContextVariables.this.get((String) key) : null;
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return get(key) != null;
+            }
+
+            @Override
+            public Set<Entry<String, String>> entrySet() {
+                return new AbstractSet<Entry<String, String>>() {
+                    @Override
+                    public Iterator<Entry<String, String>> iterator() {
+                        return new VariableIterator(layers());
+                    }
+
+                    @Override
+                    public int size() {
+                        int size = 0;
+                        for (Iterator<?> it = iterator(); it.hasNext(); it.next()) {
+                            size++;
+                        }
+                        return size;
+                    }
+
+                    @Override
+                    public boolean isEmpty() {
+                        return !iterator().hasNext();
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Iterates over the variables in place, layer after layer. A variable is read from the most
+     * recent layer that holds it, and skipped if it was removed there.
+     */
+    private static final class VariableIterator implements Iterator<Map.Entry<String, String>> {
+        private final List<Map<String, String>> layers;
+        private int layer = 0;
+        private Iterator<Map.Entry<String, String>> entries;
+        @Nullable private Map.Entry<String, String> next;
+
+        private VariableIterator(List<Map<String, String>> layers) {
+            this.layers = layers;
+            this.entries = layers.get(0).entrySet().iterator();
+            this.next = advance();
+        }
+
+        @Nullable
+        private Map.Entry<String, String> advance() {
+            while (true) {
+                while (entries.hasNext()) {
+                    Map.Entry<String, String> entry = entries.next();
+                    if (entry.getValue() != null && !overridden(entry.getKey())) {
+                        return new AbstractMap.SimpleImmutableEntry<>(entry);
+                    }
+                }
+                if (++layer >= layers.size()) {
+                    return null;
+                }
+                entries = layers.get(layer).entrySet().iterator();
+            }
+        }
+
+        /** Whether a more recent layer sets or removes the variable */
+        private boolean overridden(String key) {
+            for (int i = 0; i < layer; i++) {
+                if (layers.get(i).containsKey(key)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            Map.Entry<String, String> entry = next;
+            if (entry == null) {
+                throw new NoSuchElementException();
+            }
+            next = advance();
+            return entry;
+        }
     }
 
     /// <summary>
@@ -95,19 +282,36 @@ class DefaultContextVariables implements ContextVariables, WritableContextVariab
         }
 
          */
-        this.variables.putAll(newData.asMap());
+        // Single pass over the variables of newData, that are not merged into a map first
+        Iterator<Map.Entry<String, String>> newVariables = newData.asMap().entrySet().iterator();
+        if (!newVariables.hasNext()) {
+            return this;
+        }
+        CaseInsensitiveMap<String> variables = writableLocal();
+        newVariables.forEachRemaining(entry -> variables.put(entry.getKey(), entry.getValue()));
         return this;
     }
 
     @Override
     public ContextVariables remove(String key) {
-        variables.remove(key);
+        CaseInsensitiveMap<String> variables = writableLocal();
+        if (frozen == null) {
+            variables.remove(key);
+        } else {
+            // Hide the value of the frozen layers
+            variables.put(key, null);
+        }
         return this;
     }
 
+    /**
+     * Clone the variables in constant time. The clone shares the variables of this instance, each
+     * side only copies the variables it writes afterwards.
+     */
     @Override
     public WritableContextVariables writableClone() {
-        return new DefaultContextVariables(variables);
+        localShared = true;
+        return new DefaultContextVariables(frozen, local);
     }
 
     @Override
@@ -118,7 +322,7 @@ class DefaultContextVariables implements ContextVariables, WritableContextVariab
 
     @Override
     public String prettyPrint() {
-        return variables.entrySet().stream()
+        return flatten(frozen, local).entrySet().stream()
                 .reduce(
                         "",
                         (str, entry) ->
@@ -133,7 +337,18 @@ class DefaultContextVariables implements ContextVariables, WritableContextVariab
     @Override
     @Nullable
     public String get(String key) {
-        return variables.get(key);
+        String value = local.get(key);
+        if (value != null || local.containsKey(key)) {
+            return value;
+        }
+
+        for (Layer layer = frozen; layer != null; layer = layer.parent) {
+            value = layer.entries.get(key);
+            if (value != null || layer.entries.containsKey(key)) {
+                return value;
+            }
+        }
+        return null;
     }
 
     public static class WritableBuilder implements WritableContextVariables.Builder {
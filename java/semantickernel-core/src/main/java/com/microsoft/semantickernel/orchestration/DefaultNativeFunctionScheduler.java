@@ -0,0 +1,27 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.orchestration;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Scheduler running native functions that do not return a Mono, when neither the kernel nor the
+ * skill configures one.
+ *
+ * <p>This is the bounded elastic scheduler of Reactor. When running on JDK 21 or later, the
+ * multi-release jar provides a variant of this class that runs each function on its own virtual
+ * thread.
+ */
+public final class DefaultNativeFunctionScheduler {
+
+    private DefaultNativeFunctionScheduler() {}
+
+    /**
+     * Get the default scheduler of blocking native functions
+     *
+     * @return The scheduler
+     */
+    public static Scheduler get() {
+        return Schedulers.boundedElastic();
+    }
+}
@@ -7,6 +7,7 @@ import com.microsoft.semantickernel.skilldefinition.KernelSkillsSupplier;
 import com.microsoft.semantickernel.skilldefinition.ParameterView;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import reactor.core.publisher.Mono;
 
@@ -35,6 +36,30 @@ public abstract class DefaultSemanticSKFunction<RequestConfiguration>
                 kernelSkillsSupplier);
     }
 
+    /**
+     * Constructor for functions whose parameters are only known once the prompt is loaded
+     *
+     * @param parameters Supplies the parameters of the function, invoked at most once
+     * @param skillName The name of the skill
+     * @param functionName The name of the function
+     * @param description The description of the function
+     * @param kernelSkillsSupplier The skill supplier
+     */
+    protected DefaultSemanticSKFunction(
+            Supplier<List<ParameterView>> parameters,
+            String skillName,
+            String functionName,
+            String description,
+            @Nullable KernelSkillsSupplier kernelSkillsSupplier) {
+        super(
+                parameters,
+                skillName,
+                functionName,
+                description,
+                Collections.emptyList(),
+                kernelSkillsSupplier);
+    }
+
     @Override
     public Mono<SKContext> invokeAsync(
             @Nullable String input,
@@ -13,8 +13,12 @@ import com.microsoft.semantickernel.skilldefinition.ReadOnlySkillCollection;
 import com.microsoft.semantickernel.skilldefinition.annotations.DefineSKFunction;
 import com.microsoft.semantickernel.skilldefinition.annotations.SKFunctionInputAttribute;
 import com.microsoft.semantickernel.skilldefinition.annotations.SKFunctionParameters;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -32,7 +36,7 @@ import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.Scheduler;
 
 /// <summary>
 /// Standard Semantic Kernel callable function.
@@ -45,6 +49,7 @@ public class NativeSKFunction extends AbstractSkFunction<Void> {
     private static final Logger LOGGER = LoggerFactory.getLogger(NativeSKFunction.class);
 
     private final SKNativeTask<SKContext> function;
+    private final boolean idempotent;
 
     public NativeSKFunction(
             SKNativeTask<SKContext> delegateFunction,
@@ -54,6 +59,26 @@ public class NativeSKFunction extends AbstractSkFunction<Void> {
             String description,
             List<ParameterView> returnParameter,
             KernelSkillsSupplier skillCollection) {
+        this(
+                delegateFunction,
+                parameters,
+                skillName,
+                functionName,
+                description,
+                returnParameter,
+                skillCollection,
+                false);
+    }
+
+    public NativeSKFunction(
+            SKNativeTask<SKContext> delegateFunction,
+            List<ParameterView> parameters,
+            String skillName,
+            String functionName,
+            String description,
+            List<ParameterView> returnParameter,
+            KernelSkillsSupplier skillCollection,
+            boolean idempotent) {
         super(parameters, skillName, functionName, description, returnParameter, skillCollection);
         // TODO
         // Verify.NotNull(delegateFunction, "The function delegate is empty");
@@ -62,6 +87,12 @@ public class NativeSKFunction extends AbstractSkFunction<Void> {
         // Verify.ParametersUniqueness(parameters);
 
         this.function = delegateFunction;
+        this.idempotent = idempotent;
+    }
+
+    @Override
+    public boolean isIdempotent() {
+        return idempotent;
     }
 
     @Override
@@ -126,11 +157,36 @@ public class NativeSKFunction extends AbstractSkFunction<Void> {
             Object methodContainerInstance,
             String skillName,
             KernelSkillsSupplier kernelSkillsSupplier) {
+        return fromNativeMethod(
+                methodSignature,
+                methodContainerInstance,
+                skillName,
+                kernelSkillsSupplier,
+                DefaultNativeFunctionScheduler.get());
+    }
+
+    /**
+     * Create a native function wrapping a method of a skill
+     *
+     * @param methodSignature Method to invoke, annotated with {@link DefineSKFunction}
+     * @param methodContainerInstance Skill instance containing the method
+     * @param skillName Name of the skill
+     * @param kernelSkillsSupplier Skills available to the function
+     * @param scheduler Scheduler running the method when it does not return a Mono
+     * @return The function
+     */
+    public static NativeSKFunction fromNativeMethod(
+            Method methodSignature,
+            Object methodContainerInstance,
+            String skillName,
+            KernelSkillsSupplier kernelSkillsSupplier,
+            Scheduler scheduler) {
         if (skillName == null || skillName.isEmpty()) {
             skillName = ReadOnlySkillCollection.GlobalSkill;
         }
 
-        MethodDetails methodDetails = getMethodDetails(methodSignature, methodContainerInstance);
+        MethodDetails methodDetails =
+                getMethodDetails(methodSignature, methodContainerInstance, scheduler);
 
         // If the given method is not a valid SK function
         if (!methodSignature.isAnnotationPresent(DefineSKFunction.class)) {
@@ -147,7 +203,8 @@ public class NativeSKFunction extends AbstractSkFunction<Void> {
                 methodDetails.name,
                 methodDetails.description,
                 Collections.singletonList(returnParam),
-                kernelSkillsSupplier);
+                kernelSkillsSupplier,
+                methodSignature.getAnnotation(DefineSKFunction.class).idempotent());
     }
 
     // Run the native function
@@ -157,7 +214,7 @@ public class NativeSKFunction extends AbstractSkFunction<Void> {
     }
 
     private static MethodDetails getMethodDetails(
-            Method methodSignature, Object methodContainerInstance) {
+            Method methodSignature, Object methodContainerInstance, Scheduler scheduler) {
         // Verify.NotNull(methodSignature, "Method is NULL");
 
         // String name = methodSignature.getName();
@@ -168,7 +225,8 @@ public class NativeSKFunction extends AbstractSkFunction<Void> {
         if (!hasSkFunctionAttribute) {
             throw new RuntimeException("method is not annotated with DefineSKFunction");
         }
-        SKNativeTask<SKContext> function = getFunction(methodSignature, methodContainerInstance);
+        SKNativeTask<SKContext> function =
+                getFunction(methodSignature, methodContainerInstance, scheduler);
 
         // boolean hasStringParam =
         //    Arrays.asList(methodSignature.getGenericParameterTypes()).contains(String.class);
@@ -243,27 +301,75 @@ public class NativeSKFunction extends AbstractSkFunction<Void> {
         return new ArrayList<>(out);
     }
 
-    private static SKNativeTask<SKContext> getFunction(Method method, Object instance) {
-        return (contextInput) -> {
-            SKContext context = contextInput.copy();
+    private static SKNativeTask<SKContext> getFunction(
+            Method method, Object instance, Scheduler scheduler) {
+        return new InvocationPlan(method, instance, scheduler)::invoke;
+    }
+
+    /** Resolves the value of one argument of a native method from the context and deadline */
+    @FunctionalInterface
+    private interface ArgumentResolver {
+        @Nullable
+        Object resolve(SKContext context, @Nullable Deadline deadline);
+    }
+
+    /** Invokes a native method with its arguments, returns null for void methods */
+    @FunctionalInterface
+    private interface MethodInvoker {
+        @Nullable
+        Object invoke(Object[] args) throws Throwable;
+    }
+
+    /**
+     * Everything needed to invoke a native method, computed once when the function is created: the
+     * resolver of each argument and a method handle bound to the skill instance. Invoking the
+     * function only resolves the arguments and calls the handle.
+     */
+    private static final class InvocationPlan {
+        private final Method method;
+        private final ArgumentResolver[] resolvers;
+        private final MethodInvoker invoker;
+        private final boolean returnsMono;
+        private final Scheduler scheduler;
+
+        private InvocationPlan(Method method, Object instance, Scheduler scheduler) {
+            this.method = method;
+            this.scheduler = scheduler;
+            this.returnsMono = method.getReturnType().isAssignableFrom(Mono.class);
 
             Set<Parameter> inputArgs = determineInputArgs(method);
+            Parameter[] parameters = method.getParameters();
+            this.resolvers = new ArgumentResolver[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                resolvers[i] = getArgumentResolver(method, parameters[i], inputArgs);
+            }
+
+            this.invoker = getInvoker(method, instance);
+        }
+
+        private Mono<SKContext> invoke(SKContext contextInput) {
+            return Mono.deferContextual(
+                    reactorContext -> invoke(contextInput, Deadline.from(reactorContext)));
+        }
+
+        private Mono<SKContext> invoke(SKContext contextInput, @Nullable Deadline deadline) {
+            SKContext context = contextInput.copy();
 
             try {
-                List<Object> args =
-                        Arrays.stream(method.getParameters())
-                                .map(getParameters(method, context, inputArgs))
-                                .collect(Collectors.toList());
+                Object[] args = new Object[resolvers.length];
+                for (int i = 0; i < resolvers.length; i++) {
+                    args[i] = resolvers[i].resolve(context, deadline);
+                }
 
                 Mono mono;
-                if (method.getReturnType().isAssignableFrom(Mono.class)) {
+                if (returnsMono) {
                     try {
-                        mono = (Mono) method.invoke(instance, args.toArray());
-                    } catch (IllegalAccessException | InvocationTargetException e) {
+                        mono = (Mono) invoker.invoke(args);
+                    } catch (Throwable e) {
                         return Mono.error(e);
                     }
                 } else {
-                    mono = invokeAsyncFunction(method, instance, args);
+                    mono = invokeAsyncFunction(args);
                 }
 
                 return mono.map(
@@ -282,90 +388,94 @@ public class NativeSKFunction extends AbstractSkFunction<Void> {
             } catch (Exception e) {
                 return Mono.error(e);
             }
-        };
-    }
+        }
 
-    private static Mono<Object> invokeAsyncFunction(
-            Method method, Object instance, List<Object> args) {
-        return Mono.defer(
-                () ->
-                        Mono.fromCallable(
-                                        () -> {
-                                            try {
-                                                if (method.getReturnType().getName().equals("void")
-                                                        || method.getReturnType()
-                                                                .equals(Void.class)) {
-                                                    method.invoke(instance, args.toArray());
-                                                    return null;
-                                                } else {
-                                                    return method.invoke(instance, args.toArray());
+        private Mono<Object> invokeAsyncFunction(Object[] args) {
+            return Mono.defer(
+                    () ->
+                            Mono.fromCallable(
+                                            () -> {
+                                                try {
+                                                    return invoker.invoke(args);
+                                                } catch (IllegalAccessException e) {
+                                                    throw new AIException(
+                                                            ErrorCodes.INVALID_REQUEST,
+                                                            "Unable to access function "
+                                                                    + method.getName(),
+                                                            e);
+                                                } catch (Throwable e) {
+                                                    throw new AIException(
+                                                            ErrorCodes.INVALID_REQUEST,
+                                                            "Function threw an exception: "
+                                                                    + method.getName(),
+                                                            e);
                                                 }
-                                            } catch (InvocationTargetException e) {
-                                                throw new AIException(
-                                                        ErrorCodes.INVALID_REQUEST,
-                                                        "Function threw an exception: "
-                                                                + method.getName(),
-                                                        e.getCause());
-                                            } catch (IllegalAccessException e) {
-                                                throw new AIException(
-                                                        ErrorCodes.INVALID_REQUEST,
-                                                        "Unable to access function "
-                                                                + method.getName(),
-                                                        e);
-                                            }
-                                        })
-                                .subscribeOn(Schedulers.boundedElastic()));
+                                            })
+                                    .subscribeOn(scheduler));
+        }
     }
 
-    private static Function<Parameter, Object> getParameters(
-            Method method, SKContext context, Set<Parameter> inputArgs) {
-        return parameter -> {
-            if (SKContext.class.isAssignableFrom(parameter.getType())) {
-                return context;
-            } else {
-                return getArgumentValue(method, context, parameter, inputArgs);
-            }
-        };
-    }
+    private static MethodInvoker getInvoker(Method method, Object instance) {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+        } catch (IllegalAccessException e) {
+            // The method cannot be reached through a method handle, keep reflection which
+            // reports the failure when the function is invoked
+            LOGGER.debug("Invoking {} through reflection: {}", method.getName(), e.getMessage());
+            return args -> {
+                try {
+                    return method.invoke(instance, args);
+                } catch (InvocationTargetException e2) {
+                    throw e2.getCause();
+                }
+            };
+        }
 
-    private static String formErrorMessage(Method method, Parameter parameter) {
-        Matcher matcher = Pattern.compile("arg(\\d)").matcher(parameter.getName());
-        matcher.find();
-        return "For the function "
-                + method.getDeclaringClass().getName()
-                + "."
-                + method.getName()
-                + ", the unknown parameter"
-                + " name was detected as \""
-                + parameter.getName()
-                + "\" this is argument"
-                + " number "
-                + matcher.group(1)
-                + " to the function, this indicates that the argument name for this function was"
-                + " removed during compilation and semantic-kernel is unable to determine the name"
-                + " of the parameter. To support this function the argument must be annotated with"
-                + " @SKFunctionParameters or @SKFunctionInputAttribute. Alternatively the function"
-                + " was invoked with a required context variable missing and no default value.";
+        if (!Modifier.isStatic(method.getModifiers())) {
+            handle = handle.bindTo(instance);
+        }
+
+        // (Object[]) -> Object, void methods return null and primitives are boxed
+        MethodHandle spread =
+                handle.asSpreader(Object[].class, method.getParameterCount())
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+
+        return args -> (Object) spread.invokeExact(args);
     }
 
-    private static Object getArgumentValue(
-            Method method, SKContext context, Parameter parameter, Set<Parameter> inputArgs) {
+    private static ArgumentResolver getArgumentResolver(
+            Method method, Parameter parameter, Set<Parameter> inputArgs) {
+        if (SKContext.class.isAssignableFrom(parameter.getType())) {
+            return (context, deadline) -> context;
+        }
+        if (Deadline.class.equals(parameter.getType())) {
+            return (context, deadline) -> deadline;
+        }
+
         String variableName = getGetVariableName(parameter);
+        boolean boundToInput = inputArgs.contains(parameter);
+        SKFunctionParameters annotation = parameter.getAnnotation(SKFunctionParameters.class);
+        boolean unnamedVariable = variableName.matches("arg\\d");
+        boolean unnamedParameter = parameter.getName().matches("arg\\d");
 
-        String arg = context.getVariables().get(variableName);
-        if (arg == null) {
-            // If this is bound to input get the input value
-            if (inputArgs.contains(parameter)) {
-                String input = context.getVariables().get(ContextVariables.MAIN_KEY);
-                if (input != null) {
-                    arg = input;
-                }
-            }
+        Class<?> type = annotation == null ? null : annotation.type();
+        boolean isNumber = type != null && Number.class.isAssignableFrom(type);
+        // Well-known types only
+        Function<String, ?> converter = type == null ? null : converters.get(type);
 
+        return (context, deadline) -> {
+            String arg = context.getVariables().get(variableName);
             if (arg == null) {
-                SKFunctionParameters annotation =
-                        parameter.getAnnotation(SKFunctionParameters.class);
-                if (annotation != null) {
+                // If this is bound to input get the input value
+                if (boundToInput) {
+                    String input = context.getVariables().get(ContextVariables.MAIN_KEY);
+                    if (input != null) {
+                        arg = input;
+                    }
+                }
+
+                if (arg == null && annotation != null) {
                     arg = annotation.defaultValue();
 
                     if (NO_DEFAULT_VALUE.equals(arg)) {
@@ -386,39 +496,35 @@ public class NativeSKFunction extends AbstractSkFunction<Void> {
                     }
                 }
             }
-        }
 
-        if (arg == null && variableName.matches("arg\\d")) {
-            LOGGER.warn(formErrorMessage(method, parameter));
-        }
+            if (arg == null && unnamedVariable) {
+                LOGGER.warn(formErrorMessage(method, parameter));
+            }
 
-        if (NO_DEFAULT_VALUE.equals(arg)) {
-            if (parameter.getName().matches("arg\\d")) {
-                throw new AIException(
-                        AIException.ErrorCodes.INVALID_CONFIGURATION,
-                        formErrorMessage(method, parameter));
-            } else {
-                throw new AIException(
-                        AIException.ErrorCodes.INVALID_CONFIGURATION,
-                        "Unknown arg " + parameter.getName());
+            if (NO_DEFAULT_VALUE.equals(arg)) {
+                if (unnamedParameter) {
+                    throw new AIException(
+                            AIException.ErrorCodes.INVALID_CONFIGURATION,
+                            formErrorMessage(method, parameter));
+                } else {
+                    throw new AIException(
+                            AIException.ErrorCodes.INVALID_CONFIGURATION,
+                            "Unknown arg " + parameter.getName());
+                }
             }
-        }
 
-        SKFunctionParameters annotation = parameter.getAnnotation(SKFunctionParameters.class);
-        if (annotation == null || annotation.type() == null) {
-            return arg;
-        }
-        Class<?> type = annotation.type();
-        if (Number.class.isAssignableFrom(type)) {
-            arg = arg.replace(",", ".");
-        }
+            if (type == null) {
+                return arg;
+            }
+            if (isNumber) {
+                arg = arg.replace(",", ".");
+            }
 
-        Object value = arg;
-        // Well-known types only
-        Function converter = converters.get(type);
-        if (converter != null) {
+            if (converter == null) {
+                return arg;
+            }
             try {
-                value = converter.apply(arg);
+                return converter.apply(arg);
             } catch (NumberFormatException nfe) {
                 throw new AIException(
                         AIException.ErrorCodes.INVALID_CONFIGURATION,
@@ -429,8 +535,27 @@ public class NativeSKFunction extends AbstractSkFunction<Void> {
                                 + " but got "
                                 + arg);
             }
-        }
-        return value;
+        };
+    }
+
+    private static String formErrorMessage(Method method, Parameter parameter) {
+        Matcher matcher = Pattern.compile("arg(\\d)").matcher(parameter.getName());
+        matcher.find();
+        return "For the function "
+                + method.getDeclaringClass().getName()
+                + "."
+                + method.getName()
+                + ", the unknown parameter"
+                + " name was detected as \""
+                + parameter.getName()
+                + "\" this is argument"
+                + " number "
+                + matcher.group(1)
+                + " to the function, this indicates that the argument name for this function was"
+                + " removed during compilation and semantic-kernel is unable to determine the name"
+                + " of the parameter. To support this function the argument must be annotated with"
+                + " @SKFunctionParameters or @SKFunctionInputAttribute. Alternatively the function"
+                + " was invoked with a required context variable missing and no default value.";
     }
 
     private static final Map<Class<?>, Function<String, ?>> converters = new HashMap<>();
@@ -2,12 +2,15 @@
 package com.microsoft.semantickernel.semanticfunctions;
 
 import com.microsoft.semantickernel.orchestration.SKContext;
+import com.microsoft.semantickernel.services.MemoizedSupplier;
 import com.microsoft.semantickernel.skilldefinition.ParameterView;
 import com.microsoft.semantickernel.templateengine.PromptTemplateEngine;
+import com.microsoft.semantickernel.templateengine.blocks.Block;
 import com.microsoft.semantickernel.templateengine.blocks.BlockTypes;
 import com.microsoft.semantickernel.templateengine.blocks.VarBlock;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
@@ -17,15 +20,34 @@ import reactor.core.publisher.Mono;
 /// Prompt template.
 /// </summary>
 public class DefaultPromptTemplate implements PromptTemplate {
-    private final String promptTemplate;
+    private final Supplier<String> promptTemplate;
     private final PromptTemplateConfig config;
     private final PromptTemplateEngine templateEngine;
 
+    // Blocks of the template, extracted and validated on first use
+    @Nullable private volatile List<Block> blocks = null;
+
     public DefaultPromptTemplate(
             String promptTemplate,
             PromptTemplateConfig config,
             PromptTemplateEngine templateEngine) {
-        this.promptTemplate = promptTemplate;
+        this.promptTemplate = () -> promptTemplate;
+        this.config = config;
+        this.templateEngine = templateEngine;
+    }
+
+    /**
+     * Create a template whose prompt is read when the template is first used
+     *
+     * @param promptTemplateLoader Loads the prompt, invoked at most once
+     * @param config Configuration of the prompt
+     * @param templateEngine Engine rendering the prompt
+     */
+    public DefaultPromptTemplate(
+            Supplier<String> promptTemplateLoader,
+            PromptTemplateConfig config,
+            PromptTemplateEngine templateEngine) {
+        this.promptTemplate = MemoizedSupplier.of(promptTemplateLoader);
         this.config = config;
         this.templateEngine = templateEngine;
     }
@@ -48,7 +70,7 @@ public class DefaultPromptTemplate implements PromptTemplate {
                 result.stream().map(ParameterView::getName).collect(Collectors.toList());
 
         List<VarBlock> listFromTemplate =
-                templateEngine.extractBlocks(this.promptTemplate).stream()
+                getBlocks().stream()
                         .filter(Objects::nonNull)
                         .filter(x -> x.getType() == BlockTypes.Variable)
                         .map(x -> (VarBlock) x)
@@ -65,17 +87,41 @@ public class DefaultPromptTemplate implements PromptTemplate {
 
     @Override
     public Mono<String> renderAsync(SKContext executionContext) {
-        return templateEngine.renderAsync(this.promptTemplate, executionContext);
+        return templateEngine.renderAsync(getBlocks(), executionContext);
+    }
+
+    @Override
+    public void evict() {
+        // A template that was never rendered did not compile its text, nor did it load it
+        if (this.blocks != null) {
+            templateEngine.evict(this.promptTemplate.get());
+        }
+    }
+
+    private List<Block> getBlocks() {
+        List<Block> compiled = this.blocks;
+        if (compiled == null) {
+            compiled = templateEngine.extractBlocks(this.promptTemplate.get());
+            this.blocks = compiled;
+        }
+        return compiled;
     }
 
     public static final class Builder implements PromptTemplate.Builder {
-        @Nullable private String promptTemplate = null;
+        @Nullable private Supplier<String> promptTemplate = null;
         @Nullable private PromptTemplateConfig config = null;
         @Nullable private PromptTemplateEngine promptTemplateEngine = null;
 
         @Override
         public PromptTemplate.Builder withPromptTemplate(String promptTemplate) {
-            this.promptTemplate = promptTemplate;
+            this.promptTemplate = () -> promptTemplate;
+            return this;
+        }
+
+        @Override
+        public PromptTemplate.Builder withPromptTemplateLoader(
+                Supplier<String> promptTemplateLoader) {
+            this.promptTemplate = MemoizedSupplier.of(promptTemplateLoader);
             return this;
         }
 
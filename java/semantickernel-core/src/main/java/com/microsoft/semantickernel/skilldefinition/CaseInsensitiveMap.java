@@ -6,11 +6,18 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
+/**
+ * A {@link HashMap} whose keys are compared ignoring case. Keys are stored in their lower case
+ * form.
+ *
+ * <p>Keys that are already lower case ASCII, which covers almost all variable, skill and function
+ * names, are used as they are, so looking them up does not allocate.
+ */
 public class CaseInsensitiveMap<T> extends HashMap<String, T> {
+
     public CaseInsensitiveMap(Map<String, T> kvMap) {
-        super();
+        super(Math.max(16, (int) (kvMap.size() / 0.75f) + 1));
         putAll(kvMap);
     }
 
@@ -18,12 +25,28 @@ public class CaseInsensitiveMap<T> extends HashMap<String, T> {
         super();
     }
 
+    /**
+     * Returns the key under which {@code key} is stored.
+     *
+     * @param key The key as given by the caller
+     * @return The lower case form of the key
+     */
+    private static String canonical(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c >= 0x80 || (c >= 'A' && c <= 'Z')) {
+                return key.toLowerCase(Locale.ROOT);
+            }
+        }
+        return key;
+    }
+
     @Override
     public T computeIfAbsent(String key, Function<? super String, ? extends T> mappingFunction) {
         if (key == null) {
             return super.computeIfAbsent(null, mappingFunction);
         }
-        return super.computeIfAbsent(key.toLowerCase(Locale.ROOT), mappingFunction);
+        return super.computeIfAbsent(canonical(key), mappingFunction);
     }
 
     @Override
@@ -32,7 +55,7 @@ public class CaseInsensitiveMap<T> extends HashMap<String, T> {
         if (key == null) {
             return super.computeIfPresent(null, remappingFunction);
         }
-        return super.computeIfPresent(key.toLowerCase(Locale.ROOT), remappingFunction);
+        return super.computeIfPresent(canonical(key), remappingFunction);
     }
 
     @Override
@@ -41,7 +64,7 @@ public class CaseInsensitiveMap<T> extends HashMap<String, T> {
         if (key == null) {
             return super.compute(null, remappingFunction);
         }
-        return super.compute(key.toLowerCase(Locale.ROOT), remappingFunction);
+        return super.compute(canonical(key), remappingFunction);
     }
 
     @Override
@@ -49,7 +72,7 @@ public class CaseInsensitiveMap<T> extends HashMap<String, T> {
         if (key == null) {
             return super.containsKey(null);
         }
-        return super.containsKey(((String) key).toLowerCase(Locale.ROOT));
+        return super.containsKey(canonical((String) key));
     }
 
     @Override
@@ -57,7 +80,7 @@ public class CaseInsensitiveMap<T> extends HashMap<String, T> {
         if (key == null) {
             return super.get(null);
         }
-        return super.get(((String) key).toLowerCase(Locale.ROOT));
+        return super.get(canonical((String) key));
     }
 
     @Override
@@ -65,7 +88,7 @@ public class CaseInsensitiveMap<T> extends HashMap<String, T> {
         if (key == null) {
             return super.getOrDefault(null, defaultValue);
         }
-        return super.getOrDefault(((String) key).toLowerCase(Locale.ROOT), defaultValue);
+        return super.getOrDefault(canonical((String) key), defaultValue);
     }
 
     @Override
@@ -74,7 +97,7 @@ public class CaseInsensitiveMap<T> extends HashMap<String, T> {
         if (key == null) {
             return super.merge(null, value, remappingFunction);
         }
-        return super.merge(key.toLowerCase(Locale.ROOT), value, remappingFunction);
+        return super.merge(canonical(key), value, remappingFunction);
     }
 
     @Override
@@ -82,17 +105,14 @@ public class CaseInsensitiveMap<T> extends HashMap<String, T> {
         if (key == null) {
             return super.put(null, value);
         }
-        return super.put(key.toLowerCase(Locale.ROOT), value);
+        return super.put(canonical(key), value);
     }
 
     @Override
     public void putAll(Map<? extends String, ? extends T> m) {
-        super.putAll(
-                m.entrySet().stream()
-                        .collect(
-                                Collectors.toMap(
-                                        key -> key.getKey().toLowerCase(Locale.ROOT),
-                                        Entry::getValue)));
+        for (Entry<? extends String, ? extends T> entry : m.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
     }
 
     @Override
@@ -100,7 +120,7 @@ public class CaseInsensitiveMap<T> extends HashMap<String, T> {
         if (key == null) {
             return super.putIfAbsent(null, value);
         }
-        return super.putIfAbsent(key.toLowerCase(Locale.ROOT), value);
+        return super.putIfAbsent(canonical(key), value);
     }
 
     @Override
@@ -108,7 +128,7 @@ public class CaseInsensitiveMap<T> extends HashMap<String, T> {
         if (key == null) {
             return super.remove(null, value);
         }
-        return super.remove(((String) key).toLowerCase(Locale.ROOT), value);
+        return super.remove(canonical((String) key), value);
     }
 
     @Override
@@ -116,7 +136,7 @@ public class CaseInsensitiveMap<T> extends HashMap<String, T> {
         if (key == null) {
             return super.remove(null);
         }
-        return super.remove(((String) key).toLowerCase(Locale.ROOT));
+        return super.remove(canonical((String) key));
     }
 
     @Override
@@ -125,7 +145,7 @@ public class CaseInsensitiveMap<T> extends HashMap<String, T> {
         if (key == null) {
             return super.replace(null, oldValue, newValue);
         }
-        return super.replace(key.toLowerCase(Locale.ROOT), oldValue, newValue);
+        return super.replace(canonical(key), oldValue, newValue);
     }
 
     @Override
@@ -133,6 +153,6 @@ public class CaseInsensitiveMap<T> extends HashMap<String, T> {
         if (key == null) {
             return super.replace(null, value);
         }
-        return super.replace(key.toLowerCase(Locale.ROOT), value);
+        return super.replace(canonical(key), value);
     }
 }
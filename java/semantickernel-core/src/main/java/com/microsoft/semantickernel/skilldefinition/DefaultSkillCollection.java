@@ -2,9 +2,12 @@
 package com.microsoft.semantickernel.skilldefinition;
 
 import com.microsoft.semantickernel.orchestration.SKFunction;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nullable;
@@ -73,6 +76,36 @@ public class DefaultSkillCollection implements ReadOnlySkillCollection {
         return this;
     }
 
+    /**
+     * Create a copy of this collection with the given functions added, replacing functions of the
+     * same name. This collection is left unchanged. Skills none of the functions belong to are
+     * shared by both collections rather than copied.
+     *
+     * @param functions The functions to add
+     * @return The new collection
+     */
+    @CheckReturnValue
+    public DefaultSkillCollection withFunctions(Collection<? extends SKFunction<?>> functions) {
+        DefaultSkillCollection updated = new DefaultSkillCollection();
+        updated.skillCollection.putAll(skillCollection);
+
+        Set<String> copied = new HashSet<>();
+        for (SKFunction<?> function : functions) {
+            String skillName = function.getSkillName().toLowerCase(Locale.ROOT);
+            FunctionCollection skill = updated.skillCollection.get(skillName);
+            if (skill == null) {
+                skill = new FunctionCollection(function.getSkillName());
+                updated.skillCollection.put(skillName, skill);
+                copied.add(skillName);
+            } else if (copied.add(skillName)) {
+                skill = skill.copy();
+                updated.skillCollection.put(skillName, skill);
+            }
+            skill.put(function.getName(), function);
+        }
+        return updated;
+    }
+
     @Override
     @Nullable
     public <T extends SKFunction<?>> T getFunction(
@@ -0,0 +1,179 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.skilldefinition;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Watches a skill directory, and the function directories within it, for changes. Changes are
+ * debounced per function: a function is reported once its own files have not changed for the
+ * debounce period, so that an editor writing the config and the prompt in turn causes a single
+ * reload, while changes to other functions do not delay it.
+ */
+public final class SkillDirectoryWatcher implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SkillDirectoryWatcher.class);
+
+    private final Path skillDirectory;
+    private final long debounceNanos;
+    private final Consumer<String> onFunctionChanged;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> watched = new ConcurrentHashMap<>();
+    private final Thread thread;
+
+    private SkillDirectoryWatcher(
+            Path skillDirectory, Duration debounce, Consumer<String> onFunctionChanged)
+            throws IOException {
+        this.skillDirectory = skillDirectory;
+        this.debounceNanos = debounce.toNanos();
+        this.onFunctionChanged = onFunctionChanged;
+        this.watchService = skillDirectory.getFileSystem().newWatchService();
+        this.thread = new Thread(this::run, "skill-watcher-" + skillDirectory.getFileName());
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Start watching a skill directory
+     *
+     * @param skillDirectory The skill directory
+     * @param debounce Time without changes before a function is reported
+     * @param onFunctionChanged Called, on the watcher thread, with the name of each changed
+     *     function
+     * @return The watcher, that stops when closed
+     * @throws IOException If the directory cannot be watched
+     */
+    public static SkillDirectoryWatcher watch(
+            Path skillDirectory, Duration debounce, Consumer<String> onFunctionChanged)
+            throws IOException {
+        SkillDirectoryWatcher watcher =
+                new SkillDirectoryWatcher(skillDirectory, debounce, onFunctionChanged);
+        try {
+            watcher.register(skillDirectory);
+            try (DirectoryStream<Path> functions = Files.newDirectoryStream(skillDirectory)) {
+                for (Path function : functions) {
+                    if (Files.isDirectory(function)) {
+                        watcher.register(function);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            watcher.watchService.close();
+            throw e;
+        }
+        watcher.thread.start();
+        return watcher;
+    }
+
+    private void register(Path directory) throws IOException {
+        watched.put(
+                directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE),
+                directory);
+    }
+
+    private void run() {
+        // Time of the last change of each function waiting to be reported
+        Map<String, Long> pending = new HashMap<>();
+        try {
+            while (true) {
+                WatchKey key;
+                if (pending.isEmpty()) {
+                    key = watchService.take();
+                } else {
+                    long quietAt = Collections.min(pending.values()) + debounceNanos;
+                    long wait = quietAt - System.nanoTime();
+                    key = wait > 0 ? watchService.poll(wait, TimeUnit.NANOSECONDS) : null;
+                }
+
+                if (key != null) {
+                    collect(key, pending);
+                }
+                notifyQuiet(pending);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Closed, stop watching
+        }
+    }
+
+    private void notifyQuiet(Map<String, Long> pending) {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<String, Long>> functions = pending.entrySet().iterator();
+        while (functions.hasNext()) {
+            Map.Entry<String, Long> function = functions.next();
+            if (now - function.getValue() >= debounceNanos) {
+                functions.remove();
+                notifyChanged(function.getKey());
+            }
+        }
+    }
+
+    private void collect(WatchKey key, Map<String, Long> pending) {
+        Path directory = watched.get(key);
+        long now = System.nanoTime();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (directory == null || event.kind() == OVERFLOW) {
+                continue;
+            }
+
+            Path changed = directory.resolve((Path) event.context());
+            if (directory.equals(skillDirectory)) {
+                // A function directory was added, replaced or removed
+                if (event.kind() == ENTRY_CREATE && Files.isDirectory(changed)) {
+                    try {
+                        register(changed);
+                    } catch (IOException e) {
+                        LOGGER.warn("Failed to watch function directory " + changed, e);
+                    }
+                }
+                pending.put(changed.getFileName().toString(), now);
+            } else {
+                pending.put(directory.getFileName().toString(), now);
+            }
+        }
+
+        if (!key.reset()) {
+            watched.remove(key);
+        }
+    }
+
+    private void notifyChanged(String functionName) {
+        try {
+            onFunctionChanged.accept(functionName);
+        } catch (RuntimeException e) {
+            LOGGER.warn(
+                    "Failed to reload function "
+                            + functionName
+                            + " of "
+                            + skillDirectory.toAbsolutePath(),
+                    e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
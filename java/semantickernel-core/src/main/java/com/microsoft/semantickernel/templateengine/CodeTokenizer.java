@@ -53,42 +53,67 @@ public class CodeTokenizer {
             return new ArrayList<>();
         }
 
+        return tokenize(text, 0, text.length());
+    }
+
+    /// <summary>
+    /// Tokenize the range [start, end) of the given text, without checking for syntax errors.
+    /// The range is scanned in place, each token is copied out of the text exactly once.
+    /// </summary>
+    /// <param name="text">Text containing the code to parse</param>
+    /// <param name="start">Start of the code, inclusive</param>
+    /// <param name="end">End of the code, exclusive</param>
+    /// <returns>A list of blocks</returns>
+    public List<Block> tokenize(String text, int start, int end) {
+        if (text == null) {
+            return new ArrayList<>();
+        }
+
         // Remove spaces, which are ignored anyway
-        text = text.trim();
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
 
         // Render NULL to ""
-        if (text.isEmpty()) {
+        if (start == end) {
             return Collections.unmodifiableList(new ArrayList<>());
         }
 
         // Track what type of token we're reading
         TokenTypes currentTokenType = TokenTypes.None;
 
-        // Track the content of the current token
-        StringBuilder currentTokenContent = new StringBuilder();
+        // Track where the current token starts
+        int currentTokenStart = start;
+
+        // Content of the current value, only used once the value contains escaped chars
+        StringBuilder escapedValue = null;
 
         char textValueDelimiter = '\0';
 
         List<Block> blocks = new ArrayList<>();
-        char nextChar = text.charAt(0);
+        char nextChar = text.charAt(start);
 
         // Tokens must be separated by spaces, track their presence
         boolean spaceSeparatorFound = false;
 
         // 1 char only edge case
-        if (text.length() == 1) {
+        if (end - start == 1) {
+            String content = text.substring(start, end);
             switch (nextChar) {
                 case Symbols.VarPrefix:
-                    blocks.add(new VarBlock(text));
+                    blocks.add(new VarBlock(content));
                     break;
 
                 case Symbols.DblQuote:
                 case Symbols.SglQuote:
-                    blocks.add(new ValBlock(text));
+                    blocks.add(new ValBlock(content));
                     break;
 
                 default:
-                    blocks.add(new FunctionIdBlock(text));
+                    blocks.add(new FunctionIdBlock(content));
                     break;
             }
 
@@ -96,7 +121,8 @@ public class CodeTokenizer {
         }
 
         boolean skipNextChar = false;
-        for (int nextCharCursor = 1; nextCharCursor < text.length(); nextCharCursor++) {
+        for (int nextCharCursor = start + 1; nextCharCursor < end; nextCharCursor++) {
+            int currentCharPos = nextCharCursor - 1;
             char currentChar = nextChar;
             nextChar = text.charAt(nextCharCursor);
 
@@ -106,7 +132,7 @@ public class CodeTokenizer {
             }
 
             // First char is easy
-            if (nextCharCursor == 1) {
+            if (currentCharPos == start) {
                 if (isVarPrefix(currentChar)) {
                     currentTokenType = TokenTypes.Variable;
                 } else if (isQuote(currentChar)) {
@@ -116,7 +142,7 @@ public class CodeTokenizer {
                     currentTokenType = TokenTypes.FunctionId;
                 }
 
-                currentTokenContent.append(currentChar);
+                currentTokenStart = currentCharPos;
                 continue;
             }
 
@@ -127,17 +153,28 @@ public class CodeTokenizer {
                 // - add the next (special char)
                 // - jump to the one after (to handle "\\" properly)
                 if (currentChar == Symbols.EscapeChar && CanBeEscaped(nextChar)) {
-                    currentTokenContent.append(nextChar);
+                    if (escapedValue == null) {
+                        escapedValue =
+                                new StringBuilder().append(text, currentTokenStart, currentCharPos);
+                    }
+                    escapedValue.append(nextChar);
                     skipNextChar = true;
                     continue;
                 }
 
-                currentTokenContent.append(currentChar);
+                if (escapedValue != null) {
+                    escapedValue.append(currentChar);
+                }
 
                 // When we reach the end of the value
                 if (currentChar == textValueDelimiter) {
-                    blocks.add(new ValBlock(currentTokenContent.toString()));
-                    currentTokenContent = new StringBuilder();
+                    blocks.add(
+                            new ValBlock(
+                                    escapedValue != null
+                                            ? escapedValue.toString()
+                                            : text.substring(
+                                                    currentTokenStart, currentCharPos + 1)));
+                    escapedValue = null;
                     currentTokenType = TokenTypes.None;
                     spaceSeparatorFound = false;
                 }
@@ -149,11 +186,10 @@ public class CodeTokenizer {
             // Note: there might be multiple consecutive spaces
             if (IsBlankSpace(currentChar)) {
                 if (currentTokenType == TokenTypes.Variable) {
-                    blocks.add(new VarBlock(currentTokenContent.toString()));
-                    currentTokenContent = new StringBuilder();
+                    blocks.add(new VarBlock(text.substring(currentTokenStart, currentCharPos)));
                 } else if (currentTokenType == TokenTypes.FunctionId) {
-                    blocks.add(new FunctionIdBlock(currentTokenContent.toString()));
-                    currentTokenContent = new StringBuilder();
+                    blocks.add(
+                            new FunctionIdBlock(text.substring(currentTokenStart, currentCharPos)));
                 }
 
                 spaceSeparatorFound = true;
@@ -163,8 +199,6 @@ public class CodeTokenizer {
             }
 
             // If we're not inside a quoted value and we're not processing a space
-            currentTokenContent.append(currentChar);
-
             if (currentTokenType == TokenTypes.None) {
                 if (!spaceSeparatorFound) {
                     throw new TemplateException(
@@ -183,22 +217,27 @@ public class CodeTokenizer {
                     // A function Id starts here
                     currentTokenType = TokenTypes.FunctionId;
                 }
+
+                currentTokenStart = currentCharPos;
             }
         }
 
         // Capture last token
-        currentTokenContent.append(nextChar);
         switch (currentTokenType) {
             case Value:
-                blocks.add(new ValBlock(currentTokenContent.toString()));
+                blocks.add(
+                        new ValBlock(
+                                escapedValue != null
+                                        ? escapedValue.append(nextChar).toString()
+                                        : text.substring(currentTokenStart, end)));
                 break;
 
             case Variable:
-                blocks.add(new VarBlock(currentTokenContent.toString()));
+                blocks.add(new VarBlock(text.substring(currentTokenStart, end)));
                 break;
 
             case FunctionId:
-                blocks.add(new FunctionIdBlock(currentTokenContent.toString()));
+                blocks.add(new FunctionIdBlock(text.substring(currentTokenStart, end)));
                 break;
 
             case None:
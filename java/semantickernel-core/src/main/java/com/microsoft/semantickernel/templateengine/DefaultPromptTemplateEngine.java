@@ -5,7 +5,11 @@ import com.microsoft.semantickernel.orchestration.SKContext;
 import com.microsoft.semantickernel.templateengine.blocks.Block;
 import com.microsoft.semantickernel.templateengine.blocks.CodeRendering;
 import com.microsoft.semantickernel.templateengine.blocks.TextRendering;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
@@ -25,15 +29,80 @@ import reactor.core.publisher.Mono;
 public class DefaultPromptTemplateEngine implements PromptTemplateEngine {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultPromptTemplateEngine.class);
 
+    // Upper bound on the number of compiled templates kept, protects against templates that are
+    // generated on the fly. The least recently used template is evicted first.
+    private static final int MAX_COMPILED_TEMPLATES = 1024;
+
     private final TemplateTokenizer tokenizer;
 
+    // Number of code blocks rendered concurrently, 1 renders blocks one after the other
+    private final int renderConcurrency;
+
+    // Validated blocks of the templates rendered by this engine, keyed by template text. Guarded by
+    // its own lock.
+    private final LinkedHashMap<String, List<Block>> compiledTemplates;
+
     public DefaultPromptTemplateEngine() {
-        tokenizer = new TemplateTokenizer();
+        this(1);
+    }
+
+    /**
+     * Create an engine that renders up to {@code renderConcurrency} code blocks of a template at
+     * the same time. Function calls in a template are independent of each other, as the context
+     * variables are immutable while rendering, so they can run concurrently. The rendered blocks
+     * are always assembled in template order.
+     *
+     * @param renderConcurrency Maximum number of code blocks rendered concurrently
+     */
+    public DefaultPromptTemplateEngine(int renderConcurrency) {
+        if (renderConcurrency < 1) {
+            throw new IllegalArgumentException("Render concurrency must be at least 1");
+        }
+        this.tokenizer = new TemplateTokenizer();
+        this.compiledTemplates =
+                new LinkedHashMap<String, List<Block>>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, List<Block>> eldest) {
+                        return size() > MAX_COMPILED_TEMPLATES;
+                    }
+                };
+        this.renderConcurrency = renderConcurrency;
     }
 
+    /**
+     * Extract and validate the blocks of a template. The blocks are immutable, so they are compiled
+     * once per template text and shared between all the renders of the template.
+     *
+     * @param templateText Prompt template (see skprompt.txt files)
+     * @return Unmodifiable list of the blocks of the template
+     */
     @Override
     public List<Block> extractBlocks(String templateText) {
-        return extractBlocks(templateText, true);
+        if (templateText == null) {
+            return extractBlocks(null, true);
+        }
+
+        List<Block> blocks;
+        synchronized (compiledTemplates) {
+            blocks = compiledTemplates.get(templateText);
+        }
+        if (blocks != null) {
+            return blocks;
+        }
+
+        // Compiled outside of the lock, concurrent compilations of a template are harmless
+        blocks = Collections.unmodifiableList(extractBlocks(templateText, true));
+        synchronized (compiledTemplates) {
+            List<Block> existing = compiledTemplates.putIfAbsent(templateText, blocks);
+            return existing != null ? existing : blocks;
+        }
+    }
+
+    @Override
+    public void evict(String templateText) {
+        synchronized (compiledTemplates) {
+            compiledTemplates.remove(templateText);
+        }
     }
 
     public List<Block> extractBlocks(String templateText, boolean validate) {
@@ -63,33 +132,46 @@ public class DefaultPromptTemplateEngine implements PromptTemplateEngine {
     }
 
     /// <inheritdoc/>
+    @Override
     public Mono<String> renderAsync(List<Block> blocks, SKContext context) {
-        return Flux.fromIterable(blocks)
-                .concatMap(
-                        block -> {
-                            if (block instanceof TextRendering) {
-                                return Mono.just(
-                                        ((TextRendering) block).render(context.getVariables()));
-                            } else if (block instanceof CodeRendering) {
-                                return ((CodeRendering) block).renderCodeAsync(context);
-                            } else {
-                                String message =
-                                        "Unexpected block type, the block doesn't have a rendering"
-                                                + " method";
-                                LOGGER.error(message);
-                                return Mono.error(
-                                        new TemplateException(
-                                                TemplateException.ErrorCodes.UNEXPECTED_BLOCK_TYPE,
-                                                message));
-                            }
-                        })
-                .collectList()
-                .map(
-                        values -> {
-                            StringBuilder sb = new StringBuilder();
-                            values.forEach(sb::append);
-                            return sb.toString();
-                        });
+        return Mono.defer(
+                () -> {
+                    // Results of idempotent function calls, shared by the blocks of this render
+                    Map<String, Mono<String>> renderCache = new ConcurrentHashMap<>();
+
+                    if (renderConcurrency == 1 || blocks.size() < 2) {
+                        // Blocks are rendered in order, each one appended as soon as it is ready
+                        StringBuilder result = new StringBuilder();
+                        return Flux.fromIterable(blocks)
+                                .concatMap(
+                                        block -> {
+                                            if (block instanceof TextRendering) {
+                                                ((TextRendering) block)
+                                                        .renderTo(context.getVariables(), result);
+                                                return Mono.empty();
+                                            }
+                                            return renderBlockAsync(block, context, renderCache)
+                                                    .doOnNext(result::append);
+                                        })
+                                .then(Mono.fromCallable(result::toString));
+                    }
+
+                    // Render code blocks concurrently, storing each result at the index of its
+                    // block so that the output follows template order regardless of completion
+                    // order. Static blocks are appended when the prompt is assembled.
+                    String[] rendered = new String[blocks.size()];
+                    return Flux.range(0, blocks.size())
+                            .filter(index -> !(blocks.get(index) instanceof TextRendering))
+                            .flatMap(
+                                    index ->
+                                            renderBlockAsync(
+                                                            blocks.get(index), context, renderCache)
+                                                    // Empty renders as nothing, as in order
+                                                    .defaultIfEmpty("")
+                                                    .doOnNext(value -> rendered[index] = value),
+                                    renderConcurrency)
+                            .then(Mono.fromCallable(() -> join(blocks, rendered, context)));
+                });
         /*
         this._log.LogTrace("Rendering list of {0} blocks", blocks.Count);
         var result = new StringBuilder();
@@ -119,10 +201,46 @@ public class DefaultPromptTemplateEngine implements PromptTemplateEngine {
          */
     }
 
+    private static String join(List<Block> blocks, String[] rendered, SKContext context) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < blocks.size(); i++) {
+            Block block = blocks.get(i);
+            if (block instanceof TextRendering) {
+                ((TextRendering) block).renderTo(context.getVariables(), sb);
+            } else {
+                sb.append(rendered[i]);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static Mono<String> renderBlockAsync(
+            Block block, SKContext context, Map<String, Mono<String>> renderCache) {
+        if (block instanceof TextRendering) {
+            return Mono.just(((TextRendering) block).render(context.getVariables()));
+        } else if (block instanceof CodeRendering) {
+            return ((CodeRendering) block).renderCodeAsync(context, renderCache);
+        } else {
+            String message = "Unexpected block type, the block doesn't have a rendering method";
+            LOGGER.error(message);
+            return Mono.error(
+                    new TemplateException(
+                            TemplateException.ErrorCodes.UNEXPECTED_BLOCK_TYPE, message));
+        }
+    }
+
     public static final class Builder implements PromptTemplateEngine.Builder {
+        private int renderConcurrency = 1;
+
+        @Override
+        public PromptTemplateEngine.Builder withRenderConcurrency(int renderConcurrency) {
+            this.renderConcurrency = renderConcurrency;
+            return this;
+        }
+
         @Override
         public PromptTemplateEngine build() {
-            return new DefaultPromptTemplateEngine();
+            return new DefaultPromptTemplateEngine(renderConcurrency);
         }
     }
 }
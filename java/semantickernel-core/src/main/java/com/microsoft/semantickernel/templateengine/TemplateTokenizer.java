@@ -127,21 +127,23 @@ public class TemplateTokenizer {
                             blocks.add(new TextBlock(text, endOfLastBlock, blockStartPos));
                         }
 
-                        // Extract raw block
-                        String contentWithDelimiters = subStr(text, blockStartPos, cursor + 1);
-
-                        // Remove "{{" and "}}" delimiters and trim empty chars
-                        String contentWithoutDelimiters =
-                                contentWithDelimiters
-                                        .substring(2, contentWithDelimiters.length() - 2)
-                                        .trim();
+                        // Locate the content between the "{{" and "}}" delimiters, without
+                        // empty chars, directly in the template text
+                        int contentStart = blockStartPos + 2;
+                        int contentEnd = cursor - 1;
+                        while (contentStart < contentEnd && text.charAt(contentStart) <= ' ') {
+                            contentStart++;
+                        }
+                        while (contentEnd > contentStart && text.charAt(contentEnd - 1) <= ' ') {
+                            contentEnd--;
+                        }
 
-                        if (contentWithoutDelimiters.length() == 0) {
+                        if (contentStart == contentEnd) {
                             // If what is left is empty, consider the raw block a Text Block
-                            blocks.add(new TextBlock(contentWithDelimiters));
+                            blocks.add(new TextBlock(text, blockStartPos, cursor + 1));
                         } else {
                             List<Block> codeBlocks =
-                                    this.codeTokenizer.tokenize(contentWithoutDelimiters);
+                                    this.codeTokenizer.tokenize(text, contentStart, contentEnd);
 
                             switch (codeBlocks.get(0).getType()) {
                                 case Variable:
@@ -149,7 +151,8 @@ public class TemplateTokenizer {
                                         throw new TemplateException(
                                                 TemplateException.ErrorCodes.SYNTAX_ERROR,
                                                 "Invalid token detected after the variable: "
-                                                        + contentWithoutDelimiters);
+                                                        + text.substring(
+                                                                contentStart, contentEnd));
                                     }
 
                                     blocks.add(codeBlocks.get(0));
@@ -160,7 +163,8 @@ public class TemplateTokenizer {
                                         throw new TemplateException(
                                                 TemplateException.ErrorCodes.SYNTAX_ERROR,
                                                 "Invalid token detected after the value: "
-                                                        + contentWithoutDelimiters);
+                                                        + text.substring(
+                                                                contentStart, contentEnd));
                                     }
 
                                     blocks.add(codeBlocks.get(0));
@@ -171,10 +175,14 @@ public class TemplateTokenizer {
                                         throw new TemplateException(
                                                 TemplateException.ErrorCodes.SYNTAX_ERROR,
                                                 "Functions support only one parameter: "
-                                                        + contentWithoutDelimiters);
+                                                        + text.substring(
+                                                                contentStart, contentEnd));
                                     }
 
-                                    blocks.add(new CodeBlock(codeBlocks, contentWithoutDelimiters));
+                                    blocks.add(
+                                            new CodeBlock(
+                                                    codeBlocks,
+                                                    text.substring(contentStart, contentEnd)));
                                     break;
 
                                 case Code:
@@ -210,10 +218,6 @@ public class TemplateTokenizer {
      */
     private final CodeTokenizer codeTokenizer = new CodeTokenizer();
 
-    private static String subStr(String text, int startIndex, int stopIndex) {
-        return text.substring(startIndex, stopIndex);
-    }
-
     private static boolean isQuote(char c) {
         return c == Symbols.DblQuote || c == Symbols.SglQuote;
     }
@@ -9,6 +9,7 @@ import com.microsoft.semantickernel.skilldefinition.ReadOnlySkillCollection;
 import com.microsoft.semantickernel.templateengine.TemplateException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import javax.annotation.Nullable;
 import org.slf4j.Logger;
@@ -20,6 +21,9 @@ public final class CodeBlock extends Block implements CodeRendering {
     private static final Logger LOGGER = LoggerFactory.getLogger(CodeBlock.class);
     private final List<Block> tokens;
 
+    // The tokens are immutable, so validation only needs to run once
+    @Nullable private volatile Boolean valid = null;
+
     public CodeBlock(List<Block> tokens, String content) {
         super(content, BlockTypes.Code);
         this.tokens = Collections.unmodifiableList(tokens);
@@ -27,6 +31,15 @@ public final class CodeBlock extends Block implements CodeRendering {
 
     @Override
     public boolean isValid() {
+        Boolean result = this.valid;
+        if (result == null) {
+            result = validate();
+            this.valid = result;
+        }
+        return result;
+    }
+
+    private boolean validate() {
         Optional<Block> invalid = tokens.stream().filter(token -> !token.isValid()).findFirst();
         if (invalid.isPresent()) {
             LOGGER.error("Invalid block" + invalid.get().getContent());
@@ -56,6 +69,12 @@ public final class CodeBlock extends Block implements CodeRendering {
 
     @Override
     public Mono<String> renderCodeAsync(SKContext context) {
+        return renderCodeAsync(context, null);
+    }
+
+    @Override
+    public Mono<String> renderCodeAsync(
+            SKContext context, @Nullable Map<String, Mono<String>> renderCache) {
         if (!this.isValid()) {
             throw new TemplateException(TemplateException.ErrorCodes.SYNTAX_ERROR);
         }
@@ -69,7 +88,8 @@ public final class CodeBlock extends Block implements CodeRendering {
                         ((TextRendering) this.tokens.get(0)).render(context.getVariables()));
 
             case FunctionId:
-                return this.renderFunctionCallAsync((FunctionIdBlock) this.tokens.get(0), context);
+                return this.renderFunctionCallAsync(
+                        (FunctionIdBlock) this.tokens.get(0), context, renderCache);
 
             case Undefined:
             case Text:
@@ -79,7 +99,10 @@ public final class CodeBlock extends Block implements CodeRendering {
         }
     }
 
-    private Mono<String> renderFunctionCallAsync(FunctionIdBlock fBlock, SKContext context) {
+    private Mono<String> renderFunctionCallAsync(
+            FunctionIdBlock fBlock,
+            SKContext context,
+            @Nullable Map<String, Mono<String>> renderCache) {
         // context.ThrowIfSkillCollectionNotSet();
         SKFunction function = this.getFunctionFromSkillCollection(context.getSkills(), fBlock);
         if (function == null) {
@@ -89,6 +112,7 @@ public final class CodeBlock extends Block implements CodeRendering {
         }
 
         ContextVariables variables = context.getVariables();
+        String argument = "";
 
         // If the code syntax is {{functionName $varName}} use $varName instead of $input
         // If the code syntax is {{functionName 'value'}} use "value" instead of $input
@@ -101,8 +125,22 @@ public final class CodeBlock extends Block implements CodeRendering {
                 String varName = content.substring(1);
                 variables = variables.writableClone().setVariable(varName, input);
             } else variables = variables.writableClone().update(input);
+            argument = content + "=" + input;
+        }
+
+        if (renderCache == null || !function.isIdempotent()) {
+            return invokeFunctionAsync(function, variables, context);
         }
 
+        // Calls to an idempotent function with the same argument share one invocation
+        ContextVariables functionVariables = variables;
+        return renderCache.computeIfAbsent(
+                function.toFullyQualifiedName() + "\n" + argument,
+                key -> invokeFunctionAsync(function, functionVariables, context).cache());
+    }
+
+    private static Mono<String> invokeFunctionAsync(
+            SKFunction<?> function, ContextVariables variables, SKContext context) {
         Mono<SKContext> result =
                 function.invokeWithCustomInputAsync(
                         variables, context.getSemanticMemory(), context.getSkills());
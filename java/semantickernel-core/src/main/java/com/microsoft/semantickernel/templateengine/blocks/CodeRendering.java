@@ -2,6 +2,7 @@
 package com.microsoft.semantickernel.templateengine.blocks;
 
 import com.microsoft.semantickernel.orchestration.SKContext;
+import java.util.Map;
 import reactor.core.publisher.Mono;
 
 /** Interface of dynamic blocks that need async IO to be rendered. */
@@ -13,4 +14,17 @@ public interface CodeRendering {
      * @return Rendered content
      */
     Mono<String> renderCodeAsync(SKContext context);
+
+    /**
+     * Render the block using the given context, sharing the results of idempotent function calls
+     * with the other blocks of the same render.
+     *
+     * @param context SK execution context
+     * @param renderCache Results of the idempotent function calls of the current render, keyed by
+     *     function and argument
+     * @return Rendered content
+     */
+    default Mono<String> renderCodeAsync(SKContext context, Map<String, Mono<String>> renderCache) {
+        return renderCodeAsync(context);
+    }
 }
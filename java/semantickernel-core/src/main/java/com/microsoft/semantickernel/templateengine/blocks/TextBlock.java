@@ -3,10 +3,44 @@ package com.microsoft.semantickernel.templateengine.blocks;
 
 import com.microsoft.semantickernel.orchestration.ContextVariables;
 
+/**
+ * Plain text of a template. The block references a range of the template text instead of holding
+ * a copy of it, the range is appended directly to the rendered prompt.
+ */
 public final class TextBlock extends Block implements TextRendering {
 
+    private final String source;
+    private final int startIndex;
+    private final int stopIndex;
+
     public TextBlock(String text) {
-        super(text, BlockTypes.Text);
+        this(text == null ? "" : text, 0, text == null ? 0 : text.length());
+    }
+
+    /**
+     * Create a text block over a range of the given text, without copying it
+     *
+     * @param text Template text
+     * @param startIndex Start of the block, inclusive
+     * @param stopIndex End of the block, exclusive
+     */
+    public TextBlock(String text, int startIndex, int stopIndex) {
+        super(null, BlockTypes.Text);
+        if (startIndex < 0 || stopIndex > text.length() || startIndex > stopIndex) {
+            throw new IndexOutOfBoundsException(
+                    "Invalid text block range [" + startIndex + ", " + stopIndex + ")");
+        }
+        this.source = text;
+        this.startIndex = startIndex;
+        this.stopIndex = stopIndex;
+    }
+
+    @Override
+    public String getContent() {
+        if (startIndex == 0 && stopIndex == source.length()) {
+            return source;
+        }
+        return source.substring(startIndex, stopIndex);
     }
 
     @Override
@@ -16,10 +50,11 @@ public final class TextBlock extends Block implements TextRendering {
 
     @Override
     public String render(ContextVariables variables) {
-        return super.getContent();
+        return getContent();
     }
 
-    public TextBlock(String text, int startIndex, int stopIndex) {
-        super(text.substring(startIndex, stopIndex), BlockTypes.Text);
+    @Override
+    public void renderTo(ContextVariables variables, StringBuilder result) {
+        result.append(source, startIndex, stopIndex);
     }
 }
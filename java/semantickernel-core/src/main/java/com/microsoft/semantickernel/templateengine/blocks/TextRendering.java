@@ -15,4 +15,14 @@ public interface TextRendering {
     /// <returns>Rendered content</returns>
     @Nullable
     String render(ContextVariables variables);
+
+    /// <summary>
+    /// Render the block appending the result to the given builder, avoiding an intermediate
+    /// string where the block can.
+    /// </summary>
+    /// <param name="variables">Optional variables used to render the block</param>
+    /// <param name="result">Builder the rendered content is appended to</param>
+    default void renderTo(ContextVariables variables, StringBuilder result) {
+        result.append(render(variables));
+    }
 }
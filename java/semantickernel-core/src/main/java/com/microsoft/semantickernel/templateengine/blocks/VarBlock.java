@@ -33,7 +33,7 @@ public final class VarBlock extends Block implements TextRendering {
                     "Variable rendering failed, the variable name is empty");
         }
 
-        String value = variables.asMap().get(name);
+        String value = variables.get(name);
 
         if (value == null) {
 
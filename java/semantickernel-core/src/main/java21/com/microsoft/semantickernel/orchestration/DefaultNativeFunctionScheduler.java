@@ -0,0 +1,31 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.orchestration;
+
+import java.util.concurrent.Executors;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Scheduler running native functions that do not return a Mono, when neither the kernel nor the
+ * skill configures one.
+ *
+ * <p>JDK 21+ variant: each function runs on its own virtual thread, so that many concurrent
+ * blocking functions do not exhaust platform threads.
+ */
+public final class DefaultNativeFunctionScheduler {
+
+    private static final Scheduler VIRTUAL_THREADS =
+            Schedulers.fromExecutorService(
+                    Executors.newVirtualThreadPerTaskExecutor(), "sk-native-function");
+
+    private DefaultNativeFunctionScheduler() {}
+
+    /**
+     * Get the default scheduler of blocking native functions
+     *
+     * @return The scheduler
+     */
+    public static Scheduler get() {
+        return VIRTUAL_THREADS;
+    }
+}
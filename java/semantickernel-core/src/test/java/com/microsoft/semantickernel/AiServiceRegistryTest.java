@@ -1,9 +1,12 @@
 // Copyright (c) Microsoft. All rights reserved.
 package com.microsoft.semantickernel;
 
+import com.microsoft.semantickernel.services.AIServiceCollection;
+import com.microsoft.semantickernel.services.AIServiceProvider;
 import com.microsoft.semantickernel.textcompletion.CompletionSKFunction;
 import com.microsoft.semantickernel.textcompletion.CompletionType;
 import com.microsoft.semantickernel.textcompletion.TextCompletion;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -45,6 +48,43 @@ public class AiServiceRegistryTest {
         Mockito.verify(service, Mockito.times(1)).completeStreamAsync(Mockito.any(), Mockito.any());
     }
 
+    @Test
+    public void factoriesAreInvokedOnce() {
+        TextCompletion service = Mockito.mock(TextCompletion.class);
+        AtomicInteger created = new AtomicInteger();
+
+        AIServiceCollection services = new AIServiceCollection();
+        services.setServiceFactory(
+                () -> {
+                    created.incrementAndGet();
+                    return service;
+                },
+                TextCompletion.class);
+        AIServiceProvider provider = services.build();
+
+        Assertions.assertEquals(0, created.get());
+        Assertions.assertSame(service, provider.getService(null, TextCompletion.class));
+        Assertions.assertSame(service, provider.getService(null, TextCompletion.class));
+        Assertions.assertSame(service, services.build().getService(null, TextCompletion.class));
+        Assertions.assertEquals(1, created.get());
+    }
+
+    @Test
+    public void providerIsNotChangedByLaterRegistrations() {
+        TextCompletion first = Mockito.mock(TextCompletion.class);
+        TextCompletion second = Mockito.mock(TextCompletion.class);
+
+        AIServiceCollection services = new AIServiceCollection();
+        services.setService("first", first, true, TextCompletion.class);
+        AIServiceProvider provider = services.build();
+
+        services.setService("second", second, true, TextCompletion.class);
+
+        Assertions.assertSame(first, provider.getService(null, TextCompletion.class));
+        Assertions.assertNull(provider.getService("second", TextCompletion.class));
+        Assertions.assertSame(second, services.build().getService(null, TextCompletion.class));
+    }
+
     @Test
     public void noServiceThrowsAnError() {
         KernelConfig config = SKBuilders.kernelConfig().build();
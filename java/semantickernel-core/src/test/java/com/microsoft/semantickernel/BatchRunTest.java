@@ -0,0 +1,102 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel;
+
+import com.microsoft.semantickernel.orchestration.BatchOptions;
+import com.microsoft.semantickernel.orchestration.BatchResult;
+import com.microsoft.semantickernel.orchestration.ContextVariables;
+import com.microsoft.semantickernel.textcompletion.CompletionSKFunction;
+import com.microsoft.semantickernel.textcompletion.CompletionType;
+import com.microsoft.semantickernel.textcompletion.TextCompletion;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class BatchRunTest {
+
+    @Test
+    public void failedInputsDoNotFailTheBatch() {
+        Kernel kernel = kernel();
+        CompletionSKFunction function = function(kernel);
+
+        List<BatchResult> results =
+                kernel.runBatchAsync(inputs("a", "bad", "c"), function).collectList().block();
+
+        Assertions.assertEquals(3, results.size());
+        Assertions.assertEquals("A", results.get(0).getContext().getResult());
+        Assertions.assertFalse(results.get(1).isSuccess());
+        Assertions.assertNull(results.get(1).getContext());
+        Assertions.assertEquals("bad", results.get(1).getInput().getInput());
+        Assertions.assertEquals("C", results.get(2).getContext().getResult());
+    }
+
+    @Test
+    public void orderedResultsFollowTheInputs() {
+        Kernel kernel = kernel();
+        CompletionSKFunction function = function(kernel);
+        BatchOptions options = BatchOptions.builder().withConcurrency(4).build();
+
+        List<String> results =
+                kernel.runBatchAsync(inputs("a", "b", "c", "d", "e", "f"), options, function)
+                        .map(result -> result.getIndex() + result.getContext().getResult())
+                        .collectList()
+                        .block();
+
+        Assertions.assertEquals("0A,1B,2C,3D,4E,5F", String.join(",", results));
+    }
+
+    @Test
+    public void unorderedResultsCoverEveryInput() {
+        Kernel kernel = kernel();
+        CompletionSKFunction function = function(kernel);
+        BatchOptions options =
+                BatchOptions.builder().withConcurrency(4).withOrdered(false).build();
+
+        List<Long> indexes =
+                kernel.runBatchAsync(inputs("a", "b", "c", "d", "e", "f"), options, function)
+                        .map(BatchResult::getIndex)
+                        .sort()
+                        .collectList()
+                        .block();
+
+        Assertions.assertEquals(
+                Flux.range(0, 6).map(Long::valueOf).collectList().block(), indexes);
+    }
+
+    private static Flux<ContextVariables> inputs(String... inputs) {
+        return Flux.just(inputs).map(input -> SKBuilders.variables().withInput(input).build());
+    }
+
+    // Upper cases the prompts after a random latency, so that results complete out of order, and
+    // fails the prompt "bad"
+    private static Kernel kernel() {
+        TextCompletion service = Mockito.mock(TextCompletion.class);
+        Mockito.when(service.defaultCompletionType()).thenReturn(CompletionType.NON_STREAMING);
+        Mockito.when(service.completeAsync(Mockito.any(), Mockito.any()))
+                .thenAnswer(
+                        invocation -> {
+                            String prompt = invocation.getArgument(0);
+                            if (prompt.equals("bad")) {
+                                return Mono.error(new IllegalArgumentException("Bad prompt"));
+                            }
+                            return Mono.delay(
+                                            Duration.ofMillis(
+                                                    ThreadLocalRandom.current().nextLong(50)))
+                                    .map(
+                                            it ->
+                                                    Collections.singletonList(
+                                                            prompt.toUpperCase(Locale.ROOT)));
+                        });
+        return SKBuilders.kernel().withDefaultAIService(service, TextCompletion.class).build();
+    }
+
+    private static CompletionSKFunction function(Kernel kernel) {
+        return kernel.getSemanticFunctionBuilder().withPromptTemplate("{{$input}}").build();
+    }
+}
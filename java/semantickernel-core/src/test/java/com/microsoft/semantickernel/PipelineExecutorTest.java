@@ -0,0 +1,104 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel;
+
+import com.microsoft.semantickernel.orchestration.ContextVariables;
+import com.microsoft.semantickernel.orchestration.PipelineStep;
+import com.microsoft.semantickernel.orchestration.SKContext;
+import com.microsoft.semantickernel.skilldefinition.ReadOnlyFunctionCollection;
+import com.microsoft.semantickernel.skilldefinition.annotations.DefineSKFunction;
+import com.microsoft.semantickernel.skilldefinition.annotations.SKFunctionParameters;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+public class PipelineExecutorTest {
+
+    @Test
+    public void independentStepsRunConcurrently() {
+        EnrichmentSkill skill = new EnrichmentSkill();
+        Kernel kernel = SKBuilders.kernel().build();
+        ReadOnlyFunctionCollection functions = kernel.importSkill(skill, "enrich");
+
+        PipelineStep[] pipeline = {
+            new PipelineStep.Builder(functions.getFunction("weather"))
+                    .withOutput("weather")
+                    .build(),
+            new PipelineStep.Builder(functions.getFunction("population"))
+                    .withOutput("population")
+                    .build(),
+            PipelineStep.of(functions.getFunction("report"))
+        };
+
+        PipelineExecutor executor = new PipelineExecutor(Arrays.asList(pipeline));
+        Assertions.assertEquals(Collections.emptyList(), executor.getDependencies(1));
+        Assertions.assertEquals(Arrays.asList(0, 1), executor.getDependencies(2));
+
+        SKContext result =
+                kernel.runPipelineAsync(variables("city", "Paris"), pipeline).block();
+
+        Assertions.assertEquals("sunny in Paris, 1M in Paris", result.getResult());
+        Assertions.assertEquals("sunny in Paris", result.getVariables().get("weather"));
+        Assertions.assertEquals(2, skill.maxActive.get());
+    }
+
+    @Test
+    public void stepsWritingTheSameVariableRunInOrder() {
+        EnrichmentSkill skill = new EnrichmentSkill();
+        Kernel kernel = SKBuilders.kernel().build();
+        ReadOnlyFunctionCollection functions = kernel.importSkill(skill, "enrich");
+
+        PipelineStep[] pipeline = {
+            PipelineStep.of(functions.getFunction("population")),
+            PipelineStep.of(functions.getFunction("weather"))
+        };
+
+        Assertions.assertEquals(
+                Collections.singletonList(0),
+                new PipelineExecutor(Arrays.asList(pipeline)).getDependencies(1));
+
+        SKContext result =
+                kernel.runPipelineAsync(variables("city", "Rome"), pipeline).block();
+
+        Assertions.assertEquals("sunny in Rome", result.getResult());
+        Assertions.assertEquals(1, skill.maxActive.get());
+    }
+
+    private static ContextVariables variables(String name, String value) {
+        return SKBuilders.variables().build().writableClone().setVariable(name, value);
+    }
+
+    public static class EnrichmentSkill {
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger maxActive = new AtomicInteger();
+
+        @DefineSKFunction(name = "weather")
+        public Mono<String> weather(@SKFunctionParameters(name = "city") String city) {
+            return slow("sunny in " + city);
+        }
+
+        @DefineSKFunction(name = "population")
+        public Mono<String> population(@SKFunctionParameters(name = "city") String city) {
+            return slow("1M in " + city);
+        }
+
+        @DefineSKFunction(name = "report")
+        public String report(
+                @SKFunctionParameters(name = "weather") String weather,
+                @SKFunctionParameters(name = "population") String population) {
+            return weather + ", " + population;
+        }
+
+        private Mono<String> slow(String result) {
+            return Mono.delay(Duration.ofMillis(100))
+                    .doOnSubscribe(
+                            ignore ->
+                                    maxActive.accumulateAndGet(active.incrementAndGet(), Math::max))
+                    .doOnTerminate(active::decrementAndGet)
+                    .thenReturn(result);
+        }
+    }
+}
@@ -4,9 +4,11 @@ package com.microsoft.semantickernel;
 import com.azure.ai.openai.OpenAIAsyncClient;
 import com.azure.ai.openai.models.EmbeddingItem;
 import com.azure.ai.openai.models.Embeddings;
+import com.microsoft.semantickernel.ai.embeddings.Embedding;
 import com.microsoft.semantickernel.ai.embeddings.EmbeddingGeneration;
 import com.microsoft.semantickernel.connectors.ai.openai.textembeddings.OpenAITextEmbeddingGeneration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.Assertions;
@@ -43,6 +45,33 @@ public class TextEmbeddingsTest {
         testEmbeddingGeneration(mockEmbeddingOpenAIAsyncClient(), 1);
     }
 
+    @Test
+    public void testEmbeddingIsDecodedIntoFloats() {
+        OpenAIAsyncClient client = Mockito.mock(OpenAIAsyncClient.class);
+        Embeddings embeddings = Mockito.mock(Embeddings.class);
+        EmbeddingItem embeddingItem = Mockito.mock(EmbeddingItem.class);
+        Mockito.when(embeddingItem.getEmbedding()).thenReturn(Arrays.asList(0.6, -0.8, 0.0));
+        Mockito.when(embeddings.getData()).thenReturn(Collections.singletonList(embeddingItem));
+        Mockito.when(client.getEmbeddings(Mockito.any(String.class), Mockito.any()))
+                .thenReturn(Mono.just(embeddings));
+
+        Embedding embedding =
+                new OpenAITextEmbeddingGeneration(client, "text-embedding-ada-002")
+                        .generateEmbeddingsAsync(Collections.singletonList("test"))
+                        .block()
+                        .get(0);
+
+        Assertions.assertEquals(Arrays.asList(0.6f, -0.8f, 0.0f), embedding.getVector());
+        Assertions.assertEquals(1f, embedding.euclideanLength(), 1e-6);
+        Assertions.assertEquals(
+                embedding.getVector(), embedding.multiply(2f).divide(2f).getVector());
+
+        Embedding boxed = new Embedding(Arrays.asList(0.6f, -0.8f, 0.0f));
+        Assertions.assertEquals(1f, embedding.cosineSimilarity(boxed), 1e-6);
+        Assertions.assertThrows(
+                UnsupportedOperationException.class, () -> embedding.getVector().set(0, 1f));
+    }
+
     public void testEmbeddingGeneration(OpenAIAsyncClient client, int expectedEmbeddingSize) {
         String model = "text-embedding-ada-002";
         EmbeddingGeneration<String> embeddingGeneration =
@@ -0,0 +1,155 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.ai.cache;
+
+import com.microsoft.semantickernel.Kernel;
+import com.microsoft.semantickernel.KernelConfig;
+import com.microsoft.semantickernel.SKBuilders;
+import com.microsoft.semantickernel.orchestration.SKContext;
+import com.microsoft.semantickernel.textcompletion.CompletionRequestSettings;
+import com.microsoft.semantickernel.textcompletion.CompletionSKFunction;
+import com.microsoft.semantickernel.textcompletion.CompletionType;
+import com.microsoft.semantickernel.textcompletion.TextCompletion;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class CompletionCacheTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @Test
+    public void repeatedPromptsAreServedFromCache() {
+        TextCompletion service = service(Duration.ofMillis(20));
+        CompletionCache cache =
+                new CompletionCache(new InMemoryCompletionCacheStore(16, Duration.ofMinutes(1)));
+        Kernel kernel = kernel(service, cache);
+
+        Assertions.assertEquals("GREECE", run(kernel, "greece"));
+        Assertions.assertEquals("GREECE", run(kernel, "greece"));
+        Assertions.assertEquals("ITALY", run(kernel, "italy"));
+
+        CompletionCacheStats stats = cache.getStats();
+        Assertions.assertEquals(2, requests.get());
+        Assertions.assertEquals(1, stats.getHits());
+        Assertions.assertEquals(2, stats.getMisses());
+        Assertions.assertTrue(stats.getSavedLatency().toMillis() >= 20, stats.toString());
+    }
+
+    @Test
+    public void cacheHitsDoNotCallTheService() {
+        TextCompletion service = service(Duration.ZERO);
+        Kernel kernel =
+                kernel(
+                        service,
+                        new CompletionCache(
+                                new InMemoryCompletionCacheStore(16, Duration.ofMinutes(1))));
+
+        Assertions.assertEquals("GREECE", run(kernel, "greece"));
+        Assertions.assertEquals("GREECE", run(kernel, "greece"));
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void concurrentIdenticalRequestsAreCoalesced() {
+        TextCompletion service = service(Duration.ofMillis(100));
+        CompletionCache cache =
+                new CompletionCache(new InMemoryCompletionCacheStore(16, Duration.ofMinutes(1)));
+        Kernel kernel = kernel(service, cache);
+        CompletionSKFunction function = function(kernel);
+
+        List<String> results =
+                Flux.range(0, 4)
+                        .flatMap(i -> kernel.runAsync("greece", function).map(SKContext::getResult))
+                        .collectList()
+                        .block();
+
+        Assertions.assertEquals(4, results.size());
+        results.forEach(result -> Assertions.assertEquals("GREECE", result));
+        Assertions.assertEquals(1, requests.get());
+        Assertions.assertEquals(3, cache.getStats().getCoalesced());
+        Assertions.assertEquals(0.75, cache.getStats().getHitRatio(), 0.001);
+    }
+
+    @Test
+    public void fileStoreKeepsCompletionsAcrossCaches() throws Exception {
+        Path directory = Files.createTempDirectory("completionCache");
+        TextCompletion service = service(Duration.ZERO);
+
+        Kernel first =
+                kernel(
+                        service,
+                        new CompletionCache(
+                                new FileCompletionCacheStore(directory, Duration.ofMinutes(1))));
+        Assertions.assertEquals("GREECE", run(first, "greece"));
+
+        Kernel second =
+                kernel(
+                        service,
+                        new CompletionCache(
+                                new FileCompletionCacheStore(directory, Duration.ofMinutes(1))));
+        Assertions.assertEquals("GREECE", run(second, "greece"));
+        Assertions.assertEquals(1, requests.get());
+
+        Kernel expired =
+                kernel(
+                        service,
+                        new CompletionCache(
+                                new FileCompletionCacheStore(directory, Duration.ofMillis(-1))));
+        Assertions.assertEquals("GREECE", run(expired, "greece"));
+        Assertions.assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void keysDependOnSettingsAndModel() {
+        CompletionRequestSettings settings = new CompletionRequestSettings();
+        CompletionRequestSettings warmer = new CompletionRequestSettings(0.5, 0, 0, 0, 256);
+
+        String key = CompletionCache.key("prompt", settings, "model");
+        Assertions.assertEquals(key, CompletionCache.key("prompt", settings, "model"));
+        Assertions.assertNotEquals(key, CompletionCache.key("prompt", warmer, "model"));
+        Assertions.assertNotEquals(key, CompletionCache.key("prompt", settings, "other"));
+        Assertions.assertNotEquals(key, CompletionCache.key("prompt!", settings, "model"));
+    }
+
+    // Upper cases the prompts, counting the calls and the requests actually sent
+    private TextCompletion service(Duration latency) {
+        TextCompletion service = Mockito.mock(TextCompletion.class);
+        Mockito.when(service.defaultCompletionType()).thenReturn(CompletionType.NON_STREAMING);
+        Mockito.when(service.completeAsync(Mockito.any(), Mockito.any()))
+                .thenAnswer(
+                        invocation -> {
+                            calls.incrementAndGet();
+                            String prompt = invocation.getArgument(0);
+                            String result = prompt.toUpperCase(Locale.ROOT);
+                            return Mono.delay(latency)
+                                    .map(it -> Collections.singletonList(result))
+                                    .doOnSubscribe(it -> requests.incrementAndGet());
+                        });
+        return service;
+    }
+
+    private static Kernel kernel(TextCompletion service, CompletionCache cache) {
+        return SKBuilders.kernel()
+                .withConfiguration(new KernelConfig.Builder().withCompletionCache(cache).build())
+                .withDefaultAIService(service, TextCompletion.class)
+                .build();
+    }
+
+    private static CompletionSKFunction function(Kernel kernel) {
+        return kernel.getSemanticFunctionBuilder().withPromptTemplate("{{$input}}").build();
+    }
+
+    private static String run(Kernel kernel, String input) {
+        return kernel.runAsync(input, function(kernel)).block().getResult();
+    }
+}
@@ -0,0 +1,230 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.ai.resilience;
+
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpResponse;
+import com.microsoft.semantickernel.Kernel;
+import com.microsoft.semantickernel.KernelConfig;
+import com.microsoft.semantickernel.SKBuilders;
+import com.microsoft.semantickernel.ai.AIException;
+import com.microsoft.semantickernel.orchestration.SKContext;
+import com.microsoft.semantickernel.textcompletion.CompletionSKFunction;
+import com.microsoft.semantickernel.textcompletion.CompletionType;
+import com.microsoft.semantickernel.textcompletion.TextCompletion;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+public class ResiliencePolicyTest {
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @Test
+    public void retriesThrottledRequestsAfterAdvertisedDelay() {
+        TextCompletion service = service(2, Duration.ofMillis(50));
+        ResiliencePolicy policy =
+                ResiliencePolicy.builder()
+                        .withMaxRetries(3)
+                        .withBackoff(Duration.ofMillis(1), Duration.ofSeconds(1))
+                        .build();
+        Kernel kernel = kernel(service, policy, null);
+
+        // Two throttled requests, each asking to retry after 50ms
+        StepVerifier.withVirtualTime(() -> runAsync(kernel, "greece"))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(99))
+                .thenAwait(Duration.ofMillis(1))
+                .expectNext("GREECE")
+                .verifyComplete();
+        Assertions.assertEquals(3, requests.get());
+    }
+
+    @Test
+    public void failsFastWhileCircuitIsOpen() {
+        TextCompletion service = service(Integer.MAX_VALUE, Duration.ofMillis(1));
+        ResiliencePolicy policy =
+                ResiliencePolicy.builder()
+                        .withMaxRetries(1)
+                        .withBackoff(Duration.ofMillis(1), Duration.ofSeconds(1))
+                        .withCircuitBreaker(2, Duration.ofMinutes(1))
+                        .build();
+        Kernel kernel = kernel(service, policy, null);
+
+        // The call that opens the breaker fails with the error of the service
+        StepVerifier.withVirtualTime(() -> runAsync(kernel, "greece"))
+                .thenAwait(Duration.ofMillis(1))
+                .expectErrorSatisfies(
+                        error ->
+                                Assertions.assertEquals(
+                                        429,
+                                        ((HttpResponseException) error)
+                                                .getResponse()
+                                                .getStatusCode()))
+                .verify();
+        Assertions.assertEquals(2, requests.get());
+        Assertions.assertTrue(policy.isOpen(service));
+
+        AIException second =
+                Assertions.assertThrows(
+                        AIException.class, () -> runAsync(kernel, "greece").block());
+        Assertions.assertEquals(AIException.ErrorCodes.SERVICE_UNAVAILABLE, second.getErrorCode());
+        Assertions.assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void circuitIsHalfOpenOnceOpenDurationElapsed() {
+        TextCompletion service = service(Integer.MAX_VALUE, Duration.ofMillis(1));
+        TestClock clock = new TestClock();
+        ResiliencePolicy policy =
+                ResiliencePolicy.builder()
+                        .withMaxRetries(0)
+                        .withCircuitBreaker(1, Duration.ofMillis(50))
+                        .withClock(clock)
+                        .build();
+        Kernel kernel = kernel(service, policy, null);
+
+        Assertions.assertThrows(
+                HttpResponseException.class, () -> runAsync(kernel, "greece").block());
+        Assertions.assertTrue(policy.isOpen(service));
+
+        clock.advance(Duration.ofMillis(49));
+        Assertions.assertTrue(policy.isOpen(service));
+        clock.advance(Duration.ofMillis(1));
+        Assertions.assertFalse(policy.isOpen(service));
+
+        // The trial request reaches the service again
+        Assertions.assertThrows(
+                HttpResponseException.class, () -> runAsync(kernel, "greece").block());
+        Assertions.assertEquals(2, requests.get());
+        Assertions.assertTrue(policy.isOpen(service));
+    }
+
+    @Test
+    public void fallsBackToNamedServiceWhileCircuitIsOpen() {
+        TextCompletion service = service(Integer.MAX_VALUE, Duration.ofMillis(1));
+        TextCompletion fallback = Mockito.mock(TextCompletion.class);
+        Mockito.when(fallback.defaultCompletionType()).thenReturn(CompletionType.NON_STREAMING);
+        Mockito.when(fallback.completeAsync(Mockito.any(), Mockito.any()))
+                .thenReturn(Mono.just(Collections.singletonList("fallback")));
+        ResiliencePolicy policy =
+                ResiliencePolicy.builder()
+                        .withMaxRetries(0)
+                        .withCircuitBreaker(1, Duration.ofMinutes(1))
+                        .withFallbackService("fallback")
+                        .build();
+        Kernel kernel = kernel(service, policy, fallback);
+
+        Assertions.assertEquals("fallback", runAsync(kernel, "greece").block());
+        Assertions.assertEquals("fallback", runAsync(kernel, "greece").block());
+        Assertions.assertEquals(1, requests.get());
+        Mockito.verify(fallback, Mockito.times(2)).completeAsync(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void parsesRetryAfterHeaders() {
+        HttpHeaders headers =
+                new HttpHeaders().set(HttpHeaderName.RETRY_AFTER, "7").set("retry-after-ms", "");
+        Assertions.assertEquals(
+                Duration.ofSeconds(7), ResiliencePolicy.getRetryAfter(throttled(headers)));
+
+        headers = new HttpHeaders().set("x-ms-retry-after-ms", "250");
+        Assertions.assertEquals(
+                Duration.ofMillis(250), ResiliencePolicy.getRetryAfter(throttled(headers)));
+
+        Assertions.assertNull(ResiliencePolicy.getRetryAfter(throttled(new HttpHeaders())));
+        Assertions.assertTrue(ResiliencePolicy.isRetryable(throttled(new HttpHeaders())));
+        Assertions.assertFalse(ResiliencePolicy.isRetryable(new IllegalStateException()));
+    }
+
+    // Throttles the first requests, asking to retry after the given delay, then upper cases the
+    // prompts
+    private TextCompletion service(int throttledRequests, Duration retryAfter) {
+        TextCompletion service = Mockito.mock(TextCompletion.class);
+        Mockito.when(service.defaultCompletionType()).thenReturn(CompletionType.NON_STREAMING);
+        Mockito.when(service.completeAsync(Mockito.any(), Mockito.any()))
+                .thenAnswer(
+                        invocation -> {
+                            String prompt = invocation.getArgument(0);
+                            return Mono.defer(
+                                    () -> {
+                                        if (requests.incrementAndGet() <= throttledRequests) {
+                                            return Mono.error(throttled(retryAfter));
+                                        }
+                                        return Mono.just(
+                                                Collections.singletonList(
+                                                        prompt.toUpperCase(Locale.ROOT)));
+                                    });
+                        });
+        return service;
+    }
+
+    private static HttpResponseException throttled(Duration retryAfter) {
+        return throttled(
+                new HttpHeaders().set("retry-after-ms", String.valueOf(retryAfter.toMillis())));
+    }
+
+    @SuppressWarnings("deprecation")
+    private static HttpResponseException throttled(HttpHeaders headers) {
+        HttpResponse response = Mockito.mock(HttpResponse.class);
+        Mockito.when(response.getStatusCode()).thenReturn(429);
+        Mockito.when(response.getHeaders()).thenReturn(headers);
+        Mockito.when(response.getHeaderValue(Mockito.anyString()))
+                .thenAnswer(invocation -> headers.getValue((String) invocation.getArgument(0)));
+        return new HttpResponseException("Too many requests", response);
+    }
+
+    private static Kernel kernel(
+            TextCompletion service, ResiliencePolicy policy, TextCompletion fallback) {
+        Kernel.Builder builder =
+                SKBuilders.kernel()
+                        .withConfiguration(
+                                new KernelConfig.Builder().withResiliencePolicy(policy).build())
+                        .withDefaultAIService(service, TextCompletion.class);
+        if (fallback != null) {
+            builder.withAIService("fallback", fallback, false, TextCompletion.class);
+        }
+        return builder.build();
+    }
+
+    private static Mono<String> runAsync(Kernel kernel, String input) {
+        CompletionSKFunction function =
+                kernel.getSemanticFunctionBuilder().withPromptTemplate("{{$input}}").build();
+        return kernel.runAsync(input, function).map(SKContext::getResult);
+    }
+
+    /** Clock that only moves when advanced */
+    private static class TestClock extends Clock {
+        private Instant now = Instant.EPOCH;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.builders;
+
+import com.microsoft.semantickernel.CoreBuilderRegistry;
+import com.microsoft.semantickernel.Kernel;
+import com.microsoft.semantickernel.SKBuilders;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BuildersSingletonTest {
+
+    @Test
+    public void everyCallReturnsANewBuilder() {
+        Kernel.Builder first = SKBuilders.kernel();
+        Kernel.Builder second = SKBuilders.kernel();
+
+        Assertions.assertNotSame(first, second);
+        Assertions.assertSame(first.getClass(), second.getClass());
+    }
+
+    @Test
+    public void coreRegistryProvidesTheServiceLoadedBuilders() {
+        Map<Class<?>, Supplier<?>> registered = new HashMap<>();
+        new CoreBuilderRegistry().registerBuilders(registered::put);
+
+        Assertions.assertFalse(registered.isEmpty());
+        registered.forEach(
+                (clazz, builder) -> {
+                    Object instance = builder.get();
+                    Assertions.assertTrue(clazz.isInstance(instance), clazz.getName());
+                    Assertions.assertNotSame(instance, builder.get());
+
+                    List<?> services = ServiceLoadUtil.findAllServiceLoaders(clazz);
+                    if (!services.isEmpty()) {
+                        Assertions.assertSame(
+                                services.get(0).getClass(), instance.getClass(), clazz.getName());
+                    }
+                });
+    }
+}
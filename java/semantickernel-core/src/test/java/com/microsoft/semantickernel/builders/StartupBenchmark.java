@@ -0,0 +1,54 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.builders;
+
+import com.microsoft.semantickernel.Kernel;
+import com.microsoft.semantickernel.SKBuilders;
+import com.microsoft.semantickernel.skilldefinition.ReadOnlyFunctionCollection;
+import com.microsoft.semantickernel.skilldefinition.annotations.DefineSKFunction;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cold start of a kernel, as seen by an application that builds one kernel per
+ * process. Run it in a fresh JVM each time, with and without the static builder registry:
+ *
+ * <pre>
+ * java -cp ... com.microsoft.semantickernel.builders.StartupBenchmark
+ * java -Dsemantickernel.builders.registry=com.microsoft.semantickernel.CoreBuilderRegistry \
+ *     -cp ... com.microsoft.semantickernel.builders.StartupBenchmark
+ * </pre>
+ */
+public class StartupBenchmark {
+
+    public static class EchoSkill {
+        @DefineSKFunction(name = "echo")
+        public String echo(String input) {
+            return input;
+        }
+    }
+
+    public static void main(String[] args) {
+        long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+        long start = System.nanoTime();
+
+        Kernel kernel = SKBuilders.kernel().build();
+        long kernelBuilt = System.nanoTime();
+
+        ReadOnlyFunctionCollection skill = kernel.importSkill(new EchoSkill(), "bench");
+        String result = skill.getFunction("echo").invokeAsync("ok").block().getResult();
+        long invoked = System.nanoTime();
+
+        System.out.printf(
+                "registry: %s%n"
+                        + "JVM start to main: %d ms%n"
+                        + "time to first Kernel: %d ms%n"
+                        + "time to first invocation: %d ms (result %s)%n",
+                System.getProperty(BuildersSingleton.REGISTRY_PROPERTY, "none"),
+                System.currentTimeMillis()
+                        - jvmStart
+                        - TimeUnit.NANOSECONDS.toMillis(invoked - start),
+                TimeUnit.NANOSECONDS.toMillis(kernelBuilt - start),
+                TimeUnit.NANOSECONDS.toMillis(invoked - start),
+                result);
+    }
+}
@@ -0,0 +1,159 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.connectors.ai.openai.textcompletion;
+
+import com.azure.ai.openai.OpenAIAsyncClient;
+import com.azure.ai.openai.models.Choice;
+import com.azure.ai.openai.models.Completions;
+import com.azure.ai.openai.models.CompletionsOptions;
+import com.azure.ai.openai.models.CompletionsUsage;
+import com.microsoft.semantickernel.Kernel;
+import com.microsoft.semantickernel.SKBuilders;
+import com.microsoft.semantickernel.instrumentation.Instrumentation;
+import com.microsoft.semantickernel.instrumentation.InstrumentationEvent;
+import com.microsoft.semantickernel.instrumentation.InstrumentationEvent.Kind;
+import com.microsoft.semantickernel.instrumentation.InstrumentationListener;
+import com.microsoft.semantickernel.orchestration.ContextVariables;
+import com.microsoft.semantickernel.orchestration.SKContext;
+import com.microsoft.semantickernel.textcompletion.CompletionRequestSettings;
+import com.microsoft.semantickernel.textcompletion.CompletionSKFunction;
+import com.microsoft.semantickernel.textcompletion.TextCompletion;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+
+public class OpenAITextCompletionTest {
+
+    @Test
+    public void batchCompletionPacksPromptsAndMapsChoicesByIndex() {
+        List<Integer> requestSizes = new ArrayList<>();
+        OpenAIAsyncClient client = client(requestSizes);
+
+        Kernel kernel =
+                SKBuilders.kernel()
+                        .withDefaultAIService(new OpenAITextCompletion(client, "a-model"))
+                        .build();
+
+        CompletionSKFunction function =
+                kernel.getSemanticFunctionBuilder()
+                        .withPromptTemplate("question {{$input}}")
+                        .build();
+
+        List<ContextVariables> inputs =
+                IntStream.range(0, 25)
+                        .mapToObj(i -> SKBuilders.variables().withInput(String.valueOf(i)).build())
+                        .collect(Collectors.toList());
+
+        List<SKContext> results = kernel.invokeBatchAsync(function, inputs).block();
+
+        Assertions.assertEquals(25, results.size());
+        for (int i = 0; i < 25; i++) {
+            Assertions.assertEquals("answer to question " + i, results.get(i).getResult());
+        }
+        Assertions.assertEquals(Arrays.asList(20, 5), requestSizes);
+    }
+
+    @Test
+    public void batchRequestsAreBoundedByTokens() {
+        List<Integer> requestSizes = new ArrayList<>();
+        TextCompletion service =
+                new OpenAITextCompletion.Builder()
+                        .withOpenAIClient(client(requestSizes))
+                        .withModelId("a-model")
+                        .withMaxPromptsPerRequest(3)
+                        .withMaxTokensPerRequest(500)
+                        .build();
+
+        // Each prompt is estimated at 100 tokens, plus 100 for its completion
+        String prompt = String.join("", Collections.nCopies(400, "x"));
+        List<String> results =
+                service.completeBatchAsync(
+                                Collections.nCopies(5, prompt),
+                                new CompletionRequestSettings(0, 0, 0, 0, 100))
+                        .block();
+
+        Assertions.assertEquals(5, results.size());
+        Assertions.assertEquals(Arrays.asList(2, 2, 1), requestSizes);
+
+        requestSizes.clear();
+        service.completeBatchAsync(
+                        Collections.nCopies(7, "short"), new CompletionRequestSettings(0, 0, 0, 0, 1))
+                .block();
+        Assertions.assertEquals(Arrays.asList(3, 3, 1), requestSizes);
+    }
+
+    @Test
+    public void tokenUsageIsReportedToInstrumentation() {
+        CompletionsUsage usage = Mockito.mock(CompletionsUsage.class);
+        Mockito.when(usage.getPromptTokens()).thenReturn(12);
+        Mockito.when(usage.getCompletionTokens()).thenReturn(34);
+        Choice choice = Mockito.mock(Choice.class);
+        Mockito.when(choice.getText()).thenReturn("answer");
+        Completions completions = Mockito.mock(Completions.class);
+        Mockito.when(completions.getChoices()).thenReturn(Collections.singletonList(choice));
+        Mockito.when(completions.getUsage()).thenReturn(usage, (CompletionsUsage) null);
+
+        OpenAIAsyncClient client = Mockito.mock(OpenAIAsyncClient.class);
+        Mockito.when(
+                        client.getCompletions(
+                                Mockito.any(String.class), Mockito.any(CompletionsOptions.class)))
+                .thenReturn(Mono.just(completions));
+        TextCompletion service = new OpenAITextCompletion(client, "a-model");
+
+        List<InstrumentationEvent> events = new CopyOnWriteArrayList<>();
+        InstrumentationListener listener = events::add;
+        Instrumentation.addListener(listener);
+        try {
+            service.completeAsync("question", new CompletionRequestSettings()).block();
+            service.completeAsync("question", new CompletionRequestSettings()).block();
+        } finally {
+            Instrumentation.removeListener(listener);
+        }
+
+        Assertions.assertEquals(2, events.size());
+        Assertions.assertEquals(Kind.TEXT_COMPLETION, events.get(0).getKind());
+        Assertions.assertEquals("a-model", events.get(0).getName());
+        Assertions.assertEquals(12, events.get(0).getPromptTokens());
+        Assertions.assertEquals(34, events.get(0).getCompletionTokens());
+
+        // Usage is not always reported by the service
+        Assertions.assertEquals(
+                InstrumentationEvent.UNKNOWN_TOKENS, events.get(1).getPromptTokens());
+        Assertions.assertEquals(
+                InstrumentationEvent.UNKNOWN_TOKENS, events.get(1).getCompletionTokens());
+    }
+
+    private static OpenAIAsyncClient client(List<Integer> requestSizes) {
+        OpenAIAsyncClient client = Mockito.mock(OpenAIAsyncClient.class);
+        Mockito.when(
+                        client.getCompletions(
+                                Mockito.any(String.class), Mockito.any(CompletionsOptions.class)))
+                .thenAnswer(
+                        invocation -> {
+                            List<String> prompts =
+                                    ((CompletionsOptions) invocation.getArgument(1)).getPrompt();
+                            requestSizes.add(prompts.size());
+
+                            // Return the choices in reverse order
+                            List<Choice> choices = new ArrayList<>();
+                            for (int i = prompts.size() - 1; i >= 0; i--) {
+                                Choice choice = Mockito.mock(Choice.class);
+                                Mockito.when(choice.getIndex()).thenReturn(i);
+                                Mockito.when(choice.getText())
+                                        .thenReturn("answer to " + prompts.get(i));
+                                choices.add(choice);
+                            }
+                            Completions completions = Mockito.mock(Completions.class);
+                            Mockito.when(completions.getChoices()).thenReturn(choices);
+                            return Mono.just(completions);
+                        });
+        return client;
+    }
+}
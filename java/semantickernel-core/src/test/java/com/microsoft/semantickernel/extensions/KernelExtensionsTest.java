@@ -0,0 +1,133 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.extensions;
+
+import com.microsoft.semantickernel.Kernel;
+import com.microsoft.semantickernel.KernelConfig;
+import com.microsoft.semantickernel.KernelException;
+import com.microsoft.semantickernel.SKBuilders;
+import com.microsoft.semantickernel.orchestration.SKFunction;
+import com.microsoft.semantickernel.semanticfunctions.SemanticFunctionConfig;
+import com.microsoft.semantickernel.skilldefinition.ParameterView;
+import com.microsoft.semantickernel.templateengine.blocks.Block;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class KernelExtensionsTest {
+
+    @Test
+    public void allFunctionsOfADirectoryAreLoaded() throws IOException {
+        Path skills = Files.createTempDirectory("skills");
+        for (int i = 0; i < 50; i++) {
+            writeFunction(skills, "Library", "fn" + i, "Prompt {{$input}} number " + i);
+        }
+        Files.createDirectories(skills.resolve("Library").resolve("notAFunction"));
+
+        Map<String, SemanticFunctionConfig> functions =
+                KernelExtensions.importSemanticSkillFromDirectory(
+                        skills.toString(),
+                        "Library",
+                        SKBuilders.kernel().build().getPromptTemplateEngine());
+
+        Assertions.assertEquals(50, functions.size());
+        Assertions.assertEquals(
+                "Function fn7", functions.get("fn7").getConfig().getDescription());
+    }
+
+    @Test
+    public void lazyPromptsAreReadOnFirstUse() throws IOException {
+        Path skills = Files.createTempDirectory("skills");
+        Path prompt = writeFunction(skills, "Lazy", "greet", "Hello {{$name}}");
+
+        KernelConfig config = SKBuilders.kernelConfig().withLazyPromptLoading(true).build();
+        Kernel kernel = SKBuilders.kernel().withConfiguration(config).build();
+        kernel.importSkillFromDirectory("Lazy", skills.toString());
+
+        Files.write(prompt, "Hello {{$firstName}}".getBytes(StandardCharsets.UTF_8));
+
+        SKFunction<?> greet = kernel.getFunction("Lazy", "greet");
+        Assertions.assertEquals("Function greet", greet.getDescription());
+        Assertions.assertEquals(
+                "firstName",
+                greet.describe().getParameters().stream()
+                        .map(ParameterView::getName)
+                        .collect(Collectors.joining(",")));
+    }
+
+    @Test
+    public void missingLazyPromptIsReportedOnFirstUse() throws IOException {
+        Path skills = Files.createTempDirectory("skills");
+        Path prompt = writeFunction(skills, "Lazy", "greet", "Hello {{$name}}");
+
+        KernelConfig config = SKBuilders.kernelConfig().withLazyPromptLoading(true).build();
+        Kernel kernel = SKBuilders.kernel().withConfiguration(config).build();
+        kernel.importSkillFromDirectory("Lazy", skills.toString());
+
+        Files.delete(prompt);
+
+        SKFunction<?> greet = kernel.getFunction("Lazy", "greet");
+        Assertions.assertThrows(KernelException.class, greet::describe);
+    }
+
+    @Test
+    public void changedFunctionIsReloadedAlone() throws Exception {
+        Path skills = Files.createTempDirectory("skills");
+        Path prompt = writeFunction(skills, "Watched", "greet", "Hello {{$name}}");
+        writeFunction(skills, "Watched", "other", "Bye {{$name}}");
+
+        Kernel kernel = SKBuilders.kernel().build();
+        try (Closeable watch =
+                kernel.watchSkillDirectory(
+                        "Watched", skills.toString(), "Watched", Duration.ofMillis(50))) {
+            SKFunction<?> before = kernel.getFunction("Watched", "greet");
+            SKFunction<?> other = kernel.getFunction("Watched", "other");
+            List<Block> compiled =
+                    kernel.getPromptTemplateEngine().extractBlocks("Hello {{$name}}");
+
+            Files.write(prompt, "Hello {{$firstName}}".getBytes(StandardCharsets.UTF_8));
+
+            long timeout = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (kernel.getFunction("Watched", "greet") == before
+                    && System.nanoTime() < timeout) {
+                Thread.sleep(20);
+            }
+
+            SKFunction<?> after = kernel.getFunction("Watched", "greet");
+            Assertions.assertNotSame(before, after);
+            Assertions.assertEquals("firstName", parameters(after));
+            Assertions.assertEquals("name", parameters(before));
+            Assertions.assertSame(other, kernel.getFunction("Watched", "other"));
+
+            // The text of the previous version is no longer cached by the engine
+            Assertions.assertNotSame(
+                    compiled, kernel.getPromptTemplateEngine().extractBlocks("Hello {{$name}}"));
+        }
+    }
+
+    private static String parameters(SKFunction<?> function) {
+        return function.describe().getParameters().stream()
+                .map(ParameterView::getName)
+                .collect(Collectors.joining(","));
+    }
+
+    private static Path writeFunction(Path skills, String skill, String function, String prompt)
+            throws IOException {
+        Path dir = Files.createDirectories(skills.resolve(skill).resolve(function));
+        Files.write(
+                dir.resolve("config.json"),
+                ("{\"schema\": 1, \"type\": \"completion\", \"description\": \"Function "
+                                + function
+                                + "\"}")
+                        .getBytes(StandardCharsets.UTF_8));
+        return Files.write(dir.resolve("skprompt.txt"), prompt.getBytes(StandardCharsets.UTF_8));
+    }
+}
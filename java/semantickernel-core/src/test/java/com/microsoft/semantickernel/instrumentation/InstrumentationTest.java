@@ -0,0 +1,97 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.instrumentation;
+
+import com.microsoft.semantickernel.Kernel;
+import com.microsoft.semantickernel.SKBuilders;
+import com.microsoft.semantickernel.instrumentation.InstrumentationEvent.Kind;
+import com.microsoft.semantickernel.textcompletion.CompletionSKFunction;
+import com.microsoft.semantickernel.textcompletion.CompletionType;
+import com.microsoft.semantickernel.textcompletion.TextCompletion;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+
+public class InstrumentationTest {
+
+    @Test
+    public void operationsAreReturnedAsIsWithoutListeners() {
+        Mono<String> operation = Mono.just("result");
+
+        Assertions.assertFalse(Instrumentation.isEnabled());
+        Assertions.assertSame(
+                operation, Instrumentation.observe(Kind.FUNCTION, "skill.function", operation));
+    }
+
+    @Test
+    public void functionsAndRenderingAreTimed() {
+        List<InstrumentationEvent> events = new CopyOnWriteArrayList<>();
+        InstrumentationListener listener = events::add;
+        Instrumentation.addListener(listener);
+        try {
+            TextCompletion service = Mockito.mock(TextCompletion.class);
+            Mockito.when(service.defaultCompletionType()).thenReturn(CompletionType.NON_STREAMING);
+            Mockito.when(service.completeAsync(Mockito.any(), Mockito.any()))
+                    .thenReturn(
+                            Mono.delay(Duration.ofMillis(50))
+                                    .thenReturn(Collections.singletonList("done")));
+            Kernel kernel =
+                    SKBuilders.kernel()
+                            .withDefaultAIService(service, TextCompletion.class)
+                            .build();
+            CompletionSKFunction function =
+                    kernel.getSemanticFunctionBuilder()
+                            .withPromptTemplate("{{$input}}")
+                            .withSkillName("test")
+                            .withFunctionName("echo")
+                            .build();
+
+            kernel.runAsync("hello", function).block();
+
+            InstrumentationEvent render = find(events, Kind.TEMPLATE_RENDER);
+            Assertions.assertEquals("test.echo", render.getName());
+            Assertions.assertTrue(render.isSuccess());
+
+            InstrumentationEvent invocation = find(events, Kind.FUNCTION);
+            Assertions.assertEquals("test.echo", invocation.getName());
+            Assertions.assertTrue(invocation.getDuration().toMillis() >= 50, invocation.toString());
+        } finally {
+            Instrumentation.removeListener(listener);
+        }
+        Assertions.assertFalse(Instrumentation.isEnabled());
+    }
+
+    @Test
+    public void errorsAreReported() {
+        List<InstrumentationEvent> events = new CopyOnWriteArrayList<>();
+        InstrumentationListener listener = events::add;
+        Instrumentation.addListener(listener);
+        try {
+            Mono<String> failing =
+                    Instrumentation.observe(
+                            Kind.FUNCTION,
+                            "skill.function",
+                            Mono.error(new IllegalStateException("failed")));
+
+            Assertions.assertThrows(IllegalStateException.class, failing::block);
+        } finally {
+            Instrumentation.removeListener(listener);
+        }
+
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals(
+                IllegalStateException.class.getName(), events.get(0).getErrorType());
+        Assertions.assertFalse(events.get(0).isSuccess());
+    }
+
+    private static InstrumentationEvent find(List<InstrumentationEvent> events, Kind kind) {
+        return events.stream()
+                .filter(event -> event.getKind() == kind)
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + kind + " event in " + events));
+    }
+}
@@ -0,0 +1,84 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.memory;
+
+import com.microsoft.semantickernel.ai.embeddings.Embedding;
+import com.microsoft.semantickernel.instrumentation.Instrumentation;
+import com.microsoft.semantickernel.instrumentation.InstrumentationEvent;
+import com.microsoft.semantickernel.instrumentation.InstrumentationEvent.Kind;
+import com.microsoft.semantickernel.instrumentation.InstrumentationListener;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+
+class InstrumentedMemoryStoreTests {
+
+    private final List<InstrumentationEvent> events = new CopyOnWriteArrayList<>();
+    private final InstrumentationListener listener = events::add;
+
+    @BeforeEach
+    void setUp() {
+        Instrumentation.addListener(listener);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Instrumentation.removeListener(listener);
+    }
+
+    @Test
+    void operationsAreReportedByCollection() {
+        MemoryStore store = InstrumentedMemoryStore.wrap(new VolatileMemoryStore());
+        MemoryRecord record =
+                MemoryRecord.localRecord(
+                        "id",
+                        "text",
+                        "description",
+                        new Embedding(Arrays.asList(1f, 1f, 1f)),
+                        null,
+                        null,
+                        null);
+
+        store.createCollectionAsync("notes").block();
+        store.upsertAsync("notes", record).block();
+        Assertions.assertNotNull(store.getAsync("notes", "id", false).block());
+        store.getCollectionsAsync().block();
+
+        Assertions.assertEquals(4, events.size());
+        Assertions.assertEquals("notes.createCollection", events.get(0).getName());
+        Assertions.assertEquals("notes.upsert", events.get(1).getName());
+        Assertions.assertEquals("notes.get", events.get(2).getName());
+        Assertions.assertEquals("getCollections", events.get(3).getName());
+        for (InstrumentationEvent event : events) {
+            Assertions.assertEquals(Kind.MEMORY, event.getKind());
+            Assertions.assertTrue(event.isSuccess(), event.toString());
+        }
+    }
+
+    @Test
+    void failuresAreReported() {
+        MemoryStore failing = Mockito.mock(MemoryStore.class);
+        Mockito.when(failing.removeAsync("notes", "id"))
+                .thenReturn(Mono.error(new IllegalStateException("failed")));
+        MemoryStore store = InstrumentedMemoryStore.wrap(failing);
+
+        Assertions.assertThrows(
+                IllegalStateException.class, () -> store.removeAsync("notes", "id").block());
+
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals("notes.remove", events.get(0).getName());
+        Assertions.assertEquals(
+                IllegalStateException.class.getName(), events.get(0).getErrorType());
+    }
+
+    @Test
+    void storesAreWrappedOnce() {
+        MemoryStore store = InstrumentedMemoryStore.wrap(new VolatileMemoryStore());
+        Assertions.assertSame(store, InstrumentedMemoryStore.wrap(store));
+    }
+}
@@ -0,0 +1,104 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.orchestration;
+
+import com.microsoft.semantickernel.Kernel;
+import com.microsoft.semantickernel.SKBuilders;
+import com.microsoft.semantickernel.skilldefinition.ReadOnlyFunctionCollection;
+import com.microsoft.semantickernel.skilldefinition.annotations.DefineSKFunction;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class DeadlineTest {
+
+    public static class SlowSkill {
+        private final AtomicInteger started = new AtomicInteger();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        @DefineSKFunction(name = "slow")
+        public Mono<String> slow(String input) {
+            started.incrementAndGet();
+            return Mono.delay(Duration.ofSeconds(10))
+                    .map(it -> input)
+                    .doOnCancel(() -> cancelled.set(true));
+        }
+
+        @DefineSKFunction(name = "budget")
+        public String budget(String input, @Nullable Deadline deadline) {
+            return deadline == null ? "none" : String.valueOf(deadline.getTimeout().toMillis());
+        }
+    }
+
+    @Test
+    public void slowFunctionIsCancelledAtTheDeadline() {
+        SlowSkill skill = new SlowSkill();
+        Kernel kernel = SKBuilders.kernel().build();
+        ReadOnlyFunctionCollection functions = kernel.importSkill(skill, "test");
+
+        Mono<SKContext> invocation =
+                Deadline.within(
+                        Duration.ofMillis(50), functions.getFunction("slow").invokeAsync("a"));
+
+        DeadlineExceededException e =
+                Assertions.assertThrows(DeadlineExceededException.class, invocation::block);
+        Assertions.assertEquals("test.slow", e.getOperation());
+        Assertions.assertEquals(1, skill.started.get());
+        Assertions.assertTrue(skill.cancelled.get());
+    }
+
+    @Test
+    public void expiredDeadlineDoesNotStartTheFunction() {
+        SlowSkill skill = new SlowSkill();
+        Kernel kernel = SKBuilders.kernel().build();
+        ReadOnlyFunctionCollection functions = kernel.importSkill(skill, "test");
+
+        Mono<SKContext> pipeline =
+                Deadline.within(
+                        Duration.ZERO, kernel.runAsync("a", functions.getFunction("slow")));
+
+        Assertions.assertThrows(DeadlineExceededException.class, pipeline::block);
+        Assertions.assertEquals(0, skill.started.get());
+    }
+
+    @Test
+    public void nativeFunctionsCanReadTheirBudget() {
+        Kernel kernel = SKBuilders.kernel().build();
+        ReadOnlyFunctionCollection functions = kernel.importSkill(new SlowSkill(), "test");
+        SKFunction<?> budget = functions.getFunction("budget");
+
+        Assertions.assertEquals("none", budget.invokeAsync("a").block().getResult());
+        Assertions.assertEquals(
+                "5000",
+                Deadline.within(Duration.ofSeconds(5), budget.invokeAsync("a"))
+                        .block()
+                        .getResult());
+    }
+
+    @Test
+    public void earlierDeadlineOfTheCallerIsKept() {
+        Mono<Duration> timeout =
+                Deadline.within(
+                        Duration.ofSeconds(1),
+                        Deadline.within(
+                                Duration.ofSeconds(5),
+                                Deadline.current().map(Deadline::getTimeout)));
+
+        Assertions.assertEquals(Duration.ofSeconds(1), timeout.block());
+        Assertions.assertNull(Deadline.current().block());
+    }
+
+    @Test
+    public void deadlineCoversTheWholeStream() {
+        Flux<Long> stream =
+                Deadline.withinMany(
+                        Duration.ofMillis(100),
+                        Deadline.enforceMany("stream", Flux.interval(Duration.ofMillis(20))));
+
+        Assertions.assertThrows(DeadlineExceededException.class, stream::blockLast);
+    }
+}
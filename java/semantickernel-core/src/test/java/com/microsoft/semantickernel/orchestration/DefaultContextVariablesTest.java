@@ -0,0 +1,81 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.orchestration;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DefaultContextVariablesTest {
+
+    @Test
+    public void clonesAreIsolated() {
+        WritableContextVariables original =
+                new DefaultContextVariables(Collections.singletonMap("Name", "Ada"));
+        WritableContextVariables clone = original.writableClone();
+
+        clone.setVariable("name", "Alan");
+        original.setVariable("day", "monday");
+
+        Assertions.assertEquals("Ada", original.get("NAME"));
+        Assertions.assertEquals("Alan", clone.get("name"));
+        Assertions.assertEquals("monday", original.get("day"));
+        Assertions.assertNull(clone.get("day"));
+    }
+
+    @Test
+    public void removedVariablesAreHiddenFromClones() {
+        WritableContextVariables original =
+                new DefaultContextVariables(Collections.singletonMap("name", "Ada"));
+        WritableContextVariables clone = original.writableClone();
+
+        clone.remove("Name");
+
+        Assertions.assertNull(clone.get("name"));
+        Assertions.assertFalse(clone.asMap().containsKey("name"));
+        Assertions.assertTrue(clone.asMap().isEmpty());
+        Assertions.assertEquals("Ada", original.get("name"));
+
+        clone.setVariable("name", "Alan");
+        Assertions.assertEquals("Alan", clone.asMap().get("NAME"));
+    }
+
+    @Test
+    public void deepCloneChainsKeepEveryVariable() {
+        WritableContextVariables variables = new DefaultContextVariables("start");
+        for (int i = 0; i < 50; i++) {
+            variables = variables.writableClone();
+            variables.setVariable("step" + i, String.valueOf(i));
+            variables.update("input" + i);
+        }
+
+        Assertions.assertEquals("input49", variables.getInput());
+        Assertions.assertEquals(51, variables.asMap().size());
+        for (int i = 0; i < 50; i++) {
+            Assertions.assertEquals(String.valueOf(i), variables.get("STEP" + i));
+        }
+    }
+
+    @Test
+    public void mapViewReadsEveryLayer() {
+        WritableContextVariables original = new DefaultContextVariables("start");
+        original.setVariable("name", "Ada");
+        original.setVariable("day", "monday");
+        WritableContextVariables clone = original.writableClone();
+        clone.setVariable("Name", "Alan");
+        clone.remove("day");
+        clone.setVariable("city", "Paris");
+
+        Map<String, String> expected = new HashMap<>();
+        expected.put(ContextVariables.MAIN_KEY, "start");
+        expected.put("name", "Alan");
+        expected.put("city", "Paris");
+        Assertions.assertEquals(expected, new HashMap<>(clone.asMap()));
+        Assertions.assertEquals(3, clone.asMap().size());
+
+        WritableContextVariables target = new DefaultContextVariables("other");
+        target.update(clone, true);
+        Assertions.assertEquals(expected, new HashMap<>(target.asMap()));
+    }
+}
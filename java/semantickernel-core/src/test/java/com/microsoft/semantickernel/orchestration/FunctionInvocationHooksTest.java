@@ -0,0 +1,173 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.orchestration;
+
+import com.microsoft.semantickernel.Kernel;
+import com.microsoft.semantickernel.SKBuilders;
+import com.microsoft.semantickernel.orchestration.hooks.FunctionInvocationHook;
+import com.microsoft.semantickernel.orchestration.hooks.FunctionInvocationHooks;
+import com.microsoft.semantickernel.orchestration.hooks.FunctionStats;
+import com.microsoft.semantickernel.orchestration.hooks.LatencyRecorder;
+import com.microsoft.semantickernel.skilldefinition.ReadOnlyFunctionCollection;
+import com.microsoft.semantickernel.skilldefinition.annotations.DefineSKFunction;
+import com.microsoft.semantickernel.textcompletion.CompletionSKFunction;
+import com.microsoft.semantickernel.textcompletion.TextCompletion;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class FunctionInvocationHooksTest {
+
+    public static class EchoSkill {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @DefineSKFunction(name = "echo")
+        public String echo(String input) {
+            calls.incrementAndGet();
+            return input;
+        }
+
+        @DefineSKFunction(name = "fail")
+        public String fail(String input) {
+            throw new IllegalStateException(input);
+        }
+    }
+
+    @Test
+    public void invocationsAreRecorded() {
+        Kernel kernel = SKBuilders.kernel().build();
+        ReadOnlyFunctionCollection functions = kernel.importSkill(new EchoSkill(), "test");
+
+        functions.getFunction("echo").invokeAsync("a").block();
+        functions.getFunction("echo").invokeAsync("b").block();
+        Assertions.assertThrows(
+                RuntimeException.class,
+                () -> functions.getFunction("fail").invokeAsync("c").block());
+
+        FunctionInvocationHooks hooks = kernel.getInvocationHooks();
+        FunctionStats echo = hooks.getStats("test", "echo");
+        Assertions.assertNotNull(echo);
+        Assertions.assertEquals(2, echo.getCount());
+        Assertions.assertEquals(0, echo.getErrors());
+
+        FunctionStats fail = hooks.getStats("test", "fail");
+        Assertions.assertNotNull(fail);
+        Assertions.assertEquals(1, fail.getCount());
+        Assertions.assertEquals(1.0, fail.getErrorRate());
+
+        Assertions.assertEquals(2, hooks.getStats().size());
+        hooks.resetStats();
+        Assertions.assertNull(hooks.getStats("test", "echo"));
+    }
+
+    @Test
+    public void hookCanAnswerWithoutInvokingTheFunction() {
+        EchoSkill skill = new EchoSkill();
+        Kernel kernel = SKBuilders.kernel().build();
+        ReadOnlyFunctionCollection functions = kernel.importSkill(skill, "test");
+
+        FunctionInvocationHook cache =
+                (function, context, next) ->
+                        "cached".equals(context.getResult())
+                                ? Mono.just(context.update("from cache"))
+                                : next.apply(context);
+        kernel.getInvocationHooks().addHook(cache);
+
+        SKContext result = functions.getFunction("echo").invokeAsync("cached").block();
+        Assertions.assertEquals("from cache", result.getResult());
+        Assertions.assertEquals(0, skill.calls.get());
+
+        result = functions.getFunction("echo").invokeAsync("other").block();
+        Assertions.assertEquals("other", result.getResult());
+        Assertions.assertEquals(1, skill.calls.get());
+
+        kernel.getInvocationHooks().removeHook(cache);
+        functions.getFunction("echo").invokeAsync("cached").block();
+        Assertions.assertEquals(2, skill.calls.get());
+    }
+
+    @Test
+    public void hooksCanChangeTheContextAndTheResult() {
+        Kernel kernel = SKBuilders.kernel().build();
+        ReadOnlyFunctionCollection functions = kernel.importSkill(new EchoSkill(), "test");
+
+        kernel.getInvocationHooks()
+                .addHook(
+                        FunctionInvocationHook.before(
+                                (function, context) -> context.update("[" + context.getResult())));
+        kernel.getInvocationHooks()
+                .addHook(
+                        FunctionInvocationHook.after(
+                                (function, context) -> context.update(context.getResult() + "]")));
+
+        SKContext result = functions.getFunction("echo").invokeAsync("a").block();
+        Assertions.assertEquals("[a]", result.getResult());
+    }
+
+    @Test
+    public void streamedInvocationsGoThroughTheHooks() {
+        TextCompletion service = Mockito.mock(TextCompletion.class);
+        Mockito.when(service.completeStreamDeltasAsync(Mockito.any(), Mockito.any()))
+                .thenAnswer(invocation -> Flux.just(invocation.getArgument(0, String.class), "!"));
+        Kernel kernel =
+                SKBuilders.kernel().withDefaultAIService(service, TextCompletion.class).build();
+        CompletionSKFunction function =
+                kernel.getSemanticFunctionBuilder()
+                        .withKernel(kernel)
+                        .withPromptTemplate("{{$input}}")
+                        .withFunctionName("shout")
+                        .build();
+
+        kernel.getInvocationHooks()
+                .addHook(
+                        (fn, context, next) ->
+                                "cached".equals(context.getResult())
+                                        ? Mono.just(context.update("from cache"))
+                                        : next.apply(context.update(context.getResult() + "?")));
+
+        Assertions.assertEquals(
+                Arrays.asList("hey?", "!"),
+                function.invokeStreamingAsync(input(kernel, "hey"), null).collectList().block());
+        Assertions.assertEquals(
+                Arrays.asList("from cache"),
+                function.invokeStreamingAsync(input(kernel, "cached"), null)
+                        .collectList()
+                        .block());
+        Mockito.verify(service, Mockito.times(1))
+                .completeStreamDeltasAsync(Mockito.any(), Mockito.any());
+
+        FunctionStats stats =
+                kernel.getInvocationHooks().getStats(function.getSkillName(), "shout");
+        Assertions.assertNotNull(stats);
+        Assertions.assertEquals(2, stats.getCount());
+    }
+
+    private static SKContext input(Kernel kernel, String input) {
+        return SKBuilders.context().withKernel(kernel).build().update(input);
+    }
+
+    @Test
+    public void percentilesAreWithinTheResolutionOfTheRecorder() {
+        LatencyRecorder recorder = new LatencyRecorder("test.fn");
+        for (int i = 1; i <= 1000; i++) {
+            recorder.record(Duration.ofMillis(i), false);
+        }
+
+        FunctionStats stats = recorder.getStats();
+        Assertions.assertEquals(1000, stats.getCount());
+        assertClose(500, stats.getP50().toMillis());
+        assertClose(950, stats.getP95().toMillis());
+        assertClose(990, stats.getP99().toMillis());
+        Assertions.assertEquals(1000, stats.getMax().toMillis());
+    }
+
+    private static void assertClose(long expected, long actual) {
+        Assertions.assertTrue(
+                Math.abs(expected - actual) <= expected / 50,
+                "expected " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,107 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.orchestration;
+
+import com.microsoft.semantickernel.Kernel;
+import com.microsoft.semantickernel.SKBuilders;
+import com.microsoft.semantickernel.skilldefinition.annotations.DefineSKFunction;
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * Compares the invocation plan of a native function with calling the same method through {@link
+ * Method#invoke}, the way native functions used to be invoked. The skill returns a Mono so that
+ * neither side hops to the native function scheduler, and both resolve the argument and update
+ * the context the same way, leaving the call itself:
+ *
+ * <pre>
+ * java -cp ... com.microsoft.semantickernel.orchestration.NativeInvocationBenchmark
+ * </pre>
+ */
+public class NativeInvocationBenchmark {
+
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+    private static final int ROUNDS = 6;
+
+    public static class EchoSkill {
+        @DefineSKFunction(name = "echo")
+        public Mono<String> echo(String input) {
+            return Mono.just(input);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        EchoSkill skill = new EchoSkill();
+        Kernel kernel = SKBuilders.kernel().build();
+        NativeSKFunction function =
+                (NativeSKFunction) kernel.importSkill(skill, "bench").getFunction("echo");
+        Method method = EchoSkill.class.getMethod("echo", String.class);
+        SKContext context = SKBuilders.context().build().update("ok");
+
+        Supplier<Mono<SKContext>> plan = () -> function.invokeAsyncInternal(context, null);
+        // Does the same work around the call as the plan: reads the deadline, copies the context,
+        // resolves the argument from its variable or the input and updates the context with the
+        // result
+        String variableName = method.getParameters()[0].getName();
+        Supplier<Mono<SKContext>> reflection =
+                () ->
+                        Mono.deferContextual(
+                                reactorContext -> {
+                                    Deadline.from(reactorContext);
+                                    SKContext copy = context.copy();
+                                    String argument = copy.getVariables().get(variableName);
+                                    if (argument == null) {
+                                        argument = copy.getVariables().getInput();
+                                    }
+                                    try {
+                                        Object[] arguments = {argument};
+                                        return ((Mono<?>) method.invoke(skill, arguments))
+                                                .map(it -> copy.update((String) it));
+                                    } catch (ReflectiveOperationException e) {
+                                        return Mono.error(e);
+                                    }
+                                });
+
+        // Whichever runs first in a round pays for the garbage of the other, so alternate the
+        // order and keep the best round of each
+        long planBest = Long.MAX_VALUE;
+        long reflectionBest = Long.MAX_VALUE;
+        for (int round = 1; round <= ROUNDS; round++) {
+            long planTime;
+            long reflectionTime;
+            if (round % 2 == 0) {
+                planTime = measure(plan);
+                reflectionTime = measure(reflection);
+            } else {
+                reflectionTime = measure(reflection);
+                planTime = measure(plan);
+            }
+            System.out.printf(
+                    "round %d: plan %d ns/op, Method.invoke %d ns/op%n",
+                    round, planTime, reflectionTime);
+            planBest = Math.min(planBest, planTime);
+            reflectionBest = Math.min(reflectionBest, reflectionTime);
+        }
+        System.out.printf(
+                "best: plan %d ns/op, Method.invoke %d ns/op%n", planBest, reflectionBest);
+    }
+
+    private static long measure(Supplier<Mono<SKContext>> invocation) {
+        for (int i = 0; i < WARMUP; i++) {
+            invocation.get().block();
+        }
+
+        long start = System.nanoTime();
+        int length = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            length += invocation.get().block().getResult().length();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (length != 2 * ITERATIONS) {
+            throw new IllegalStateException("Unexpected results");
+        }
+        return elapsed / ITERATIONS;
+    }
+}
@@ -1,12 +1,15 @@
 // Copyright (c) Microsoft. All rights reserved.
 package com.microsoft.semantickernel.orchestration;
 
+import com.microsoft.semantickernel.Kernel;
+import com.microsoft.semantickernel.KernelConfig;
 import com.microsoft.semantickernel.SKBuilders;
 import com.microsoft.semantickernel.ai.AIException;
 import com.microsoft.semantickernel.coreskills.SkillImporter;
 import com.microsoft.semantickernel.skilldefinition.DefaultSkillCollection;
 import com.microsoft.semantickernel.skilldefinition.FunctionCollection;
 import com.microsoft.semantickernel.skilldefinition.FunctionNotFound;
+import com.microsoft.semantickernel.skilldefinition.ReadOnlyFunctionCollection;
 import com.microsoft.semantickernel.skilldefinition.annotations.DefineSKFunction;
 import com.microsoft.semantickernel.skilldefinition.annotations.SKFunctionInputAttribute;
 import com.microsoft.semantickernel.skilldefinition.annotations.SKFunctionParameters;
@@ -15,6 +18,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 public class NativeSKFunctionTest {
 
@@ -147,4 +152,89 @@ public class NativeSKFunctionTest {
         SKContext result = skills.getFunction("doSomething").invokeAsync("foo").block();
         Assertions.assertEquals("A-RESULT", Objects.requireNonNull(result).getResult());
     }
+
+    @Test
+    public void primitiveArgumentsAreConverted() {
+        class WithPrimitives {
+            @DefineSKFunction
+            public String repeat(
+                    @SKFunctionInputAttribute(description = "") String text,
+                    @SKFunctionParameters(name = "count", type = int.class) int count) {
+                StringBuilder result = new StringBuilder();
+                for (int i = 0; i < count; i++) {
+                    result.append(text);
+                }
+                return result.toString();
+            }
+        }
+
+        FunctionCollection skills =
+                SkillImporter.importSkill(new WithPrimitives(), "test", DefaultSkillCollection::new);
+        ContextVariables variables =
+                SKBuilders.variables().build().writableClone().appendToVariable("input", "ab");
+        ContextVariables three = variables.writableClone().appendToVariable("count", "3");
+        SKContext result =
+                skills.getFunction("repeat").invokeWithCustomInputAsync(three, null, null).block();
+        Assertions.assertEquals("ababab", Objects.requireNonNull(result).getResult());
+
+        // The invocation plan is reused by every call
+        ContextVariables one = variables.writableClone().appendToVariable("count", "1");
+        result = skills.getFunction("repeat").invokeWithCustomInputAsync(one, null, null).block();
+        Assertions.assertEquals("ab", Objects.requireNonNull(result).getResult());
+    }
+
+    @Test
+    public void exceptionsAreWrapped() {
+        class Throwing {
+            @DefineSKFunction
+            public String fail() {
+                throw new IllegalStateException("failed");
+            }
+        }
+
+        FunctionCollection skills =
+                SkillImporter.importSkill(new Throwing(), "test", DefaultSkillCollection::new);
+        AIException e =
+                Assertions.assertThrows(
+                        AIException.class,
+                        () -> skills.getFunction("fail").invokeAsync("foo").block());
+        Assertions.assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    @Test
+    public void blockingFunctionsRunOnConfiguredScheduler() {
+        class ThreadName {
+            @DefineSKFunction
+            public String threadName() {
+                return Thread.currentThread().getName();
+            }
+        }
+
+        Scheduler kernelScheduler = Schedulers.newSingle("kernel-native");
+        Scheduler skillScheduler = Schedulers.newSingle("skill-native");
+        try {
+            Kernel kernel =
+                    SKBuilders.kernel()
+                            .withConfiguration(
+                                    new KernelConfig.Builder()
+                                            .withNativeFunctionScheduler(kernelScheduler)
+                                            .withSkillScheduler("Blocking", skillScheduler)
+                                            .build())
+                            .build();
+            ReadOnlyFunctionCollection blockingSkill =
+                    kernel.importSkill(new ThreadName(), "blocking");
+            ReadOnlyFunctionCollection otherSkill = kernel.importSkill(new ThreadName(), "other");
+
+            SKContext blocking = blockingSkill.getFunction("threadName").invokeAsync("").block();
+            SKContext other = otherSkill.getFunction("threadName").invokeAsync("").block();
+
+            Assertions.assertTrue(
+                    Objects.requireNonNull(blocking).getResult().startsWith("skill-native"));
+            Assertions.assertTrue(
+                    Objects.requireNonNull(other).getResult().startsWith("kernel-native"));
+        } finally {
+            kernelScheduler.dispose();
+            skillScheduler.dispose();
+        }
+    }
 }
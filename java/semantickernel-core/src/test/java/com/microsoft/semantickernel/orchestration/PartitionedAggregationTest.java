@@ -0,0 +1,105 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.orchestration;
+
+import com.microsoft.semantickernel.Kernel;
+import com.microsoft.semantickernel.SKBuilders;
+import com.microsoft.semantickernel.textcompletion.CompletionSKFunction;
+import com.microsoft.semantickernel.textcompletion.CompletionType;
+import com.microsoft.semantickernel.textcompletion.TextCompletion;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+public class PartitionedAggregationTest {
+
+    private static final List<String> PARTITIONS =
+            Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h");
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    @Test
+    public void partitionsAreCompletedConcurrentlyInOrder() {
+        CompletionSKFunction function =
+                function(service(prompt -> prompt.toUpperCase(Locale.ROOT), Duration.ofSeconds(1)));
+
+        StepVerifier.withVirtualTime(
+                        () ->
+                                function.aggregatePartitionedResultsAsync(PARTITIONS, null, 4)
+                                        .map(SKContext::getResult))
+                .thenAwait(Duration.ofSeconds(2))
+                .expectNext("A\nB\nC\nD\nE\nF\nG\nH")
+                .verifyComplete();
+
+        Assertions.assertEquals(8, requests.get());
+        Assertions.assertEquals(4, peakInFlight.get());
+    }
+
+    @Test
+    public void joinedResultsAreReducedToTheTokenBudget() {
+        String summary = String.join("", Collections.nCopies(40, "x"));
+        CompletionSKFunction function = function(service(prompt -> summary, Duration.ZERO));
+
+        // Each result is 10 tokens, so 8 results are reduced to 4 and then 2 to fit in 25 tokens
+        String result =
+                function.aggregatePartitionedResultsAsync(PARTITIONS, null, 4, 25)
+                        .block()
+                        .getResult();
+
+        Assertions.assertEquals(summary + "\n" + summary, result);
+        Assertions.assertEquals(8 + 4 + 2, requests.get());
+    }
+
+    @Test
+    public void resultsThatCannotBeMergedAreKept() {
+        String summary = String.join("", Collections.nCopies(80, "x"));
+        CompletionSKFunction function = function(service(prompt -> summary, Duration.ZERO));
+
+        String result =
+                function.aggregatePartitionedResultsAsync(PARTITIONS.subList(0, 3), null, 2, 25)
+                        .block()
+                        .getResult();
+
+        Assertions.assertEquals(summary + "\n" + summary + "\n" + summary, result);
+        Assertions.assertEquals(3, requests.get());
+    }
+
+    // Completes each prompt after the latency, counting the requests in flight
+    private TextCompletion service(Function<String, String> responder, Duration latency) {
+        TextCompletion service = Mockito.mock(TextCompletion.class);
+        Mockito.when(service.defaultCompletionType()).thenReturn(CompletionType.NON_STREAMING);
+        Mockito.when(service.completeAsync(Mockito.any(), Mockito.any()))
+                .thenAnswer(
+                        invocation -> {
+                            String prompt = invocation.getArgument(0);
+                            return Mono.delay(latency)
+                                    .map(it -> Collections.singletonList(responder.apply(prompt)))
+                                    .doOnSubscribe(
+                                            it -> {
+                                                requests.incrementAndGet();
+                                                peakInFlight.accumulateAndGet(
+                                                        inFlight.incrementAndGet(), Math::max);
+                                            })
+                                    // Before the result is passed on and the next request
+                                    // is started
+                                    .doOnSuccess(it -> inFlight.decrementAndGet());
+                        });
+        return service;
+    }
+
+    private static CompletionSKFunction function(TextCompletion service) {
+        Kernel kernel =
+                SKBuilders.kernel().withDefaultAIService(service, TextCompletion.class).build();
+        return kernel.getSemanticFunctionBuilder().withPromptTemplate("{{$input}}").build();
+    }
+}
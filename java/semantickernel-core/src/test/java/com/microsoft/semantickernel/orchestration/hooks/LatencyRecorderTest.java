@@ -0,0 +1,42 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.orchestration.hooks;
+
+import java.time.Duration;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LatencyRecorderTest {
+
+    @Test
+    public void percentilesAreWithinTheBucketPrecision() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            // Latencies from 1us to about 17 minutes, evenly spread over the orders of magnitude
+            long micros = (long) Math.pow(2, random.nextDouble() * 30);
+
+            // The larger latency keeps the maximum from clamping the median
+            LatencyRecorder recorder = new LatencyRecorder("test");
+            recorder.record(Duration.ofNanos(micros * 1000), false);
+            recorder.record(Duration.ofHours(1), false);
+
+            long reported = recorder.getPercentile(50).toNanos() / 1000;
+            Assertions.assertTrue(reported >= micros, micros + "us reported as " + reported);
+            Assertions.assertTrue(
+                    reported - micros <= micros / 64, micros + "us reported as " + reported);
+        }
+    }
+
+    @Test
+    public void smallLatenciesAreExact() {
+        LatencyRecorder recorder = new LatencyRecorder("test");
+        for (int micros = 1; micros <= 100; micros++) {
+            recorder.record(Duration.ofNanos(micros * 1000L), micros % 10 == 0);
+        }
+
+        Assertions.assertEquals(Duration.ofNanos(50_000), recorder.getPercentile(50));
+        Assertions.assertEquals(Duration.ofNanos(99_000), recorder.getPercentile(99));
+        Assertions.assertEquals(100, recorder.getStats().getCount());
+        Assertions.assertEquals(10, recorder.getStats().getErrors());
+    }
+}
@@ -0,0 +1,45 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.skilldefinition;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CaseInsensitiveMapTest {
+
+    @Test
+    public void keysAreMatchedIgnoringCase() {
+        CaseInsensitiveMap<String> map = new CaseInsensitiveMap<>();
+        map.put("UserName", "Ada");
+        map.put("Straße", "street");
+
+        Assertions.assertEquals("Ada", map.get("username"));
+        Assertions.assertEquals("Ada", map.get("USERNAME"));
+        Assertions.assertEquals("street", map.get("STRAßE"));
+        Assertions.assertTrue(map.containsKey("userNAME"));
+        // keySet().contains goes through the folding containsKey, compare the stored keys instead
+        Assertions.assertEquals(
+                new HashSet<>(Arrays.asList("username", "straße")), new HashSet<>(map.keySet()));
+
+        Assertions.assertEquals("Ada", map.remove("USERNAME"));
+        Assertions.assertFalse(map.containsKey("username"));
+    }
+
+    @Test
+    public void putAllFoldsKeys() {
+        Map<String, Integer> source = new HashMap<>();
+        source.put("Input", 1);
+        source.put("day", 2);
+        source.put(null, 3);
+
+        CaseInsensitiveMap<Integer> map = new CaseInsensitiveMap<>(source);
+
+        Assertions.assertEquals(3, map.size());
+        Assertions.assertEquals(1, map.get("INPUT"));
+        Assertions.assertEquals(2, map.get("Day"));
+        Assertions.assertEquals(3, map.get(null));
+    }
+}
@@ -0,0 +1,103 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.skilldefinition;
+
+import com.microsoft.semantickernel.Kernel;
+import com.microsoft.semantickernel.SKBuilders;
+import com.microsoft.semantickernel.coreskills.SkillImporter;
+import com.microsoft.semantickernel.skilldefinition.annotations.DefineSKFunction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DefaultSkillCollectionTest {
+
+    public static class GreetingSkill {
+        @DefineSKFunction(name = "hello")
+        public String hello(String input) {
+            return "hello " + input;
+        }
+
+        @DefineSKFunction(name = "bye")
+        public String bye(String input) {
+            return "bye " + input;
+        }
+    }
+
+    @Test
+    public void withFunctionsLeavesTheOriginalUnchanged() {
+        FunctionCollection greetings =
+                SkillImporter.importSkill(
+                        new GreetingSkill(), "greetings", DefaultSkillCollection::new);
+        FunctionCollection farewells =
+                SkillImporter.importSkill(
+                        new GreetingSkill(), "farewells", DefaultSkillCollection::new);
+
+        DefaultSkillCollection first =
+                new DefaultSkillCollection().withFunctions(greetings.getAll());
+        DefaultSkillCollection second = first.withFunctions(farewells.getAll());
+
+        Assertions.assertNull(first.getFunctions("farewells"));
+        Assertions.assertNotNull(second.getFunction("Farewells", "hello", null));
+        Assertions.assertSame(first.getFunctions("greetings"), second.getFunctions("greetings"));
+    }
+
+    @Test
+    public void snapshotsAreNotChangedByLaterImports() {
+        Kernel kernel = SKBuilders.kernel().build();
+        kernel.importSkill(new GreetingSkill(), "first");
+        ReadOnlySkillCollection snapshot = kernel.getSkills();
+
+        kernel.importSkill(new GreetingSkill(), "second");
+
+        Assertions.assertFalse(snapshot.hasFunction("second", "hello"));
+        Assertions.assertTrue(kernel.getSkills().hasFunction("second", "hello"));
+        Assertions.assertTrue(kernel.getSkills().hasFunction("first", "bye"));
+    }
+
+    @Test
+    public void skillsCanBeImportedWhileFunctionsAreResolved() throws Exception {
+        Kernel kernel = SKBuilders.kernel().build();
+        kernel.importSkill(new GreetingSkill(), "base");
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicBoolean importing = new AtomicBoolean(true);
+        try {
+            List<Future<Integer>> readers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                readers.add(
+                        executor.submit(
+                                () -> {
+                                    int resolved = 0;
+                                    do {
+                                        Assertions.assertNotNull(
+                                                kernel.getFunction("base", "hello"));
+                                        resolved++;
+                                    } while (importing.get());
+                                    return resolved;
+                                }));
+            }
+
+            for (int i = 0; i < 200; i++) {
+                kernel.importSkill(new GreetingSkill(), "skill" + i);
+            }
+            importing.set(false);
+
+            for (Future<Integer> reader : readers) {
+                Assertions.assertTrue(reader.get(10, TimeUnit.SECONDS) > 0);
+            }
+        } finally {
+            importing.set(false);
+            executor.shutdownNow();
+        }
+
+        for (int i = 0; i < 200; i++) {
+            Assertions.assertTrue(kernel.getSkills().hasFunction("skill" + i, "bye"));
+        }
+    }
+}
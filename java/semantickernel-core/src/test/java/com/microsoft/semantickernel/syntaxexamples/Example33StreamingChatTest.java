@@ -5,9 +5,14 @@ import static com.microsoft.semantickernel.chatcompletion.ChatHistory.AuthorRole
 
 import com.azure.ai.openai.OpenAIAsyncClient;
 import com.microsoft.semantickernel.DefaultKernelTest;
+import com.microsoft.semantickernel.Kernel;
 import com.microsoft.semantickernel.SKBuilders;
 import com.microsoft.semantickernel.chatcompletion.ChatCompletion;
 import com.microsoft.semantickernel.chatcompletion.ChatHistory;
+import com.microsoft.semantickernel.textcompletion.CompletionSKFunction;
+import com.microsoft.semantickernel.textcompletion.TextCompletion;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.BiFunction;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -61,6 +66,35 @@ public class Example33StreamingChatTest {
         Assertions.assertEquals("Second response", response);
     }
 
+    @Test
+    public void streamingSemanticFunctionDeltasAsync() {
+        OpenAIAsyncClient client =
+                DefaultKernelTest.mockCompletionOpenAIAsyncClientMatch(
+                        Tuples.of(
+                                request -> request.contains("Suggest a book about Greece"),
+                                "The Histories"));
+
+        ChatCompletion<?> chatCompletion =
+                SKBuilders.chatCompletion()
+                        .withOpenAIClient(client)
+                        .withModelId("gpt-35-turbo")
+                        .build();
+
+        Kernel kernel =
+                SKBuilders.kernel()
+                        .withDefaultAIService(chatCompletion, TextCompletion.class)
+                        .build();
+
+        CompletionSKFunction function =
+                kernel.getSemanticFunctionBuilder()
+                        .withPromptTemplate("Suggest a book about {{$input}}")
+                        .build();
+
+        List<String> deltas = kernel.runStreamingAsync("Greece", function).collectList().block();
+
+        Assertions.assertEquals(Arrays.asList("The Hi", "stories"), deltas);
+    }
+
     private static Mono<String> streamMessageOutputAsync(
             ChatCompletion chatGPT, ChatHistory chatHistory, ChatHistory.AuthorRoles authorRole) {
         BiFunction<String, String, String> agg = (o, o2) -> o + o2;
@@ -0,0 +1,237 @@
+// Copyright (c) Microsoft. All rights reserved.
+package com.microsoft.semantickernel.templateengine;
+
+import com.microsoft.semantickernel.Kernel;
+import com.microsoft.semantickernel.SKBuilders;
+import com.microsoft.semantickernel.orchestration.SKContext;
+import com.microsoft.semantickernel.semanticfunctions.PromptTemplate;
+import com.microsoft.semantickernel.semanticfunctions.PromptTemplateConfig;
+import com.microsoft.semantickernel.skilldefinition.ParameterView;
+import com.microsoft.semantickernel.skilldefinition.annotations.DefineSKFunction;
+import com.microsoft.semantickernel.templateengine.blocks.Block;
+import com.microsoft.semantickernel.templateengine.blocks.BlockTypes;
+import com.microsoft.semantickernel.templateengine.blocks.CodeRendering;
+import com.microsoft.semantickernel.templateengine.blocks.TextBlock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+public class DefaultPromptTemplateEngineTest {
+
+    @Test
+    public void blocksAreCompiledOncePerTemplate() {
+        DefaultPromptTemplateEngine engine = new DefaultPromptTemplateEngine();
+
+        List<Block> blocks = engine.extractBlocks("Hello {{$name}}, today is {{$day}}");
+
+        Assertions.assertSame(blocks, engine.extractBlocks("Hello {{$name}}, today is {{$day}}"));
+        Assertions.assertEquals(4, blocks.size());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> blocks.remove(0));
+    }
+
+    @Test
+    public void leastRecentlyUsedTemplatesAreEvicted() {
+        DefaultPromptTemplateEngine engine = new DefaultPromptTemplateEngine();
+        List<Block> first = engine.extractBlocks("template 0 {{$a}}");
+        List<Block> second = engine.extractBlocks("template 1 {{$a}}");
+        for (int i = 2; i < 1024; i++) {
+            engine.extractBlocks("template " + i + " {{$a}}");
+        }
+
+        engine.extractBlocks("template 0 {{$a}}");
+        engine.extractBlocks("template 1024 {{$a}}");
+
+        Assertions.assertSame(first, engine.extractBlocks("template 0 {{$a}}"));
+        Assertions.assertNotSame(second, engine.extractBlocks("template 1 {{$a}}"));
+    }
+
+    @Test
+    public void enginesWithoutBlockRenderingRenderTheTemplateText() {
+        DefaultPromptTemplateEngine delegate = new DefaultPromptTemplateEngine();
+        PromptTemplateEngine textOnly =
+                new PromptTemplateEngine() {
+                    @Override
+                    public Mono<String> renderAsync(String templateText, SKContext context) {
+                        return delegate.renderAsync(templateText, context);
+                    }
+
+                    @Override
+                    public List<Block> extractBlocks(String promptTemplate) {
+                        return delegate.extractBlocks(promptTemplate);
+                    }
+                };
+
+        List<Block> blocks = textOnly.extractBlocks("Hello {{$name}}, {{ $name }}!");
+
+        Assertions.assertEquals(
+                "Hello Ada, Ada!", textOnly.renderAsync(blocks, context("Ada")).block());
+    }
+
+    @Test
+    public void invalidTemplatesAreRejectedOnEveryCall() {
+        DefaultPromptTemplateEngine engine = new DefaultPromptTemplateEngine();
+
+        Assertions.assertThrows(TemplateException.class, () -> engine.extractBlocks("{{ $a $b }}"));
+        Assertions.assertThrows(TemplateException.class, () -> engine.extractBlocks("{{ $a $b }}"));
+    }
+
+    @Test
+    public void compiledTemplateRendersEachContext() {
+        PromptTemplate template =
+                SKBuilders.promptTemplate()
+                        .withPromptTemplateConfig(new PromptTemplateConfig())
+                        .withPromptTemplate("Hello {{$name}}")
+                        .withPromptTemplateEngine(new DefaultPromptTemplateEngine())
+                        .build();
+
+        Assertions.assertEquals("Hello Ada", template.renderAsync(context("Ada")).block());
+        Assertions.assertEquals("Hello Alan", template.renderAsync(context("Alan")).block());
+        Assertions.assertEquals(
+                "name",
+                template.getParameters().stream()
+                        .map(ParameterView::getName)
+                        .collect(Collectors.joining(",")));
+    }
+
+    @Test
+    public void parallelRenderingKeepsBlockOrder() {
+        SlowSkill skill = new SlowSkill();
+        Kernel kernel = SKBuilders.kernel().build();
+        kernel.importSkill(skill, "slow");
+        SKContext context = SKBuilders.context().withSkills(kernel.getSkills()).build();
+
+        // Later blocks complete first
+        String template = "{{slow.first}}-{{slow.second}}-{{slow.third}}";
+
+        PromptTemplateEngine parallel =
+                SKBuilders.promptTemplateEngine().withRenderConcurrency(3).build();
+        Assertions.assertEquals("a-b-c", parallel.renderAsync(template, context).block());
+        Assertions.assertEquals(3, skill.maxActive.get());
+
+        skill.maxActive.set(0);
+        PromptTemplateEngine sequential = new DefaultPromptTemplateEngine();
+        Assertions.assertEquals("a-b-c", sequential.renderAsync(template, context).block());
+        Assertions.assertEquals(1, skill.maxActive.get());
+    }
+
+    @Test
+    public void emptyBlocksRenderAsNothingInParallel() {
+        List<Block> blocks =
+                Arrays.asList(
+                        new TextBlock("a"),
+                        new StaticCodeBlock(Mono.empty()),
+                        new TextBlock("b"),
+                        new StaticCodeBlock(Mono.just("c")));
+
+        Assertions.assertEquals(
+                "abc", new DefaultPromptTemplateEngine(1).renderAsync(blocks, context("")).block());
+        Assertions.assertEquals(
+                "abc", new DefaultPromptTemplateEngine(4).renderAsync(blocks, context("")).block());
+    }
+
+    @Test
+    public void idempotentCallsAreSharedWithinOneRender() {
+        CountingSkill skill = new CountingSkill();
+        Kernel kernel = SKBuilders.kernel().build();
+        kernel.importSkill(skill, "count");
+        SKContext context = SKBuilders.context().withSkills(kernel.getSkills()).build();
+
+        PromptTemplateEngine engine = new DefaultPromptTemplateEngine();
+        String template = "{{count.pure}} {{count.pure}} {{count.impure}} {{count.impure}}";
+
+        Assertions.assertEquals("1 1 1 2", engine.renderAsync(template, context).block());
+        Assertions.assertEquals("2 2 3 4", engine.renderAsync(template, context).block());
+    }
+
+    @Test
+    public void tokenizerBlocksReferenceTemplateText() {
+        DefaultPromptTemplateEngine engine = new DefaultPromptTemplateEngine();
+
+        List<Block> blocks = engine.extractBlocks("Say {{ }} then {{ $x }} and {{f 'it\\'s'}}!");
+
+        Assertions.assertEquals(
+                "Say |{{ }}| then |$x| and |f 'it\\'s'|!",
+                blocks.stream().map(Block::getContent).collect(Collectors.joining("|")));
+        Assertions.assertEquals(
+                "Say {{ }} then value and ",
+                engine.renderAsync(
+                                engine.extractBlocks("Say {{ }} then {{ $name }} and "),
+                                context("value"))
+                        .block());
+    }
+
+    public static class CountingSkill {
+        private final AtomicInteger pureCalls = new AtomicInteger();
+        private final AtomicInteger impureCalls = new AtomicInteger();
+
+        @DefineSKFunction(name = "pure", idempotent = true)
+        public String pure() {
+            return String.valueOf(pureCalls.incrementAndGet());
+        }
+
+        @DefineSKFunction(name = "impure")
+        public String impure() {
+            return String.valueOf(impureCalls.incrementAndGet());
+        }
+    }
+
+    public static class SlowSkill {
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger maxActive = new AtomicInteger();
+
+        @DefineSKFunction(name = "first")
+        public Mono<String> first() {
+            return slow("a", 90);
+        }
+
+        @DefineSKFunction(name = "second")
+        public Mono<String> second() {
+            return slow("b", 60);
+        }
+
+        @DefineSKFunction(name = "third")
+        public Mono<String> third() {
+            return slow("c", 30);
+        }
+
+        private Mono<String> slow(String result, long millis) {
+            return Mono.delay(Duration.ofMillis(millis))
+                    .doOnSubscribe(
+                            ignore ->
+                                    maxActive.accumulateAndGet(active.incrementAndGet(), Math::max))
+                    .doOnTerminate(active::decrementAndGet)
+                    .thenReturn(result);
+        }
+    }
+
+    private static class StaticCodeBlock extends Block implements CodeRendering {
+        private final Mono<String> value;
+
+        private StaticCodeBlock(Mono<String> value) {
+            super("static", BlockTypes.Code);
+            this.value = value;
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public Mono<String> renderCodeAsync(SKContext context) {
+            return value;
+        }
+    }
+
+    private static SKContext context(String name) {
+        return SKBuilders.context()
+                .withVariables(
+                        SKBuilders.variables().build().writableClone().setVariable("name", name))
+                .build();
+    }
+}